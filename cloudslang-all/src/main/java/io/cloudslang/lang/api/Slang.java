@@ -18,6 +18,10 @@ import io.cloudslang.lang.entities.SensitivityLevel;
 import io.cloudslang.lang.entities.SystemProperty;
 import io.cloudslang.lang.entities.bindings.values.Value;
 import io.cloudslang.score.events.ScoreEventListener;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -102,6 +106,24 @@ public interface Slang {
      */
     void invalidateAllInPreCompileCache();
 
+    /**
+     * Write compiled flows or operations to a compilation artifact bundle (<code>.slc</code>),
+     * so they can later be loaded without compiling their sources again
+     *
+     * @param compilationArtifacts the compiled artifacts of the flows or operations
+     * @param outputStream         the stream to write the bundle to
+     */
+    void writeCompilationArtifacts(Collection<CompilationArtifact> compilationArtifacts, OutputStream outputStream);
+
+    /**
+     * Load compiled flows or operations from a compilation artifact bundle written by
+     * {@link #writeCompilationArtifacts(Collection, OutputStream)} with the same CloudSlang version
+     *
+     * @param inputStream the stream of the bundle
+     * @return the compiled artifacts of the flows or operations, in the order they were written
+     */
+    List<CompilationArtifact> loadCompilationArtifacts(InputStream inputStream);
+
     /**
      * Run a flow or operation written in CloudSlang already compiled to a compilationArtifact
      *
@@ -16,6 +16,7 @@ import io.cloudslang.lang.compiler.SlangSource;
 import io.cloudslang.lang.compiler.modeller.model.Metadata;
 import io.cloudslang.lang.compiler.modeller.result.CompilationModellingResult;
 import io.cloudslang.lang.entities.CompilationArtifact;
+import io.cloudslang.lang.entities.CompilationArtifactBundle;
 import io.cloudslang.lang.entities.ScoreLangConstants;
 import io.cloudslang.lang.entities.SensitivityLevel;
 import io.cloudslang.lang.entities.SystemProperty;
@@ -26,9 +27,14 @@ import io.cloudslang.score.api.TriggeringProperties;
 import io.cloudslang.score.events.EventBus;
 import io.cloudslang.score.events.EventConstants;
 import io.cloudslang.score.events.ScoreEventListener;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang.Validate;
@@ -103,6 +109,30 @@ public class SlangImpl implements Slang {
         compiler.invalidateAllInPreCompileCache();
     }
 
+    @Override
+    public void writeCompilationArtifacts(Collection<CompilationArtifact> compilationArtifacts,
+                                          OutputStream outputStream) {
+        Validate.notNull(compilationArtifacts, "Compilation artifacts can not be null");
+        Validate.notNull(outputStream, "Output stream can not be null");
+        try {
+            CompilationArtifactBundle.write(compilationArtifacts, outputStream);
+        } catch (IOException e) {
+            logger.error("Failed writing compilation artifact bundle, Exception is : " + e.getMessage());
+            throw new RuntimeException("Failed writing compilation artifact bundle: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<CompilationArtifact> loadCompilationArtifacts(InputStream inputStream) {
+        Validate.notNull(inputStream, "Input stream can not be null");
+        try {
+            return CompilationArtifactBundle.read(inputStream);
+        } catch (IOException e) {
+            logger.error("Failed loading compilation artifact bundle, Exception is : " + e.getMessage());
+            throw new RuntimeException("Failed loading compilation artifact bundle: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public CompilationModellingResult compileSource(SlangSource source, Set<SlangSource> dependencies) {
         return compileSource(source, dependencies, PrecompileStrategy.WITHOUT_CACHE);
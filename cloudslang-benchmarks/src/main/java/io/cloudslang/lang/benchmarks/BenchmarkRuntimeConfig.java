@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import configuration.SlangEntitiesSpringConfig;
+import io.cloudslang.dependency.api.services.DependencyService;
+import io.cloudslang.dependency.api.services.MavenConfig;
+import io.cloudslang.dependency.impl.services.DependencyServiceImpl;
+import io.cloudslang.dependency.impl.services.MavenConfigImpl;
+import io.cloudslang.lang.runtime.bindings.InputsBinding;
+import io.cloudslang.lang.runtime.bindings.OutputsBinding;
+import io.cloudslang.lang.runtime.bindings.ParallelLoopBinding;
+import io.cloudslang.lang.runtime.bindings.scripts.ScriptEvaluator;
+import io.cloudslang.lang.runtime.services.ScriptsService;
+import io.cloudslang.lang.runtime.steps.ParallelLoopExecutionData;
+import io.cloudslang.runtime.api.python.PythonRuntimeService;
+import io.cloudslang.runtime.impl.python.PythonExecutionCachedEngine;
+import io.cloudslang.runtime.impl.python.PythonExecutionEngine;
+import io.cloudslang.runtime.impl.python.PythonRuntimeServiceImpl;
+import io.cloudslang.score.events.EventBus;
+import io.cloudslang.score.events.EventBusImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The runtime beans used by the benchmarks, wired like the runtime tests wire them. The external Python runtime
+ * is replaced by {@link StandInPythonRuntimeService}.
+ */
+@Configuration
+@Import(SlangEntitiesSpringConfig.class)
+public class BenchmarkRuntimeConfig {
+
+    @Bean
+    public ScriptEvaluator scriptEvaluator() {
+        return new ScriptEvaluator();
+    }
+
+    @Bean
+    public ScriptsService scriptsService() {
+        return new ScriptsService();
+    }
+
+    @Bean
+    public InputsBinding inputsBinding() {
+        return new InputsBinding();
+    }
+
+    @Bean
+    public OutputsBinding outputsBinding() {
+        return new OutputsBinding();
+    }
+
+    @Bean
+    public ParallelLoopBinding parallelLoopBinding() {
+        return new ParallelLoopBinding();
+    }
+
+    @Bean
+    public ParallelLoopExecutionData parallelLoopExecutionData() {
+        return new ParallelLoopExecutionData();
+    }
+
+    @Bean
+    public DependencyService mavenRepositoryService() {
+        return new DependencyServiceImpl();
+    }
+
+    @Bean
+    public MavenConfig mavenConfig() {
+        return new MavenConfigImpl();
+    }
+
+    @Bean(name = "jythonRuntimeService")
+    public PythonRuntimeService pythonRuntimeService() {
+        return new PythonRuntimeServiceImpl();
+    }
+
+    @Bean(name = "jythonExecutionEngine")
+    public PythonExecutionEngine pythonExecutionEngine() {
+        return new PythonExecutionCachedEngine();
+    }
+
+    @Bean(name = "externalPythonRuntimeService")
+    public PythonRuntimeService externalPythonRuntimeService() {
+        return new StandInPythonRuntimeService();
+    }
+
+    @Bean
+    public EventBus eventBus() {
+        return new EventBusImpl();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import io.cloudslang.lang.compiler.SlangCompiler;
+import io.cloudslang.lang.compiler.SlangSource;
+import io.cloudslang.lang.compiler.configuration.SlangCompilerSpringConfig;
+import io.cloudslang.lang.compiler.modeller.result.CompilationModellingResult;
+import io.cloudslang.lang.compiler.parser.YamlParser;
+import io.cloudslang.lang.compiler.parser.model.ParsedSlang;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses and compiles a synthetic content pack: a flow with a step for every operation of the pack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompilerBenchmark {
+
+    private static final String NAMESPACE = "benchmarks.pack";
+    private static final String NEW_LINE = System.lineSeparator();
+
+    @Param({"10", "100"})
+    public int operationsCount;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private YamlParser yamlParser;
+    private SlangCompiler slangCompiler;
+    private SlangSource flowSource;
+    private Set<SlangSource> operationSources;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext(SlangCompilerSpringConfig.class);
+        yamlParser = applicationContext.getBean(YamlParser.class);
+        slangCompiler = applicationContext.getBean(SlangCompiler.class);
+        operationSources = new HashSet<>();
+        for (int i = 0; i < operationsCount; i++) {
+            operationSources.add(new SlangSource(createOperation(i), "operation_" + i + ".sl"));
+        }
+        flowSource = new SlangSource(createFlow(operationsCount), "pack_flow.sl");
+
+        List<RuntimeException> errors = compileFlow().getErrors();
+        if (!errors.isEmpty()) {
+            throw new IllegalStateException("The generated content pack does not compile", errors.get(0));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public ParsedSlang parseFlow() {
+        return yamlParser.parse(flowSource);
+    }
+
+    @Benchmark
+    public CompilationModellingResult compileFlow() {
+        return slangCompiler.compileSource(flowSource, operationSources);
+    }
+
+    private static String createOperation(int index) {
+        return "namespace: " + NAMESPACE + NEW_LINE +
+                NEW_LINE +
+                "operation:" + NEW_LINE +
+                "  name: operation_" + index + NEW_LINE +
+                "  inputs:" + NEW_LINE +
+                "    - host" + NEW_LINE +
+                "    - port:" + NEW_LINE +
+                "        default: '22'" + NEW_LINE +
+                "        required: false" + NEW_LINE +
+                "  python_action:" + NEW_LINE +
+                "    script: |" + NEW_LINE +
+                "      address = host + ':' + port" + NEW_LINE +
+                "  outputs:" + NEW_LINE +
+                "    - address" + NEW_LINE +
+                "  results:" + NEW_LINE +
+                "    - SUCCESS: ${ address != '' }" + NEW_LINE +
+                "    - FAILURE" + NEW_LINE;
+    }
+
+    private static String createFlow(int operationsCount) {
+        StringBuilder flow = new StringBuilder()
+                .append("namespace: ").append(NAMESPACE).append(NEW_LINE)
+                .append(NEW_LINE)
+                .append("flow:").append(NEW_LINE)
+                .append("  name: pack_flow").append(NEW_LINE)
+                .append("  inputs:").append(NEW_LINE)
+                .append("    - host").append(NEW_LINE)
+                .append("  workflow:").append(NEW_LINE);
+        for (int i = 0; i < operationsCount; i++) {
+            String nextStep = i + 1 < operationsCount ? "step_" + (i + 1) : "SUCCESS";
+            flow.append("    - step_").append(i).append(':').append(NEW_LINE)
+                    .append("        do:").append(NEW_LINE)
+                    .append("          operation_").append(i).append(':').append(NEW_LINE)
+                    .append("            - host").append(NEW_LINE)
+                    .append("        publish:").append(NEW_LINE)
+                    .append("          - address_").append(i).append(": ${ address }").append(NEW_LINE)
+                    .append("        navigate:").append(NEW_LINE)
+                    .append("          - SUCCESS: ").append(nextStep).append(NEW_LINE)
+                    .append("          - FAILURE: FAILURE").append(NEW_LINE);
+        }
+        return flow.append("  results:").append(NEW_LINE)
+                .append("    - SUCCESS").append(NEW_LINE)
+                .append("    - FAILURE").append(NEW_LINE)
+                .toString();
+    }
+
+}
@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Evaluates the expressions of {@link ScriptEvaluatorBenchmark} through the external Python code path. The
+ * external Python runtime is {@link StandInPythonRuntimeService}, so only the preparation of the context and the
+ * handling of the result are measured, not the Python interpreter.
+ */
+@Fork(value = 1, jvmArgsAppend = "-Duse.jython.expressions=false")
+public class ExternalPythonScriptEvaluatorBenchmark extends ScriptEvaluatorBenchmark {
+
+}
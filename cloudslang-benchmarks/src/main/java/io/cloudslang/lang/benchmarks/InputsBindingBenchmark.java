@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import io.cloudslang.lang.entities.bindings.Input;
+import io.cloudslang.lang.entities.bindings.values.Value;
+import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import io.cloudslang.lang.runtime.bindings.InputsBinding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the inputs of an executable, each input referring to a variable of a context of a growing size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputsBindingBenchmark {
+
+    private static final int INPUTS_COUNT = 10;
+
+    @Param({"10", "100", "1000"})
+    public int contextSize;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private InputsBinding inputsBinding;
+    private List<Input> inputs;
+    private Map<String, Value> context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext(BenchmarkRuntimeConfig.class);
+        inputsBinding = applicationContext.getBean(InputsBinding.class);
+        inputs = new ArrayList<>();
+        for (int i = 0; i < INPUTS_COUNT; i++) {
+            inputs.add(new Input.InputBuilder("out_" + i, "${ in_" + i + " }")
+                    .withFunctionDependencies(Collections.emptySet())
+                    .withSystemPropertyDependencies(Collections.emptySet())
+                    .build());
+        }
+        context = new HashMap<>();
+        for (int i = 0; i < Math.max(contextSize, INPUTS_COUNT); i++) {
+            context.put("in_" + i, ValueFactory.create("value_" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Map<String, Value> bindInputs() {
+        return inputsBinding.bindInputs(inputs, context, new HashMap<>(), Collections.emptySet(),
+                new ArrayList<>(), false, new HashMap<>());
+    }
+
+}
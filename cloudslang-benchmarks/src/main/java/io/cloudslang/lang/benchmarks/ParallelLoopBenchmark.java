@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import io.cloudslang.lang.entities.ListLoopStatement;
+import io.cloudslang.lang.entities.LoopStatement;
+import io.cloudslang.lang.entities.bindings.values.Value;
+import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import io.cloudslang.lang.runtime.env.Context;
+import io.cloudslang.lang.runtime.env.RunEnvironment;
+import io.cloudslang.lang.runtime.steps.ParallelLoopExecutionData;
+import io.cloudslang.score.lang.ExecutionRuntimeServices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits a parallel loop into its branches, which clones the context and the run environment of every branch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelLoopBenchmark {
+
+    private static final String NODE_NAME = "parallel_step";
+    private static final String REF_ID = "branch_flow";
+
+    @Param({"10", "100"})
+    public int branchesCount;
+
+    @Param({"10", "100"})
+    public int contextSize;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private ParallelLoopExecutionData parallelLoopExecutionData;
+    private LoopStatement parallelLoopStatement;
+    private Map<String, Value> variables;
+    private RunEnvironment runEnv;
+    private ExecutionRuntimeServices executionRuntimeServices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext(BenchmarkRuntimeConfig.class);
+        parallelLoopExecutionData = applicationContext.getBean(ParallelLoopExecutionData.class);
+        parallelLoopStatement = new ListLoopStatement("item", "items", Collections.emptySet(),
+                Collections.emptySet(), true);
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < branchesCount; i++) {
+            items.add("item_" + i);
+        }
+        variables = new HashMap<>();
+        variables.put("items", ValueFactory.create(String.join(",", items)));
+        for (int i = 0; i < contextSize; i++) {
+            variables.put("var_" + i, ValueFactory.create("value_" + i));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        runEnv = new RunEnvironment();
+        runEnv.getStack().pushContext(new Context(new HashMap<>(variables), new HashMap<>()));
+        executionRuntimeServices = new ExecutionRuntimeServices();
+        executionRuntimeServices.setSubFlowsData(Collections.singletonMap(REF_ID, 4L),
+                Collections.singletonMap(REF_ID, 5L));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public ExecutionRuntimeServices addBranches() {
+        parallelLoopExecutionData.addBranches(parallelLoopStatement, runEnv, executionRuntimeServices, NODE_NAME,
+                1L, 2L, 3L, REF_ID);
+        return executionRuntimeServices;
+    }
+
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import io.cloudslang.lang.entities.bindings.values.Value;
+import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import io.cloudslang.lang.runtime.env.Context;
+import io.cloudslang.lang.runtime.env.RunEnvironment;
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes the run environment, as it is done for every branch of a parallel loop and for every step which
+ * is persisted by score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunEnvironmentSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int contextSize;
+
+    private RunEnvironment runEnv;
+    private byte[] serializedRunEnv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Value> variables = new HashMap<>();
+        for (int i = 0; i < contextSize; i++) {
+            variables.put("var_" + i, ValueFactory.create("value_" + i));
+        }
+        runEnv = new RunEnvironment();
+        runEnv.getStack().pushContext(new Context(variables, new HashMap<>()));
+        serializedRunEnv = SerializationUtils.serialize(runEnv);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return SerializationUtils.serialize(runEnv);
+    }
+
+    @Benchmark
+    public RunEnvironment deserialize() {
+        return SerializationUtils.deserialize(serializedRunEnv);
+    }
+
+    @Benchmark
+    public RunEnvironment cloneRunEnvironment() {
+        return SerializationUtils.clone(runEnv);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import io.cloudslang.lang.entities.SystemProperty;
+import io.cloudslang.lang.entities.bindings.ScriptFunction;
+import io.cloudslang.lang.entities.bindings.values.Value;
+import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import io.cloudslang.lang.runtime.bindings.scripts.ScriptEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates expressions with the Jython engine, the default of the expressions.
+ *
+ * @see ExternalPythonScriptEvaluatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Duse.jython.expressions=true")
+public class ScriptEvaluatorBenchmark {
+
+    @Param({"10", "100"})
+    public int contextSize;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private ScriptEvaluator scriptEvaluator;
+    private Map<String, Value> context;
+    private final Set<SystemProperty> systemProperties = Collections.emptySet();
+    private final Set<ScriptFunction> functionDependencies = Collections.emptySet();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext(BenchmarkRuntimeConfig.class);
+        scriptEvaluator = applicationContext.getBean(ScriptEvaluator.class);
+        context = new HashMap<>();
+        for (int i = 0; i < contextSize; i++) {
+            context.put("var_" + i, ValueFactory.create("value_" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Value variableReference() {
+        return scriptEvaluator.evalExpr("var_0", context, systemProperties, functionDependencies);
+    }
+
+    @Benchmark
+    public Value stringConcatenation() {
+        return scriptEvaluator.evalExpr("var_0 + '_' + var_1", context, systemProperties, functionDependencies);
+    }
+
+}
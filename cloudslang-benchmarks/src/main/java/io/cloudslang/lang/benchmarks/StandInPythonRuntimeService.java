@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import io.cloudslang.runtime.api.python.PythonEvaluationResult;
+import io.cloudslang.runtime.api.python.PythonExecutionResult;
+import io.cloudslang.runtime.api.python.PythonRuntimeService;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stands in for the external Python runtime, so the benchmarks measure the work done on the Java side of an
+ * external Python evaluation without starting a Python interpreter. An expression which is a variable name
+ * evaluates to the value of the variable, any other expression evaluates to itself, and is tested the same way.
+ * A script does not change the variables it runs with, which are returned as its result.
+ */
+public class StandInPythonRuntimeService implements PythonRuntimeService {
+
+    private static final String ACCESSED_RESOURCES_SET = "accessed_resources_set";
+
+    @Override
+    public PythonExecutionResult exec(Set<String> dependencies, String script, Map<String, Serializable> vars) {
+        return new PythonExecutionResult(new HashMap<>(vars));
+    }
+
+    @Override
+    public PythonEvaluationResult eval(String prepareEnvironmentScript, String script,
+                                       Map<String, Serializable> vars) {
+        Map<String, Serializable> resultContext = new HashMap<>();
+        HashSet<String> accessedResources = new HashSet<>();
+        if (vars.containsKey(script)) {
+            accessedResources.add(script);
+        }
+        resultContext.put(ACCESSED_RESOURCES_SET, accessedResources);
+        return new PythonEvaluationResult(vars.getOrDefault(script, script), resultContext);
+    }
+
+    @Override
+    public PythonEvaluationResult test(String prepareEnvironmentScript, String script,
+                                       Map<String, Serializable> vars, long timeout) {
+        return eval(prepareEnvironmentScript, script, vars);
+    }
+
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import configuration.SlangEntitiesSpringConfig;
+import io.cloudslang.lang.entities.bindings.values.SensitiveValue;
+import io.cloudslang.lang.entities.bindings.values.Value;
+import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates values and encrypts and decrypts sensitive values, with the encryptor of the entities configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueBenchmark {
+
+    @Param({"16", "1024"})
+    public int contentLength;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private String content;
+    private SensitiveValue sensitiveValue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext(SlangEntitiesSpringConfig.class);
+        StringBuilder contentBuilder = new StringBuilder(contentLength);
+        for (int i = 0; i < contentLength; i++) {
+            contentBuilder.append((char) ('a' + i % 26));
+        }
+        content = contentBuilder.toString();
+        sensitiveValue = (SensitiveValue) ValueFactory.create(content, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Value createValue() {
+        return ValueFactory.create(content);
+    }
+
+    @Benchmark
+    public Value createSensitiveValue() {
+        return ValueFactory.create(content, true);
+    }
+
+    @Benchmark
+    public SensitiveValue decryptAndEncrypt() {
+        sensitiveValue.decrypt();
+        sensitiveValue.encrypt();
+        return sensitiveValue;
+    }
+
+}
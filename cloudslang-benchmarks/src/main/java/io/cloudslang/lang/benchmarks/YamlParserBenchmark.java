@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.benchmarks;
+
+import io.cloudslang.lang.compiler.SlangSource;
+import io.cloudslang.lang.compiler.configuration.SlangCompilerSpringConfig;
+import io.cloudslang.lang.compiler.parser.YamlParser;
+import io.cloudslang.lang.compiler.parser.model.ParsedSlang;
+import io.cloudslang.lang.compiler.parser.utils.ParserExceptionHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.yaml.snakeyaml.Yaml;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a source from several threads, building a new {@link Yaml} for every parse compared to the
+ * {@link YamlParser} of the compiler configuration, which reuses one {@link Yaml} per parsing thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class YamlParserBenchmark {
+
+    private static final String NEW_LINE = System.lineSeparator();
+    private static final String FLOW = "namespace: benchmarks.parser" + NEW_LINE +
+            NEW_LINE +
+            "flow:" + NEW_LINE +
+            "  name: parsed_flow" + NEW_LINE +
+            "  inputs:" + NEW_LINE +
+            "    - host" + NEW_LINE +
+            "    - port: '22'" + NEW_LINE +
+            "  workflow:" + NEW_LINE +
+            "    - check_host:" + NEW_LINE +
+            "        do:" + NEW_LINE +
+            "          check_host_op:" + NEW_LINE +
+            "            - host" + NEW_LINE +
+            "            - port" + NEW_LINE +
+            "        publish:" + NEW_LINE +
+            "          - address: ${ host + ':' + port }" + NEW_LINE +
+            "        navigate:" + NEW_LINE +
+            "          - SUCCESS: SUCCESS" + NEW_LINE +
+            "          - FAILURE: FAILURE" + NEW_LINE +
+            "  outputs:" + NEW_LINE +
+            "    - address" + NEW_LINE +
+            "  results:" + NEW_LINE +
+            "    - SUCCESS" + NEW_LINE +
+            "    - FAILURE" + NEW_LINE;
+
+    private YamlParser newYamlParser;
+    private YamlParser threadYamlParser;
+    private SlangSource source;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SlangCompilerSpringConfig config = new SlangCompilerSpringConfig();
+        newYamlParser = new YamlParser() {
+            @Override
+            protected Yaml getYaml() {
+                return config.yaml();
+            }
+        };
+        newYamlParser.setParserExceptionHandler(new ParserExceptionHandler());
+        threadYamlParser = config.yamlParser();
+        source = new SlangSource(FLOW, "parsed_flow.sl");
+    }
+
+    @Benchmark
+    public ParsedSlang parseWithNewYaml() {
+        return newYamlParser.parse(source);
+    }
+
+    @Benchmark
+    public ParsedSlang parseWithThreadYaml() {
+        return threadYamlParser.parse(source);
+    }
+
+}
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 import static io.cloudslang.lang.entities.ScoreLangConstants.EVENT_EXECUTION_FINISHED;
 import static io.cloudslang.lang.entities.ScoreLangConstants.EVENT_OUTPUT_END;
@@ -94,13 +95,16 @@ public class ScoreServicesImpl implements ScoreServices {
 
         final Long executionId = trigger(compilationArtifact, inputs, systemProperties);
 
-        while (!scoreEventListener.isFlowFinished()) {
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException ignore) {
-            }
+        try {
+            scoreEventListener.getFlowCompletion().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for execution " + executionId + " to finish", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } finally {
+            slang.unSubscribeOnEvents(scoreEventListener);
         }
-        slang.unSubscribeOnEvents(scoreEventListener);
 
         String errorMessageFlowExecution = scoreEventListener.getErrorMessage();
         if (StringUtils.isNotEmpty(errorMessageFlowExecution)) {
@@ -23,7 +23,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.fusesource.jansi.Ansi.Color.CYAN;
@@ -47,7 +47,7 @@ public class SyncTriggerEventListener implements ScoreEventListener {
     private static final String OPERATION_OUTPUTS = "Operation outputs:";
     private static final String FINISHED_WITH_RESULT = " finished with result: ";
 
-    private AtomicBoolean flowFinished = new AtomicBoolean(false);
+    private final CompletableFuture<Void> flowCompletion = new CompletableFuture<>();
     private AtomicReference<String> errorMessage = new AtomicReference<>("");
     private boolean isDebugMode = false;
 
@@ -59,7 +59,14 @@ public class SyncTriggerEventListener implements ScoreEventListener {
     }
 
     public boolean isFlowFinished() {
-        return flowFinished.get();
+        return flowCompletion.isDone();
+    }
+
+    /**
+     * @return a future completed once the flow finished, after the finish event was handled
+     */
+    public CompletableFuture<Void> getFlowCompletion() {
+        return flowCompletion;
     }
 
     public String getErrorMessage() {
@@ -72,7 +79,7 @@ public class SyncTriggerEventListener implements ScoreEventListener {
         Map<String, Serializable> data = (Map<String, Serializable>) scoreEvent.getData();
         switch (scoreEvent.getEventType()) {
             case EventConstants.SCORE_FINISHED_EVENT:
-                flowFinished.set(true);
+                flowCompletion.complete(null);
                 break;
             case EventConstants.SCORE_ERROR_EVENT:
                 errorMessage.set(SCORE_ERROR_EVENT_MSG + data.get(EventConstants.SCORE_ERROR_LOG_MSG) + " , " +
@@ -80,7 +87,7 @@ public class SyncTriggerEventListener implements ScoreEventListener {
                 break;
             case EventConstants.SCORE_FAILURE_EVENT:
                 consolePrinter.printWithColor(RED, FLOW_FINISHED_WITH_FAILURE_MSG);
-                flowFinished.set(true);
+                flowCompletion.complete(null);
                 break;
             case EventConstants.MAVEN_DEPENDENCY_BUILD:
                 printDownloadArtifactMessage((String) data.get(EventConstants.MAVEN_DEPENDENCY_BUILD));
@@ -131,8 +138,8 @@ public class SyncTriggerEventListener implements ScoreEventListener {
                 }
                 break;
             case ScoreLangConstants.EVENT_EXECUTION_FINISHED:
-                flowFinished.set(true);
                 printFinishEvent(data);
+                flowCompletion.complete(null);
                 break;
             default:
                 break;
@@ -11,6 +11,7 @@ package io.cloudslang.lang.compiler;
 
 import io.cloudslang.lang.compiler.modeller.model.Metadata;
 import io.cloudslang.lang.compiler.modeller.result.MetadataModellingResult;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionData;
 import java.util.List;
 
 public interface MetadataExtractor {
@@ -23,6 +24,26 @@ public interface MetadataExtractor {
 
     MetadataModellingResult extractMetadataModellingResult(SlangSource source, boolean shouldValidateCheckstyle);
 
+    /**
+     * Model already parsed description data, optionally validating the source checkstyle against it.
+     *
+     * @param source                   the CloudSlang source the description data was parsed from
+     * @param parsedDescriptionData    the result of {@link #parseDescriptionData(SlangSource)} for the source
+     * @param shouldValidateCheckstyle whether to add the checkstyle errors to the result
+     * @return the metadata modelling result
+     */
+    MetadataModellingResult extractMetadataModellingResult(SlangSource source,
+                                                           ParsedDescriptionData parsedDescriptionData,
+                                                           boolean shouldValidateCheckstyle);
+
     List<RuntimeException> validateCheckstyle(SlangSource source);
 
+    /**
+     * Parse the description sections of a source, without modelling them.
+     *
+     * @param source the CloudSlang source
+     * @return the raw description data, which can be modelled (and cached) without re-reading the source
+     */
+    ParsedDescriptionData parseDescriptionData(SlangSource source);
+
 }
@@ -55,12 +55,31 @@ public class MetadataExtractorImpl implements MetadataExtractor {
         return metadataModellingResult;
     }
 
+    @Override
+    public MetadataModellingResult extractMetadataModellingResult(SlangSource source,
+                                                                  ParsedDescriptionData parsedDescriptionData,
+                                                                  boolean shouldValidateCheckstyle) {
+        validateSlangSource(source);
+        MetadataModellingResult metadataModellingResult = metadataModeller.createModel(parsedDescriptionData);
+        if (shouldValidateCheckstyle) {
+            metadataModellingResult.getErrors()
+                    .addAll(metadataValidator.validateCheckstyle(source, parsedDescriptionData));
+        }
+        return metadataModellingResult;
+    }
+
     @Override
     public List<RuntimeException> validateCheckstyle(SlangSource source) {
         validateSlangSource(source);
         return metadataValidator.validateCheckstyle(source);
     }
 
+    @Override
+    public ParsedDescriptionData parseDescriptionData(SlangSource source) {
+        validateSlangSource(source);
+        return metadataParser.parse(source);
+    }
+
     private Metadata getMetadata(SlangSource source, boolean shouldValidateDescription) {
         MetadataModellingResult result = extractMetadataModellingResult(source);
         if (result.getErrors().size() > 0) {
@@ -12,6 +12,7 @@ package io.cloudslang.lang.compiler;
 import io.cloudslang.lang.compiler.modeller.model.Executable;
 import io.cloudslang.lang.compiler.modeller.result.CompilationModellingResult;
 import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
+import io.cloudslang.lang.compiler.modeller.result.SourceAnalysisResult;
 import io.cloudslang.lang.compiler.modeller.result.SystemPropertyModellingResult;
 import io.cloudslang.lang.entities.CompilationArtifact;
 import io.cloudslang.lang.entities.SensitivityLevel;
@@ -129,6 +130,22 @@ public interface SlangCompiler {
                                                PrecompileStrategy precompileStrategy,
                                                SensitivityLevel sensitivityLevel);
 
+    /**
+     * Pre-compile a CloudSlang source and extract its metadata from a single read of the source.
+     * With {@link PrecompileStrategy#WITH_CACHE} the parsed description data is cached together with the
+     * pre-compile result, so neither is parsed again while the source is unchanged.
+     * All errors that are found are collected in the returned results (an exception is not thrown)
+     *
+     * @param source                   the {@link SlangSource}
+     * @param precompileStrategy       whether to use caching in pre-compile.
+     * @param shouldValidateCheckstyle whether to add the description checkstyle errors to the metadata result
+     * @return a {@link SourceAnalysisResult} holding both the {@link ExecutableModellingResult} and the
+     *     {@link io.cloudslang.lang.compiler.modeller.result.MetadataModellingResult} of the source
+     */
+    SourceAnalysisResult analyzeSource(SlangSource source,
+                                       PrecompileStrategy precompileStrategy,
+                                       boolean shouldValidateCheckstyle);
+
     /**
      * Remove all elements in pre-compile cache. No-cached calls are not affected.
      */
@@ -16,9 +16,12 @@ import io.cloudslang.lang.compiler.modeller.SlangModeller;
 import io.cloudslang.lang.compiler.modeller.model.Executable;
 import io.cloudslang.lang.compiler.modeller.result.CompilationModellingResult;
 import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
+import io.cloudslang.lang.compiler.modeller.result.MetadataModellingResult;
 import io.cloudslang.lang.compiler.modeller.result.ParseModellingResult;
+import io.cloudslang.lang.compiler.modeller.result.SourceAnalysisResult;
 import io.cloudslang.lang.compiler.modeller.result.SystemPropertyModellingResult;
 import io.cloudslang.lang.compiler.parser.YamlParser;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionData;
 import io.cloudslang.lang.compiler.parser.model.ParsedSlang;
 import io.cloudslang.lang.compiler.scorecompiler.ScoreCompiler;
 import io.cloudslang.lang.compiler.validator.CompileValidator;
@@ -206,6 +209,36 @@ public class SlangCompilerImpl implements SlangCompiler {
         return executableModellingResult;
     }
 
+    @Override
+    public SourceAnalysisResult analyzeSource(SlangSource source, PrecompileStrategy precompileStrategy,
+                                              boolean shouldValidateCheckstyle) {
+        Validate.notNull(source, "You must supply a source to compile");
+        Validate.notNull(precompileStrategy, "Pre-compile strategy can not be null");
+
+        final String filePath = source.getFilePath();
+
+        // handle caching
+        CacheResult cacheResult = precompileCachePreExecute(source, precompileStrategy, filePath);
+        boolean validCachedValue = cacheResult != null && isValidCachedValue(cacheResult);
+
+        ExecutableModellingResult executableModellingResult = validCachedValue ?
+                cacheResult.getExecutableModellingResult() :
+                preCompileModel(source, CompilerConstants.DEFAULT_SENSITIVITY_LEVEL);
+        ParsedDescriptionData parsedDescriptionData = validCachedValue ?
+                cacheResult.getParsedDescriptionData() : null;
+        if (parsedDescriptionData == null) {
+            parsedDescriptionData = metadataExtractor.parseDescriptionData(source);
+
+            // handle caching
+            precompileCachePostExecute(source, precompileStrategy, filePath,
+                    executableModellingResult, parsedDescriptionData);
+        }
+
+        MetadataModellingResult metadataModellingResult = metadataExtractor
+                .extractMetadataModellingResult(source, parsedDescriptionData, shouldValidateCheckstyle);
+        return new SourceAnalysisResult(executableModellingResult, metadataModellingResult);
+    }
+
     @Override
     public void invalidateAllInPreCompileCache() {
         cachedPrecompileService.invalidateAll();
@@ -248,6 +281,23 @@ public class SlangCompilerImpl implements SlangCompiler {
         }
     }
 
+    private void precompileCachePostExecute(
+            SlangSource source,
+            PrecompileStrategy precompileStrategy,
+            String filePath,
+            ExecutableModellingResult executableModellingResult,
+            ParsedDescriptionData parsedDescriptionData) {
+        switch (precompileStrategy) {
+            case WITH_CACHE:
+                cachedPrecompileService.cacheValue(filePath, executableModellingResult, parsedDescriptionData, source);
+                break;
+            case WITHOUT_CACHE:
+                break;
+            default:
+                throw new NotImplementedException(generatePreCompileTypeErrorMessage(precompileStrategy));
+        }
+    }
+
     private CacheResult precompileCachePreExecute(
             SlangSource source,
             PrecompileStrategy precompileStrategy,
@@ -328,6 +378,12 @@ public class SlangCompilerImpl implements SlangCompiler {
 
             List<Map<String, Object>> parsedSystemProperties =
                     convertRawProperties(parsedSlang.getProperties(), source, exceptions);
+            // descriptions are extracted once per source, not once per property
+            Map<String, String> propertyDescriptions = parsedSystemProperties.isEmpty() ? null :
+                    metadataExtractor
+                            .extractMetadataModellingResult(source)
+                            .getMetadata()
+                            .getSystemProperties();
             for (Map<String, Object> propertyAsMap : parsedSystemProperties) {
                 Map.Entry<String, Object> propertyAsEntry = propertyAsMap.entrySet().iterator().next();
                 String propertyKey = getPropertyKey(propertyAsEntry, source, exceptions);
@@ -339,11 +395,7 @@ public class SlangCompilerImpl implements SlangCompiler {
                 }
 
                 Object propertyValue = propertyAsEntry.getValue();
-                String propDesc = metadataExtractor
-                        .extractMetadataModellingResult(source)
-                        .getMetadata()
-                        .getSystemProperties()
-                        .get(propertyKey);
+                String propDesc = propertyDescriptions.get(propertyKey);
                 SystemProperty property =
                         transformSystemProperty(parsedSlang.getNamespace(), propertyKey, propertyValue, propDesc);
                 modelledSystemProperties.add(property);
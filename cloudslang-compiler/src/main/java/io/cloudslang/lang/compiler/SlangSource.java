@@ -16,11 +16,16 @@ import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class SlangSource {
 
@@ -28,6 +33,10 @@ public class SlangSource {
     private final String name;
     private final String filePath;
     private final Extension fileExtension;
+    /**
+     * content split into lines on first use, shared by all line based parsers of this source
+     */
+    private volatile List<String> lines;
 
     public SlangSource(String content, String name) {
         Validate.notNull(content, "Source cannot be null");
@@ -104,6 +113,29 @@ public class SlangSource {
         return name;
     }
 
+    public List<String> getLines() {
+        List<String> contentLines = lines;
+        if (contentLines == null) {
+            contentLines = Collections.unmodifiableList(splitLines());
+            lines = contentLines;
+        }
+        return contentLines;
+    }
+
+    private List<String> splitLines() {
+        List<String> contentLines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new StringReader(content))) {
+            String nextLine = reader.readLine();
+            while (nextLine != null) {
+                contentLines.add(nextLine);
+                nextLine = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading " + name + ":" + e.getMessage(), e);
+        }
+        return contentLines;
+    }
+
     public Extension getFileExtension() {
         return fileExtension;
     }
@@ -10,6 +10,7 @@
 package io.cloudslang.lang.compiler.caching;
 
 import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionData;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -21,10 +22,17 @@ public class CacheResult {
 
     private CacheValueState state;
     private ExecutableModellingResult executableModellingResult;
+    private ParsedDescriptionData parsedDescriptionData;
 
     public CacheResult(CacheValueState state, ExecutableModellingResult executableModellingResult) {
+        this(state, executableModellingResult, null);
+    }
+
+    public CacheResult(CacheValueState state, ExecutableModellingResult executableModellingResult,
+                       ParsedDescriptionData parsedDescriptionData) {
         this.state = state;
         this.executableModellingResult = executableModellingResult;
+        this.parsedDescriptionData = parsedDescriptionData;
     }
 
     public CacheValueState getState() {
@@ -35,11 +43,16 @@ public class CacheResult {
         return executableModellingResult;
     }
 
+    public ParsedDescriptionData getParsedDescriptionData() {
+        return parsedDescriptionData;
+    }
+
     @Override
     public String toString() {
         return "CacheResult{" +
                 "state=" + state +
                 ", executableModellingResult=" + executableModellingResult +
+                ", parsedDescriptionData=" + parsedDescriptionData +
                 '}';
     }
 
@@ -58,6 +71,7 @@ public class CacheResult {
         return new EqualsBuilder()
                 .append(state, that.state)
                 .append(executableModellingResult, that.executableModellingResult)
+                .append(parsedDescriptionData, that.parsedDescriptionData)
                 .isEquals();
     }
 
@@ -66,6 +80,7 @@ public class CacheResult {
         return new HashCodeBuilder(17, 37)
                 .append(state)
                 .append(executableModellingResult)
+                .append(parsedDescriptionData)
                 .toHashCode();
     }
 }
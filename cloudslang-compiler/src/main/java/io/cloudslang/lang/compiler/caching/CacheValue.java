@@ -11,6 +11,7 @@ package io.cloudslang.lang.compiler.caching;
 
 import io.cloudslang.lang.compiler.SlangSource;
 import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionData;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -27,10 +28,20 @@ public class CacheValue {
      * actual value
      */
     private ExecutableModellingResult executableModellingResult;
+    /**
+     * description data parsed from the same source, null if it was not extracted
+     */
+    private ParsedDescriptionData parsedDescriptionData;
 
     public CacheValue(SlangSource source, ExecutableModellingResult executableModellingResult) {
+        this(source, executableModellingResult, null);
+    }
+
+    public CacheValue(SlangSource source, ExecutableModellingResult executableModellingResult,
+                      ParsedDescriptionData parsedDescriptionData) {
         this.source = source;
         this.executableModellingResult = executableModellingResult;
+        this.parsedDescriptionData = parsedDescriptionData;
     }
 
     public SlangSource getSource() {
@@ -41,11 +52,16 @@ public class CacheValue {
         return executableModellingResult;
     }
 
+    public ParsedDescriptionData getParsedDescriptionData() {
+        return parsedDescriptionData;
+    }
+
     @Override
     public String toString() {
         return "CacheValue{" +
                 "source=" + source +
                 ", executableModellingResult=" + executableModellingResult +
+                ", parsedDescriptionData=" + parsedDescriptionData +
                 '}';
     }
 
@@ -64,6 +80,7 @@ public class CacheValue {
         return new EqualsBuilder()
                 .append(source, that.source)
                 .append(executableModellingResult, that.executableModellingResult)
+                .append(parsedDescriptionData, that.parsedDescriptionData)
                 .isEquals();
     }
 
@@ -72,6 +89,7 @@ public class CacheValue {
         return new HashCodeBuilder(17, 37)
                 .append(source)
                 .append(executableModellingResult)
+                .append(parsedDescriptionData)
                 .toHashCode();
     }
 }
@@ -11,6 +11,7 @@ package io.cloudslang.lang.compiler.caching;
 
 import io.cloudslang.lang.compiler.SlangSource;
 import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionData;
 
 /**
  * @author Bonczidai Levente
@@ -26,6 +27,17 @@ public interface CachedPrecompileService {
      */
     void cacheValue(String path, ExecutableModellingResult modellingResult, SlangSource source);
 
+    /**
+     * Cache a value together with the description data parsed from the same source.
+     *
+     * @param path                  the key for caching: path from source
+     * @param modellingResult       actual value to cache
+     * @param parsedDescriptionData description data of the source, cached alongside the modelling result
+     * @param source                used to detect changes since last cached
+     */
+    void cacheValue(String path, ExecutableModellingResult modellingResult,
+                    ParsedDescriptionData parsedDescriptionData, SlangSource source);
+
     /**
      * Get a value from the cache.
      *
@@ -13,6 +13,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import io.cloudslang.lang.compiler.SlangSource;
 import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionData;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.codec.digest.DigestUtils;
 
@@ -39,6 +40,15 @@ public class CachedPrecompileServiceImpl implements CachedPrecompileService {
         }
     }
 
+    @Override
+    public void cacheValue(String path, ExecutableModellingResult modellingResult,
+                           ParsedDescriptionData parsedDescriptionData, SlangSource source) {
+        if (path != null) {
+            CacheValue cacheValue = new CacheValue(source, modellingResult, parsedDescriptionData);
+            cache.put(path, cacheValue);
+        }
+    }
+
     @Override
     public CacheResult getValueFromCache(String path, SlangSource currentSource) {
         if (path == null) {
@@ -47,6 +57,7 @@ public class CachedPrecompileServiceImpl implements CachedPrecompileService {
         CacheValue cachedValue = cache.getIfPresent(path);
         CacheValueState state;
         ExecutableModellingResult executableModellingResult = null;
+        ParsedDescriptionData parsedDescriptionData = null;
 
         if (cachedValue == null) {
             state = CacheValueState.MISSING;
@@ -56,9 +67,10 @@ public class CachedPrecompileServiceImpl implements CachedPrecompileService {
             } else {
                 state = CacheValueState.VALID;
                 executableModellingResult = cachedValue.getExecutableModellingResult();
+                parsedDescriptionData = cachedValue.getParsedDescriptionData();
             }
         }
-        return new CacheResult(state, executableModellingResult);
+        return new CacheResult(state, executableModellingResult, parsedDescriptionData);
     }
 
     @Override
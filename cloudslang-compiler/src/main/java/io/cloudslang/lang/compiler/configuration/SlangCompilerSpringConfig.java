@@ -11,6 +11,7 @@ package io.cloudslang.lang.compiler.configuration;
 
 
 import static io.cloudslang.lang.compiler.SlangTextualKeys.OBJECT_REPOSITORY_KEY;
+import static io.cloudslang.lang.entities.properties.SlangSystemPropertyConstant.CSLANG_COMPILE_PARALLEL_STEPS_THRESHOLD;
 
 import com.google.common.collect.Lists;
 import configuration.SlangEntitiesSpringConfig;
@@ -58,6 +59,7 @@ import io.cloudslang.lang.compiler.parser.utils.MetadataValidatorImpl;
 import io.cloudslang.lang.compiler.parser.utils.ParserExceptionHandler;
 import io.cloudslang.lang.compiler.scorecompiler.DefaultExternalExecutionStepFactory;
 import io.cloudslang.lang.compiler.scorecompiler.ExecutionPlanBuilder;
+import io.cloudslang.lang.compiler.scorecompiler.ExecutionPlanRegistry;
 import io.cloudslang.lang.compiler.scorecompiler.ExecutionStepFactory;
 import io.cloudslang.lang.compiler.scorecompiler.ExternalExecutionStepFactory;
 import io.cloudslang.lang.compiler.scorecompiler.ScoreCompiler;
@@ -111,10 +113,18 @@ public class SlangCompilerSpringConfig {
 
     @Bean
     public YamlParser yamlParser() {
+        // Yaml is not thread safe, but building one (constructor and bean property introspection) is costly,
+        // so every parsing thread keeps its own instance and reuses it across sources, until a parse fails
+        final ThreadLocal<Yaml> threadYaml = ThreadLocal.withInitial(this::yaml);
         YamlParser yamlParser = new YamlParser() {
             @Override
             public Yaml getYaml() {
-                return yaml();
+                return threadYaml.get();
+            }
+
+            @Override
+            protected void discardYaml() {
+                threadYaml.remove();
             }
         };
         yamlParser.setExecutableValidator(executableValidator());
@@ -237,10 +247,16 @@ public class SlangCompilerSpringConfig {
         scoreCompiler.setCompileValidator(compileValidator());
         scoreCompiler.setDependenciesHelper(dependenciesHelper());
         scoreCompiler.setExecutionPlanBuilder(executionPlanBuilder());
+        scoreCompiler.setExecutionPlanRegistry(executionPlanRegistry());
 
         return scoreCompiler;
     }
 
+    @Bean
+    public ExecutionPlanRegistry executionPlanRegistry() {
+        return new ExecutionPlanRegistry();
+    }
+
     @Bean
     public SlangCompiler slangCompiler() {
         SlangCompilerImpl slangCompiler = new SlangCompilerImpl();
@@ -419,6 +435,9 @@ public class SlangCompilerSpringConfig {
         executableBuilder.setResultsTransformer(resultsTransformer());
         executableBuilder.setExecutableValidator(executableValidator());
         executableBuilder.setSystemPropertiesHelper(systemPropertiesHelper());
+        executableBuilder.setParallelStepsThreshold(
+                Integer.getInteger(CSLANG_COMPILE_PARALLEL_STEPS_THRESHOLD.getValue(),
+                        ExecutableBuilder.DEFAULT_PARALLEL_STEPS_THRESHOLD));
 
         executableBuilder.initScopedTransformersAndKeys();
         return executableBuilder;
@@ -54,6 +54,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static ch.lambdaj.Lambda.filter;
 import static ch.lambdaj.Lambda.having;
@@ -86,6 +87,7 @@ import static org.apache.commons.collections4.MapUtils.isNotEmpty;
 public class ExecutableBuilder {
 
     public static final String UNIQUE_STEP_NAME_MESSAGE_SUFFIX = "Each step name in the workflow must be unique";
+    public static final int DEFAULT_PARALLEL_STEPS_THRESHOLD = 100;
 
     private List<Transformer> transformers;
 
@@ -126,6 +128,8 @@ public class ExecutableBuilder {
 
     private List<String> seqSupportedResults = asList(SUCCESS_RESULT, WARNING_RESULT, FAILURE_RESULT);
 
+    private int parallelStepsThreshold = DEFAULT_PARALLEL_STEPS_THRESHOLD;
+
     // @PostConstruct
     public void initScopedTransformersAndKeys() {
         //executable transformers
@@ -495,6 +499,7 @@ public class ExecutableBuilder {
 
         Deque<Step> steps = new LinkedList<>();
         Set<String> stepNames = new HashSet<>();
+        List<StepRawData> stepsRawData = new ArrayList<>(workFlowRawData.size());
         Deque<Step> onFailureSteps = !(onFailureSection || onFailureWorkFlow == null) ?
                 onFailureWorkFlow.getSteps() : new LinkedList<Step>();
         List<String> onFailureStepNames = getStepNames(onFailureSteps);
@@ -505,9 +510,10 @@ public class ExecutableBuilder {
         while (iterator.hasNext()) {
             Map<String, Map<String, Object>> stepRawData = iterator.next();
             String stepName = getStepName(stepRawData);
-            validateStepName(stepName, errors);
+            List<RuntimeException> stepErrors = new ArrayList<>();
+            validateStepName(stepName, stepErrors);
             if (stepNames.contains(stepName) || onFailureStepNames.contains(stepName)) {
-                errors.add(new RuntimeException("Step name: \'" + stepName +
+                stepErrors.add(new RuntimeException("Step name: \'" + stepName +
                         "\' appears more than once in the workflow. " + UNIQUE_STEP_NAME_MESSAGE_SUFFIX));
             }
             stepNames.add(stepName);
@@ -521,7 +527,7 @@ public class ExecutableBuilder {
                     boolean parallelLoopKeyFound = stepRawDataValue.containsKey(PARALLEL_LOOP_KEY);
                     if (loopKeyFound) {
                         if (parallelLoopKeyFound) {
-                            errors.add(new RuntimeException("Step: " + stepName +
+                            stepErrors.add(new RuntimeException("Step: " + stepName +
                                     " syntax is illegal.\nBelow step name, " +
                                     "there can be either \'loop\' or \'aync_loop\' key."));
                         }
@@ -539,7 +545,7 @@ public class ExecutableBuilder {
                         Map<String, Object> parallelLoopRawData =
                                 (Map<String, Object>) stepRawDataValue.remove(PARALLEL_LOOP_KEY);
 
-                        errors.addAll(
+                        stepErrors.addAll(
                                 preCompileValidator.checkKeyWords(
                                         stepName,
                                         SlangTextualKeys.PARALLEL_LOOP_KEY,
@@ -556,7 +562,7 @@ public class ExecutableBuilder {
                 }
             } catch (ClassCastException ex) {
                 stepRawDataValue = new HashMap<>();
-                errors.add(new RuntimeException(message));
+                stepErrors.add(new RuntimeException(message));
             }
 
             String defaultSuccess;
@@ -568,19 +574,31 @@ public class ExecutableBuilder {
                         ScoreLangConstants.FAILURE_RESULT : SUCCESS_RESULT;
             }
 
-            String onFailureStepName = onFailureStepFound ? onFailureStepNames.get(0) : null;
-            StepModellingResult stepModellingResult = compileStep(
-                    stepName,
-                    stepRawDataValue,
-                    defaultSuccess,
-                    imports,
-                    defaultFailure,
-                    namespace,
-                    onFailureStepName,
-                    onFailureSection,
-                    sensitivityLevel
-            );
+            stepsRawData.add(new StepRawData(stepName, stepRawDataValue, defaultSuccess, stepErrors));
+        }
 
+        // steps are transformed independently of each other, so large workflows are transformed in parallel;
+        // every step keeps its own errors and they are merged in the workflow order
+        String onFailureStepName = onFailureStepFound ? onFailureStepNames.get(0) : null;
+        Stream<StepRawData> stepsStream = parallelStepsThreshold > 0 && stepsRawData.size() >= parallelStepsThreshold ?
+                stepsRawData.parallelStream() : stepsRawData.stream();
+        List<StepModellingResult> stepModellingResults = stepsStream
+                .map(stepRawData -> compileStep(
+                        stepRawData.getName(),
+                        stepRawData.getRawData(),
+                        stepRawData.getDefaultSuccess(),
+                        imports,
+                        defaultFailure,
+                        namespace,
+                        onFailureStepName,
+                        onFailureSection,
+                        sensitivityLevel
+                ))
+                .collect(Collectors.toList());
+
+        for (int index = 0; index < stepsRawData.size(); index++) {
+            StepModellingResult stepModellingResult = stepModellingResults.get(index);
+            errors.addAll(stepsRawData.get(index).getErrors());
             errors.addAll(stepModellingResult.getErrors());
             steps.add(stepModellingResult.getStep());
         }
@@ -912,4 +930,48 @@ public class ExecutableBuilder {
     public void setParallelLoopValidKeywords(List<String> parallelLoopValidKeywords) {
         this.parallelLoopValidKeywords = parallelLoopValidKeywords;
     }
+
+    public int getParallelStepsThreshold() {
+        return parallelStepsThreshold;
+    }
+
+    /**
+     * @param parallelStepsThreshold minimal number of steps from which the steps of a workflow are transformed
+     *                               in parallel, a value lower than 1 always transforms them sequentially
+     */
+    public void setParallelStepsThreshold(int parallelStepsThreshold) {
+        this.parallelStepsThreshold = parallelStepsThreshold;
+    }
+
+    private static class StepRawData {
+
+        private final String name;
+        private final Map<String, Object> rawData;
+        private final String defaultSuccess;
+        private final List<RuntimeException> errors;
+
+        StepRawData(String name, Map<String, Object> rawData, String defaultSuccess,
+                    List<RuntimeException> errors) {
+            this.name = name;
+            this.rawData = rawData;
+            this.defaultSuccess = defaultSuccess;
+            this.errors = errors;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Map<String, Object> getRawData() {
+            return rawData;
+        }
+
+        String getDefaultSuccess() {
+            return defaultSuccess;
+        }
+
+        List<RuntimeException> getErrors() {
+            return errors;
+        }
+    }
 }
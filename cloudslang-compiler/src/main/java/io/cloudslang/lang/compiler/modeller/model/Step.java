@@ -13,6 +13,7 @@ import io.cloudslang.lang.entities.bindings.Argument;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /*
  * Created by orius123 on 06/11/14.
@@ -23,7 +24,7 @@ public class Step {
     private final Map<String, Serializable> preStepActionData;
     private final Map<String, Serializable> postStepActionData;
     private final List<Argument> arguments;
-    private final List<Map<String, Serializable>> navigationStrings;
+    private final CopyOnWriteArrayList<Map<String, Serializable>> navigationStrings;
     private final String refId;
     private final String workerGroup;
     private final String robotGroup;
@@ -45,7 +46,8 @@ public class Step {
         this.preStepActionData = preStepActionData;
         this.postStepActionData = postStepActionData;
         this.arguments = arguments;
-        this.navigationStrings = navigationStrings;
+        // the step models are shared between compilations which may run in parallel
+        this.navigationStrings = navigationStrings == null ? null : new CopyOnWriteArrayList<>(navigationStrings);
         this.refId = refId;
         this.workerGroup = workerGroup;
         this.robotGroup = robotGroup;
@@ -73,6 +75,16 @@ public class Step {
         return navigationStrings;
     }
 
+    /**
+     * Adds a navigation to the step, unless the step already has it.
+     *
+     * @param navigationString the navigation to add
+     * @return true if the navigation was added
+     */
+    public boolean addNavigationString(Map<String, Serializable> navigationString) {
+        return navigationStrings.addIfAbsent(navigationString);
+    }
+
     public String getRefId() {
         return refId;
     }
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.compiler.modeller.result;
+
+/**
+ * Result of analyzing a single CloudSlang source: its executable model and its metadata,
+ * both produced from one read of the source.
+ */
+public class SourceAnalysisResult {
+
+    private final ExecutableModellingResult executableModellingResult;
+    private final MetadataModellingResult metadataModellingResult;
+
+    public SourceAnalysisResult(ExecutableModellingResult executableModellingResult,
+                                MetadataModellingResult metadataModellingResult) {
+        this.executableModellingResult = executableModellingResult;
+        this.metadataModellingResult = metadataModellingResult;
+    }
+
+    public ExecutableModellingResult getExecutableModellingResult() {
+        return executableModellingResult;
+    }
+
+    public MetadataModellingResult getMetadataModellingResult() {
+        return metadataModellingResult;
+    }
+}
@@ -10,8 +10,8 @@
 package io.cloudslang.lang.compiler.modeller.transformers;
 
 import io.cloudslang.lang.entities.bindings.ScriptFunction;
+import io.cloudslang.lang.entities.utils.ExpressionDependencies;
 import io.cloudslang.lang.entities.utils.ExpressionUtils;
-import org.apache.commons.collections4.CollectionUtils;
 
 import java.io.Serializable;
 import java.util.HashSet;
@@ -26,22 +26,9 @@ public class AbstractInOutForTransformer {
         for (Serializable value : values) {
             String expression = ExpressionUtils.extractExpression(value);
             if (expression != null) {
-                Set<String> propertyDependencies = ExpressionUtils.extractSystemProperties(expression);
-                if (CollectionUtils.isNotEmpty(propertyDependencies)) {
-                    functionDependencies.add(ScriptFunction.GET_SYSTEM_PROPERTY);
-                    systemPropertyDependencies.addAll(propertyDependencies);
-                }
-
-                boolean getFunctionFound = ExpressionUtils.matchGetFunction(expression);
-                if (getFunctionFound) {
-                    functionDependencies.add(ScriptFunction.GET);
-                }
-
-                for (ScriptFunction function : ScriptFunction.values()) {
-                    if (ExpressionUtils.matchesFunction(function, expression)) {
-                        functionDependencies.add(function);
-                    }
-                }
+                ExpressionDependencies dependencies = ExpressionUtils.extractDependencies(expression);
+                functionDependencies.addAll(dependencies.getFunctionDependencies());
+                systemPropertyDependencies.addAll(dependencies.getSystemPropertyDependencies());
             }
         }
 
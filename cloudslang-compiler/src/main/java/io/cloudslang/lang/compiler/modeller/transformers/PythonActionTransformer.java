@@ -18,14 +18,17 @@ import io.cloudslang.lang.compiler.CompilerConstants;
 import io.cloudslang.lang.compiler.SlangTextualKeys;
 import io.cloudslang.lang.compiler.modeller.result.BasicTransformModellingResult;
 import io.cloudslang.lang.compiler.modeller.result.TransformModellingResult;
+import io.cloudslang.lang.compiler.utils.ExternalPythonScriptUtils;
 import io.cloudslang.lang.compiler.validator.ExternalPythonScriptValidator;
 import io.cloudslang.lang.entities.ScoreLangConstants;
 import io.cloudslang.lang.entities.SensitivityLevel;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -87,6 +90,9 @@ public class PythonActionTransformer extends AbstractTransformer
                     String script = (String) rawData.get(SlangTextualKeys.PYTHON_ACTION_SCRIPT_KEY);
                     List<String> inputs = getInputs(rawData);
                     externalPythonScriptValidator.validateExecutionMethodAndInputs(script, inputs);
+                    // the signature of the execute method is read once here instead of on every run
+                    rawData.put(ScoreLangConstants.PYTHON_ACTION_SCRIPT_PARAMS_KEY,
+                            new LinkedHashSet<>(Arrays.asList(ExternalPythonScriptUtils.getScriptParams(script))));
                 } else {
                     //backwards compatibility
                     rawData.put(ScoreLangConstants.PYTHON_ACTION_USE_JYTHON_KEY, true);
@@ -13,12 +13,14 @@ import io.cloudslang.lang.compiler.SlangTextualKeys;
 import io.cloudslang.lang.compiler.modeller.model.SeqStep;
 import io.cloudslang.lang.compiler.modeller.result.BasicTransformModellingResult;
 import io.cloudslang.lang.compiler.modeller.result.TransformModellingResult;
+import io.cloudslang.lang.compiler.utils.SeqParameterUtils;
 import io.cloudslang.lang.compiler.validator.PreCompileValidator;
 import io.cloudslang.lang.entities.ScoreLangConstants;
 import io.cloudslang.lang.entities.SensitivityLevel;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -96,6 +98,9 @@ public class SeqActionTransformer extends AbstractTransformer
         ArrayList<SeqStep> transformedData = transformedSteps.getTransformedData();
 
         rawData.put(ScoreLangConstants.SEQ_STEPS_KEY, transformedData);
+        // the parameters of external actions are not used by steps
+        rawData.put(ScoreLangConstants.SEQ_PARAMETERS_KEY, external ? new HashSet<>() :
+                SeqParameterUtils.getParametersUsedInSteps(transformedData));
     }
 
     private Boolean parseExternalValue(List<RuntimeException> errors, Serializable externalValue) {
@@ -29,6 +29,13 @@ public abstract class YamlParser {
 
     protected abstract Yaml getYaml();
 
+    /**
+     * Called after a failed parse, so an implementation which reuses its Yaml instances can drop the one used
+     * by the failed parse. SnakeYAML may keep the state of a failed load in the instance.
+     */
+    protected void discardYaml() {
+    }
+
     public ParsedSlang validateAndThrowFirstError(ParsedSlang parsedSlang) {
         ParseModellingResult parseModellingResult = validate(parsedSlang);
         if (!parseModellingResult.getErrors().isEmpty()) {
@@ -67,6 +74,7 @@ public abstract class YamlParser {
 
             return parsedSlang;
         } catch (Throwable e) {
+            discardYaml();
             throw new RuntimeException("There was a problem parsing the YAML source: " +
                     source.getName() + ".\n" + parserExceptionHandler.getErrorMessage(e), e);
         }
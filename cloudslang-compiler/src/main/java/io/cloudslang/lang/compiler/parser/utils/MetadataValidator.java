@@ -10,8 +10,14 @@
 package io.cloudslang.lang.compiler.parser.utils;
 
 import io.cloudslang.lang.compiler.SlangSource;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionData;
 import java.util.List;
 
 public interface MetadataValidator {
     List<RuntimeException> validateCheckstyle(SlangSource source);
+
+    /**
+     * Same as {@link #validateCheckstyle(SlangSource)}, reusing descriptions already parsed from the source.
+     */
+    List<RuntimeException> validateCheckstyle(SlangSource source, ParsedDescriptionData parsedDescriptionData);
 }
@@ -36,18 +36,32 @@ public class MetadataValidatorImpl implements MetadataValidator {
     public List<RuntimeException> validateCheckstyle(SlangSource source) {
         Validate.notNull(source.getContent(), "Source " + source.getName() + " cannot be null");
         try {
-            return extractCheckstyleData(source);
+            return extractCheckstyleData(source, metadataParser.parse(source));
         } catch (Throwable e) {
-            throw new RuntimeException(
-                    "There was a problem extracting checkstyle data for source [" +
-                            source.getName() + "]  - " + e.getMessage(), e
-            );
+            throw getCheckstyleException(source, e);
         }
     }
 
-    private List<RuntimeException> extractCheckstyleData(SlangSource source) {
+    @Override
+    public List<RuntimeException> validateCheckstyle(SlangSource source, ParsedDescriptionData parsedDescriptionData) {
+        Validate.notNull(source.getContent(), "Source " + source.getName() + " cannot be null");
+        try {
+            return extractCheckstyleData(source, parsedDescriptionData);
+        } catch (Throwable e) {
+            throw getCheckstyleException(source, e);
+        }
+    }
+
+    private RuntimeException getCheckstyleException(SlangSource source, Throwable e) {
+        return new RuntimeException(
+                "There was a problem extracting checkstyle data for source [" +
+                        source.getName() + "]  - " + e.getMessage(), e
+        );
+    }
+
+    private List<RuntimeException> extractCheckstyleData(SlangSource source,
+                                                         ParsedDescriptionData parsedDescriptionData) {
         List<String> lines = SlangSourceUtils.readLines(source);
-        ParsedDescriptionData parsedDescriptionData = metadataParser.parse(source);
         List<RuntimeException> errors = new ArrayList<>();
 
         // process flow descriptions
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.compiler.scorecompiler;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.cloudslang.lang.compiler.modeller.model.Executable;
+import io.cloudslang.score.api.ExecutionPlan;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Shares the execution plans of dependencies between the compilation artifacts that use them.
+ * <p>
+ * Plans are looked up first by the executable model they were compiled from, so a model reused between
+ * compilations (e.g. from the precompile cache) is compiled only once, and then by executable id and content
+ * hash, so plans compiled from different models of the same content are replaced by a single canonical plan.
+ * All the plans are weakly referenced and are released once no compilation artifact uses them.
+ * <p>
+ * Registered plans are shared and must not be modified.
+ */
+public class ExecutionPlanRegistry {
+
+    private final Cache<Executable, ExecutionPlan> modelPlans = CacheBuilder.newBuilder()
+            .weakKeys()
+            .weakValues()
+            .concurrencyLevel(2 * Runtime.getRuntime().availableProcessors())
+            .build();
+
+    private final ConcurrentMap<PlanKey, PlanReference> canonicalPlans = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<ExecutionPlan> releasedPlans = new ReferenceQueue<>();
+
+    /**
+     * @param executable  the executable to get the plan of
+     * @param planFactory creates the plan when the registry does not have it already
+     * @return the canonical execution plan of the executable
+     */
+    public ExecutionPlan getExecutionPlan(Executable executable, Function<Executable, ExecutionPlan> planFactory) {
+        ExecutionPlan executionPlan = modelPlans.getIfPresent(executable);
+        if (executionPlan == null) {
+            executionPlan = canonicalize(executable.getId(), planFactory.apply(executable));
+            ExecutionPlan existingPlan = modelPlans.asMap().putIfAbsent(executable, executionPlan);
+            if (existingPlan != null) {
+                executionPlan = existingPlan;
+            }
+        }
+        return executionPlan;
+    }
+
+    /**
+     * Removes all the plans from the registry. Plans already used by compilation artifacts are not affected.
+     */
+    public void clear() {
+        modelPlans.invalidateAll();
+        canonicalPlans.clear();
+    }
+
+    int size() {
+        expungeReleasedPlans();
+        return canonicalPlans.size();
+    }
+
+    private ExecutionPlan canonicalize(String executableId, ExecutionPlan executionPlan) {
+        expungeReleasedPlans();
+        PlanKey planKey = new PlanKey(executableId, getContentHash(executionPlan));
+        while (true) {
+            PlanReference planReference = canonicalPlans.get(planKey);
+            ExecutionPlan canonicalPlan = planReference == null ? null : planReference.get();
+            if (canonicalPlan != null) {
+                // on a hash collision the plan is simply not shared
+                return hasSameContent(canonicalPlan, executionPlan) ? canonicalPlan : executionPlan;
+            }
+            PlanReference newReference = new PlanReference(planKey, executionPlan, releasedPlans);
+            boolean registered = planReference == null ?
+                    canonicalPlans.putIfAbsent(planKey, newReference) == null :
+                    canonicalPlans.replace(planKey, planReference, newReference);
+            if (registered) {
+                return executionPlan;
+            }
+        }
+    }
+
+    private void expungeReleasedPlans() {
+        Reference<? extends ExecutionPlan> releasedPlan;
+        while ((releasedPlan = releasedPlans.poll()) != null) {
+            canonicalPlans.remove(((PlanReference) releasedPlan).planKey, releasedPlan);
+        }
+    }
+
+    private static int getContentHash(ExecutionPlan executionPlan) {
+        return Objects.hash(executionPlan.getFlowUuid(), executionPlan.getName(), executionPlan.getLanguage(),
+                executionPlan.getBeginStep(), executionPlan.getSteps());
+    }
+
+    // ExecutionPlan.equals only compares the plan uuids, while execution steps are compared by value
+    private static boolean hasSameContent(ExecutionPlan first, ExecutionPlan second) {
+        return Objects.equals(first.getFlowUuid(), second.getFlowUuid()) &&
+                Objects.equals(first.getName(), second.getName()) &&
+                Objects.equals(first.getLanguage(), second.getLanguage()) &&
+                Objects.equals(first.getBeginStep(), second.getBeginStep()) &&
+                Objects.equals(first.getWorkerGroup(), second.getWorkerGroup()) &&
+                Objects.equals(first.getSubflowsUUIDs(), second.getSubflowsUUIDs()) &&
+                Objects.equals(first.getSysAccPaths(), second.getSysAccPaths()) &&
+                Objects.equals(first.getSteps(), second.getSteps());
+    }
+
+    private static class PlanKey {
+
+        private final String executableId;
+        private final int contentHash;
+
+        PlanKey(String executableId, int contentHash) {
+            this.executableId = executableId;
+            this.contentHash = contentHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PlanKey that = (PlanKey) o;
+            return contentHash == that.contentHash && Objects.equals(executableId, that.executableId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(executableId) + contentHash;
+        }
+    }
+
+    private static class PlanReference extends WeakReference<ExecutionPlan> {
+
+        private final PlanKey planKey;
+
+        PlanReference(PlanKey planKey, ExecutionPlan executionPlan, ReferenceQueue<ExecutionPlan> queue) {
+            super(executionPlan, queue);
+            this.planKey = planKey;
+        }
+    }
+}
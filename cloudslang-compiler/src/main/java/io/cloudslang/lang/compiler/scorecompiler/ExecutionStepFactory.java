@@ -9,6 +9,8 @@
  *******************************************************************************/
 package io.cloudslang.lang.compiler.scorecompiler;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import io.cloudslang.lang.compiler.SlangTextualKeys;
 import io.cloudslang.lang.entities.ActionType;
 import io.cloudslang.lang.entities.ExecutableType;
@@ -23,6 +25,8 @@ import io.cloudslang.score.api.ExecutionStep;
 import org.apache.commons.lang.Validate;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,12 +43,18 @@ public class ExecutionStepFactory {
     private static final String NAVIGATION_ACTIONS_CLASS = "io.cloudslang.lang.runtime.navigations.Navigations";
     private static final String SIMPLE_NAVIGATION_METHOD = "navigate";
 
+    /**
+     * Canonical instances of the action data values that repeat between steps and plans (navigations and break
+     * lists). Only values whose equality covers their whole state are interned; interned values are unmodifiable
+     * and weakly referenced.
+     */
+    private final Interner<Object> actionDataValues = Interners.newWeakInterner();
 
     public ExecutionStep createBeginStepStep(Long index, List<Argument> stepInputs,
                                              Map<String, Serializable> preStepData, String refId, String stepName,
                                              String workerGroup) {
         Validate.notNull(preStepData, "preStepData is null");
-        Map<String, Serializable> actionData = new HashMap<>();
+        Map<String, Serializable> actionData = createActionData(7);
         actionData.put(ScoreLangConstants.STEP_INPUTS_KEY, (Serializable) stepInputs);
         actionData.put(ScoreLangConstants.LOOP_KEY, preStepData.get(SlangTextualKeys.FOR_KEY));
         actionData.put(ScoreLangConstants.HOOKS, "TBD");
@@ -61,7 +71,7 @@ public class ExecutionStepFactory {
     public ExecutionStep createWorkerGroupStep(Long index, Map<String, Serializable> preStepData, String stepName,
                                                   String workerGroup, String robotGroup) {
         Validate.notNull(preStepData, "preStepData is null");
-        Map<String, Serializable> actionData = new HashMap<>();
+        Map<String, Serializable> actionData = createActionData(5);
         actionData.put(ScoreLangConstants.HOOKS, "TBD");
         actionData.put(ScoreLangConstants.NODE_NAME_KEY, stepName);
         actionData.put(ScoreLangConstants.NEXT_STEP_ID_KEY, index + 1);
@@ -79,11 +89,11 @@ public class ExecutionStepFactory {
                                               Map<String, ResultNavigation> navigationValues,
                                               String stepName, String workerGroup, boolean parallelLoop) {
         Validate.notNull(postStepData, "postStepData is null");
-        Map<String, Serializable> actionData = new HashMap<>();
+        Map<String, Serializable> actionData = createActionData(8);
 
         actionData.put(ScoreLangConstants.PREVIOUS_STEP_ID_KEY, index - 1);
-        actionData.put(ScoreLangConstants.BREAK_LOOP_KEY, postStepData.get(SlangTextualKeys.BREAK_KEY));
-        actionData.put(ScoreLangConstants.STEP_NAVIGATION_KEY, new HashMap<>(navigationValues));
+        actionData.put(ScoreLangConstants.BREAK_LOOP_KEY, internBreakOn(postStepData.get(SlangTextualKeys.BREAK_KEY)));
+        actionData.put(ScoreLangConstants.STEP_NAVIGATION_KEY, internNavigation(navigationValues));
         actionData.put(ScoreLangConstants.HOOKS, "TBD");
         actionData.put(ScoreLangConstants.NODE_NAME_KEY, stepName);
         actionData.put(ScoreLangConstants.PARALLEL_LOOP_KEY, parallelLoop);
@@ -101,7 +111,7 @@ public class ExecutionStepFactory {
     }
 
     public ExecutionStep createPreconditionStep(Long index, String executableName) {
-        Map<String, Serializable> actionData = new HashMap<>();
+        Map<String, Serializable> actionData = createActionData(2);
         actionData.put(ScoreLangConstants.NODE_NAME_KEY, executableName);
         actionData.put(ScoreLangConstants.NEXT_STEP_ID_KEY, index + 1);
         return createGeneralStep(index, OPERATION_STEPS_CLASS, "canExecute", actionData);
@@ -111,9 +121,9 @@ public class ExecutionStepFactory {
             execInputs, String executableName, ExecutableType executableType) {
         Validate.notNull(preExecutableData, "preExecutableData is null");
         Validate.notNull(execInputs, "Executable inputs are null");
-        Map<String, Serializable> actionData = new HashMap<>();
+        Map<String, Serializable> actionData = createActionData(5);
         actionData.put(ScoreLangConstants.EXECUTABLE_INPUTS_KEY, (Serializable) execInputs);
-        actionData.put(ScoreLangConstants.HOOKS, (Serializable) preExecutableData);
+        actionData.put(ScoreLangConstants.HOOKS, compactHooks(preExecutableData));
         actionData.put(ScoreLangConstants.NODE_NAME_KEY, executableName);
         actionData.put(ScoreLangConstants.NEXT_STEP_ID_KEY, index + 1);
         actionData.put(ScoreLangConstants.EXECUTABLE_TYPE, executableType);
@@ -164,10 +174,10 @@ public class ExecutionStepFactory {
         Validate.notNull(postExecutableData, "postExecutableData is null");
         Validate.notNull(outputs, "Executable outputs are null");
         Validate.notNull(results, "Executable results are null");
-        Map<String, Serializable> actionData = new HashMap<>();
+        Map<String, Serializable> actionData = createActionData(5);
         actionData.put(ScoreLangConstants.EXECUTABLE_OUTPUTS_KEY, (Serializable) outputs);
         actionData.put(ScoreLangConstants.EXECUTABLE_RESULTS_KEY, (Serializable) results);
-        actionData.put(ScoreLangConstants.HOOKS, (Serializable) postExecutableData);
+        actionData.put(ScoreLangConstants.HOOKS, compactHooks(postExecutableData));
         actionData.put(ScoreLangConstants.NODE_NAME_KEY, executableName);
         actionData.put(ScoreLangConstants.EXECUTABLE_TYPE, executableType);
         return createGeneralStep(index, OPERATION_STEPS_CLASS, "finishExecutable", actionData);
@@ -177,7 +187,7 @@ public class ExecutionStepFactory {
                                                Long branchBeginStepId, Map<String, Serializable> preStepData,
                                                String refId, String stepName) {
         Validate.notNull(preStepData, "preStepData is null");
-        Map<String, Serializable> actionData = new HashMap<>();
+        Map<String, Serializable> actionData = createActionData(5);
         actionData.put(ScoreLangConstants.NODE_NAME_KEY, stepName);
         actionData.put(ScoreLangConstants.REF_ID, refId);
         actionData.put(ScoreLangConstants.NEXT_STEP_ID_KEY, nextStepId);
@@ -194,9 +204,9 @@ public class ExecutionStepFactory {
                                                 Map<String, ResultNavigation> navigationValues, String stepName) {
         Validate.notNull(postStepData, "postStepData is null");
         Validate.notNull(navigationValues, "navigationValues is null");
-        Map<String, Serializable> actionData = new HashMap<>();
+        Map<String, Serializable> actionData = createActionData(3);
         actionData.put(ScoreLangConstants.STEP_PUBLISH_KEY, postStepData.get(SlangTextualKeys.PUBLISH_KEY));
-        actionData.put(ScoreLangConstants.STEP_NAVIGATION_KEY, new HashMap<>(navigationValues));
+        actionData.put(ScoreLangConstants.STEP_NAVIGATION_KEY, internNavigation(navigationValues));
         actionData.put(ScoreLangConstants.NODE_NAME_KEY, stepName);
 
         return createGeneralStep(index, PARALLEL_LOOP_STEPS_CLASS, "joinBranches", actionData);
@@ -215,10 +225,43 @@ public class ExecutionStepFactory {
         step.setNavigation(new ControlActionMetadata(NAVIGATION_ACTIONS_CLASS, SIMPLE_NAVIGATION_METHOD));
 
         //this is needed in case if we're going to pause navigation
-        Map<String, Object> navigationData = new HashMap<>();
+        Map<String, Object> navigationData = new HashMap<>(2);
         navigationData.put(ScoreLangConstants.CURRENT_STEP_ID_KEY, stepId);
         step.setNavigationData(navigationData);
 
         return step;
     }
-}
\ No newline at end of file
+
+    private Map<String, Serializable> createActionData(int expectedSize) {
+        // sized for the expected keys, so that the maps held by loaded plans are not over allocated
+        return new HashMap<>(expectedSize * 4 / 3 + 1);
+    }
+
+    private Serializable internBreakOn(Serializable breakOn) {
+        if (!(breakOn instanceof List)) {
+            return breakOn;
+        }
+        List<Object> results = new ArrayList<>((List<?>) breakOn);
+        for (Object result : results) {
+            if (!(result instanceof String)) {
+                return breakOn;
+            }
+        }
+        return (Serializable) actionDataValues.intern(Collections.unmodifiableList(results));
+    }
+
+    private Serializable compactHooks(Map<String, Serializable> hooks) {
+        // most executables have no hooks, so their plans share the immutable empty map
+        return hooks.isEmpty() ? (Serializable) Collections.<String, Serializable>emptyMap() : (Serializable) hooks;
+    }
+
+    private Serializable internNavigation(Map<String, ResultNavigation> navigationValues) {
+        Map<String, ResultNavigation> internedValues = new HashMap<>(navigationValues.size() * 4 / 3 + 1);
+        for (Map.Entry<String, ResultNavigation> navigation : navigationValues.entrySet()) {
+            ResultNavigation resultNavigation = navigation.getValue();
+            internedValues.put(navigation.getKey(),
+                    resultNavigation == null ? null : (ResultNavigation) actionDataValues.intern(resultNavigation));
+        }
+        return (Serializable) actionDataValues.intern(Collections.unmodifiableMap(internedValues));
+    }
+}
@@ -47,6 +47,8 @@ public class ScoreCompilerImpl implements ScoreCompiler {
 
     private CompileValidator compileValidator;
 
+    private ExecutionPlanRegistry executionPlanRegistry;
+
     @Override
     public CompilationArtifact compile(Executable source, Set<Executable> path) {
         CompilationModellingResult compilationModellingResult = compileSource(source, path);
@@ -96,11 +98,12 @@ public class ScoreCompilerImpl implements ScoreCompiler {
             //next we create an execution plan for the required executable
             ExecutionPlan executionPlan = compileToExecutionPlan(executable);
 
-            //and also create execution plans for all other dependencies
+            //and also get the shared execution plans of all other dependencies
             Converter<Executable, ExecutionPlan> converter = new Converter<Executable, ExecutionPlan>() {
                 @Override
                 public ExecutionPlan convert(Executable compiledExecutable) {
-                    return compileToExecutionPlan(compiledExecutable);
+                    return executionPlanRegistry.getExecutionPlan(compiledExecutable,
+                            ScoreCompilerImpl.this::compileToExecutionPlan);
                 }
             };
             Map<String, ExecutionPlan> dependencies = convertMap(filteredDependencies, converter);
@@ -135,7 +138,8 @@ public class ScoreCompilerImpl implements ScoreCompiler {
             for (Result result : onFailureDependency.getResults()) {
                 Map<String, Serializable> navigationString = new HashMap<>();
                 navigationString.put(result.getName(), ScoreLangConstants.FAILURE_RESULT);
-                onFailureStep.getNavigationStrings().add(navigationString);
+                // the step model is shared between compilations, so every navigation is added only once
+                onFailureStep.addNavigationString(navigationString);
             }
         }
     }
@@ -202,4 +206,8 @@ public class ScoreCompilerImpl implements ScoreCompiler {
     public void setCompileValidator(CompileValidator compileValidator) {
         this.compileValidator = compileValidator;
     }
+
+    public void setExecutionPlanRegistry(ExecutionPlanRegistry executionPlanRegistry) {
+        this.executionPlanRegistry = executionPlanRegistry;
+    }
 }
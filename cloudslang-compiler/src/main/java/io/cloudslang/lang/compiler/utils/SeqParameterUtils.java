@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.compiler.utils;
+
+import io.cloudslang.lang.compiler.modeller.model.SeqStep;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+import static org.apache.commons.lang3.StringUtils.startsWith;
+import static org.apache.commons.lang3.StringUtils.substring;
+
+public class SeqParameterUtils {
+    public static final String SEQUENTIAL_PARAMETER = "Parameter(";
+
+    /**
+     * @param seqSteps the steps of a sequential action
+     * @return the names of the parameters used as <code>Parameter("name")</code> arguments of the steps
+     */
+    public static HashSet<String> getParametersUsedInSteps(Collection<SeqStep> seqSteps) {
+        HashSet<String> parameters = new HashSet<>();
+        if (seqSteps != null) {
+            for (SeqStep seqStep : seqSteps) {
+                String args = seqStep.getArgs();
+                if (startsWith(args, SEQUENTIAL_PARAMETER)) {
+                    parameters.add(extractParameter(args));
+                }
+            }
+        }
+        return parameters;
+    }
+
+    private static String extractParameter(String args) {
+        return substring(args, SEQUENTIAL_PARAMETER.length(), args.length() - 1).replaceAll("^\"|\"$", "");
+    }
+}
@@ -29,6 +29,8 @@ import java.util.Set;
 
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertThrows;
 
@@ -93,6 +95,23 @@ public class CompileDependenciesTest {
                 not(Matchers.hasKey("slang.sample.flows.SimpleFlow")));
     }
 
+    @Test
+    public void dependenciesAreSharedBetweenCompilations() throws Exception {
+        final URI flow = getClass().getResource("/basic_flow.yaml").toURI();
+        final URI importedOperation = getClass().getResource("/test_op.sl").toURI();
+        final URI importedOperation2 = getClass().getResource("/check_Weather.sl").toURI();
+        Set<SlangSource> path = new HashSet<>();
+        path.add(SlangSource.fromFile(importedOperation));
+        path.add(SlangSource.fromFile(importedOperation2));
+
+        CompilationArtifact firstArtifact = compiler.compile(SlangSource.fromFile(flow), path);
+        CompilationArtifact secondArtifact = compiler.compile(SlangSource.fromFile(flow), path);
+
+        assertSame(firstArtifact.getDependencies().get("user.ops.test_op"),
+                secondArtifact.getDependencies().get("user.ops.test_op"));
+        assertNotSame(firstArtifact.getExecutionPlan(), secondArtifact.getExecutionPlan());
+    }
+
     @Test
     public void sourceFileIsADirectory() throws Exception {
         final URI dir = getClass().getResource("/").toURI();
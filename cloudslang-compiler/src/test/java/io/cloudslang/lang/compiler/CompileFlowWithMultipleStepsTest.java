@@ -10,12 +10,18 @@
 package io.cloudslang.lang.compiler;
 
 import io.cloudslang.lang.compiler.configuration.SlangCompilerSpringConfig;
+import io.cloudslang.lang.compiler.modeller.ExecutableBuilder;
 import io.cloudslang.lang.compiler.modeller.model.Executable;
+import io.cloudslang.lang.compiler.modeller.model.Flow;
+import io.cloudslang.lang.compiler.modeller.model.Step;
+import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
 import io.cloudslang.lang.entities.CompilationArtifact;
 import io.cloudslang.score.api.ExecutionPlan;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Assert;
@@ -39,6 +45,9 @@ public class CompileFlowWithMultipleStepsTest {
     @Autowired
     private SlangCompiler compiler;
 
+    @Autowired
+    private ExecutableBuilder executableBuilder;
+
     @Test
     public void testCompileFlowBasic() throws Exception {
         URI flow = getClass().getResource("/flow_with_multiple_steps.yaml").toURI();
@@ -75,4 +84,66 @@ public class CompileFlowWithMultipleStepsTest {
                 3, flow.getExecutableDependencies().size());
     }
 
+    @Test
+    public void testPreCompileFlowWithManyStepsInParallel() throws Exception {
+        SlangSource flowSource = createFlowWithSteps(300);
+
+        int parallelStepsThreshold = executableBuilder.getParallelStepsThreshold();
+        ExecutableModellingResult sequentialResult;
+        ExecutableModellingResult parallelResult;
+        try {
+            executableBuilder.setParallelStepsThreshold(0);
+            sequentialResult = compiler.preCompileSource(flowSource);
+            executableBuilder.setParallelStepsThreshold(2);
+            parallelResult = compiler.preCompileSource(flowSource);
+        } finally {
+            executableBuilder.setParallelStepsThreshold(parallelStepsThreshold);
+        }
+
+        assertEquals(getStepNames(sequentialResult), getStepNames(parallelResult));
+        assertEquals(getErrorMessages(sequentialResult), getErrorMessages(parallelResult));
+        assertEquals(300, getStepNames(parallelResult).size());
+        assertEquals(30, parallelResult.getErrors().size());
+        assertEquals("Artifact {step_9} has unrecognized tag {unknown_key}. " +
+                "Please take a look at the supported features per versions link",
+                parallelResult.getErrors().get(0).getMessage());
+    }
+
+    private SlangSource createFlowWithSteps(int stepCount) {
+        StringBuilder flow = new StringBuilder("namespace: user.ops\n\nflow:\n  name: many_steps\n  workflow:\n");
+        for (int index = 0; index < stepCount; index++) {
+            String nextStep = index == stepCount - 1 ? "SUCCESS" : "step_" + (index + 1);
+            flow.append("    - step_").append(index).append(":\n")
+                    .append("        do:\n")
+                    .append("          user.ops.test_op:\n")
+                    .append("            - city: ${'city_").append(index).append("'}\n")
+                    .append("        publish:\n")
+                    .append("          - weather\n")
+                    .append("        navigate:\n")
+                    .append("          - SUCCESS: ").append(nextStep).append("\n")
+                    .append("          - FAILURE: FAILURE\n");
+            if (index % 10 == 9) {
+                flow.append("        unknown_key: value\n");
+            }
+        }
+        flow.append("  results:\n    - SUCCESS\n    - FAILURE\n");
+        return new SlangSource(flow.toString(), "many_steps.sl");
+    }
+
+    private List<String> getStepNames(ExecutableModellingResult result) {
+        List<String> stepNames = new ArrayList<>();
+        for (Step step : ((Flow) result.getExecutable()).getWorkflow().getSteps()) {
+            stepNames.add(step.getName());
+        }
+        return stepNames;
+    }
+
+    private List<String> getErrorMessages(ExecutableModellingResult result) {
+        List<String> messages = new ArrayList<>();
+        for (RuntimeException error : result.getErrors()) {
+            messages.add(error.getMessage());
+        }
+        return messages;
+    }
+
 }
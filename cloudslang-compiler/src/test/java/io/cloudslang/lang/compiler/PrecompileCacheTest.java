@@ -9,13 +9,21 @@
  *******************************************************************************/
 package io.cloudslang.lang.compiler;
 
+import io.cloudslang.lang.compiler.caching.CacheResult;
+import io.cloudslang.lang.compiler.caching.CacheValueState;
 import io.cloudslang.lang.compiler.caching.CachedPrecompileService;
 import io.cloudslang.lang.compiler.modeller.SlangModeller;
+import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
+import io.cloudslang.lang.compiler.modeller.result.SourceAnalysisResult;
 import io.cloudslang.lang.compiler.parser.YamlParser;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionData;
+import io.cloudslang.lang.compiler.parser.model.ParsedDescriptionSection;
 import io.cloudslang.lang.compiler.scorecompiler.ScoreCompiler;
 import io.cloudslang.lang.compiler.validator.CompileValidator;
 import io.cloudslang.lang.compiler.validator.SystemPropertyValidator;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InOrder;
@@ -24,7 +32,13 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PrecompileCacheTest {
@@ -51,6 +65,9 @@ public class PrecompileCacheTest {
     @Mock
     private CachedPrecompileService cachedPrecompileService;
 
+    @Mock
+    private MetadataExtractor metadataExtractor;
+
     @Test
     public void testPrecompileCacheEnabled() throws Exception {
         URL resource = getClass().getResource("/corrupted/op_without_namespace.sl");
@@ -79,6 +96,48 @@ public class PrecompileCacheTest {
         inOrderCache.verifyNoMoreInteractions();
     }
 
+    @Test
+    public void testSourceAnalysisCachesDescriptionData() throws Exception {
+        URL resource = getClass().getResource("/corrupted/op_without_namespace.sl");
+        SlangSource slangSource = SlangSource.fromFile(resource.toURI());
+        ParsedDescriptionData parsedDescriptionData = new ParsedDescriptionData(
+                new ArrayList<ParsedDescriptionSection>(), new HashMap<String, ParsedDescriptionSection>(),
+                new ArrayList<RuntimeException>());
+        when(metadataExtractor.parseDescriptionData(slangSource)).thenReturn(parsedDescriptionData);
+
+        compiler.analyzeSource(slangSource, PrecompileStrategy.WITH_CACHE, true);
+
+        InOrder inOrder = inOrder(cachedPrecompileService, metadataExtractor);
+        inOrder.verify(cachedPrecompileService).getValueFromCache(slangSource.getFilePath(), slangSource);
+        inOrder.verify(metadataExtractor).parseDescriptionData(slangSource);
+        inOrder.verify(cachedPrecompileService)
+                .cacheValue(slangSource.getFilePath(), null, parsedDescriptionData, slangSource);
+        inOrder.verify(metadataExtractor).extractMetadataModellingResult(slangSource, parsedDescriptionData, true);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    public void testSourceAnalysisUsesCachedDescriptionData() throws Exception {
+        URL resource = getClass().getResource("/corrupted/op_without_namespace.sl");
+        SlangSource slangSource = SlangSource.fromFile(resource.toURI());
+        ExecutableModellingResult executableModellingResult =
+                new ExecutableModellingResult(null, new ArrayList<RuntimeException>());
+        ParsedDescriptionData parsedDescriptionData = new ParsedDescriptionData(
+                new ArrayList<ParsedDescriptionSection>(), new HashMap<String, ParsedDescriptionSection>(),
+                new ArrayList<RuntimeException>());
+        when(cachedPrecompileService.getValueFromCache(slangSource.getFilePath(), slangSource))
+                .thenReturn(new CacheResult(CacheValueState.VALID, executableModellingResult, parsedDescriptionData));
+
+        SourceAnalysisResult result = compiler.analyzeSource(slangSource, PrecompileStrategy.WITH_CACHE, false);
+
+        assertSame(executableModellingResult, result.getExecutableModellingResult());
+        verify(metadataExtractor).extractMetadataModellingResult(slangSource, parsedDescriptionData, false);
+        verify(metadataExtractor, never()).parseDescriptionData(any(SlangSource.class));
+        verify(yamlParser, never()).parse(any(SlangSource.class));
+        verify(cachedPrecompileService, never()).cacheValue(anyString(), any(ExecutableModellingResult.class),
+                any(ParsedDescriptionData.class), any(SlangSource.class));
+    }
+
     @Test
     public void testCacheCleanupIsInvoked() throws Exception {
         compiler.invalidateAllInPreCompileCache();
@@ -44,6 +44,7 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -170,7 +171,10 @@ public class PythonActionTransformerTest extends TransformersTestParent {
 
     @Test
     public void testTransformWithExternalPythonValid1() {
-        transformAndThrowErrorIfExists(pythonActionTransformer, initialExternalPythonAction1);
+        Map<String, Serializable> transformedData =
+                transformAndThrowErrorIfExists(pythonActionTransformer, initialExternalPythonAction1);
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>((Collection<?>)
+                transformedData.get(ScoreLangConstants.PYTHON_ACTION_SCRIPT_PARAMS_KEY)));
     }
 
     @Test
@@ -40,12 +40,15 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
 import static io.cloudslang.lang.entities.ScoreLangConstants.SEQ_ACTION_GAV_KEY;
 import static io.cloudslang.lang.entities.ScoreLangConstants.SEQ_EXTERNAL_KEY;
+import static io.cloudslang.lang.entities.ScoreLangConstants.SEQ_PARAMETERS_KEY;
 import static io.cloudslang.lang.entities.ScoreLangConstants.SEQ_STEPS_KEY;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -88,6 +91,7 @@ public class SeqActionTransformerTest extends TransformersTestParent {
         expectedSeqActionSimple.put(SEQ_ACTION_GAV_KEY, "seq:seqf.simple_valid_seq_op:1.0.0");
         expectedSeqActionSimple.put(SEQ_STEPS_KEY, newArrayList(new SeqStep()));
         expectedSeqActionSimple.put(SEQ_EXTERNAL_KEY, FALSE);
+        expectedSeqActionSimple.put(SEQ_PARAMETERS_KEY, new HashSet<>());
 
         TransformModellingResult<Map<String, Serializable>> transformedAction = seqActionTransformer
                 .transform(new HashMap<>(initialSeqActionSimple));
@@ -95,6 +99,22 @@ public class SeqActionTransformerTest extends TransformersTestParent {
         assertThat(transformedAction.getErrors(), is(empty()));
     }
 
+    @Test
+    public void testTransformFindsParametersUsedInSteps() {
+        SeqStep parameterStep = new SeqStep();
+        parameterStep.setArgs("Parameter(\"username\")");
+        SeqStep valueStep = new SeqStep();
+        valueStep.setArgs("\"password\"");
+        doReturn(new BasicTransformModellingResult<>(newArrayList(parameterStep, valueStep), new ArrayList<>()))
+                .when(seqStepsTransformer).transform(any(), any());
+
+        TransformModellingResult<Map<String, Serializable>> transformedAction = seqActionTransformer
+                .transform(new HashMap<>(initialSeqActionSimple));
+
+        assertEquals(newHashSet("username"), transformedAction.getTransformedData().get(SEQ_PARAMETERS_KEY));
+        assertThat(transformedAction.getErrors(), is(empty()));
+    }
+
     @Test
     public void testTransformWithInvalidGav() {
         doReturn(new BasicTransformModellingResult<>(newArrayList(new SeqStep()), new ArrayList<>()))
@@ -156,6 +176,7 @@ public class SeqActionTransformerTest extends TransformersTestParent {
         expectedSeqActionSimple.put(SEQ_ACTION_GAV_KEY, "seq:seqf.simple_valid_seq_op:1.0.0");
         expectedSeqActionSimple.put(SEQ_STEPS_KEY, newArrayList());
         expectedSeqActionSimple.put(SEQ_EXTERNAL_KEY, FALSE);
+        expectedSeqActionSimple.put(SEQ_PARAMETERS_KEY, new HashSet<>());
 
         TransformModellingResult<Map<String, Serializable>> transformedAction = seqActionTransformer
                 .transform(rawData);
@@ -177,6 +198,7 @@ public class SeqActionTransformerTest extends TransformersTestParent {
         expectedSeqActionSimple.put(SEQ_ACTION_GAV_KEY, "seq:seqf.simple_valid_external_seq_op:1.0.0");
         expectedSeqActionSimple.put(SEQ_STEPS_KEY, newArrayList());
         expectedSeqActionSimple.put(SEQ_EXTERNAL_KEY, TRUE);
+        expectedSeqActionSimple.put(SEQ_PARAMETERS_KEY, new HashSet<>());
 
         TransformModellingResult<Map<String, Serializable>> transformedAction = seqActionTransformer.transform(rawData);
 
@@ -199,6 +221,7 @@ public class SeqActionTransformerTest extends TransformersTestParent {
         expectedSeqActionSimple.put(SEQ_ACTION_GAV_KEY, "seq:seqf.simple_valid_external_seq_op:1.0.0");
         expectedSeqActionSimple.put(SEQ_STEPS_KEY, newArrayList());
         expectedSeqActionSimple.put(SEQ_EXTERNAL_KEY, TRUE);
+        expectedSeqActionSimple.put(SEQ_PARAMETERS_KEY, new HashSet<>());
 
         TransformModellingResult<Map<String, Serializable>> transformedAction = seqActionTransformer.transform(rawData);
 
@@ -219,6 +242,7 @@ public class SeqActionTransformerTest extends TransformersTestParent {
         expectedSeqActionSimple.put(SEQ_ACTION_GAV_KEY, "seq:seqf.simple_valid_external_seq_op:1.0.0");
         expectedSeqActionSimple.put(SEQ_STEPS_KEY, newArrayList());
         expectedSeqActionSimple.put(SEQ_EXTERNAL_KEY, FALSE);
+        expectedSeqActionSimple.put(SEQ_PARAMETERS_KEY, new HashSet<>());
 
         TransformModellingResult<Map<String, Serializable>> transformedAction = seqActionTransformer.transform(rawData);
 
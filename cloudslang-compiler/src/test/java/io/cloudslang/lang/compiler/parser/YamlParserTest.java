@@ -10,6 +10,7 @@
 package io.cloudslang.lang.compiler.parser;
 
 import io.cloudslang.lang.compiler.SlangSource;
+import io.cloudslang.lang.compiler.configuration.SlangCompilerSpringConfig;
 import io.cloudslang.lang.compiler.parser.model.ParsedSlang;
 import io.cloudslang.lang.compiler.parser.utils.ParserExceptionHandler;
 import org.junit.Assert;
@@ -24,6 +25,8 @@ import org.yaml.snakeyaml.Yaml;
 import java.io.IOException;
 import java.io.InputStream;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -60,4 +63,18 @@ public class YamlParserTest {
                 yamlParser.parse(new SlangSource("", null)));
         Assert.assertEquals("Source null cannot be empty", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void threadYamlIsReplacedAfterFailedParse() throws Exception {
+        YamlParser threadYamlParser = new SlangCompilerSpringConfig().yamlParser();
+        Yaml yamlBeforeParse = threadYamlParser.getYaml();
+        threadYamlParser.parse(new SlangSource("namespace: user.ops", "valid.sl"));
+        Yaml yamlAfterParse = threadYamlParser.getYaml();
+
+        assertThrows(RuntimeException.class, () ->
+                threadYamlParser.parse(new SlangSource("namespace: [user.ops", "invalid.sl")));
+
+        assertSame(yamlBeforeParse, yamlAfterParse);
+        assertNotSame(yamlAfterParse, threadYamlParser.getYaml());
+    }
+}
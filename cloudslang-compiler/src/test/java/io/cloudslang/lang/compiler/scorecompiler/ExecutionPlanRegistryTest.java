@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.compiler.scorecompiler;
+
+import io.cloudslang.lang.compiler.modeller.model.Executable;
+import io.cloudslang.score.api.ExecutionPlan;
+import io.cloudslang.score.api.ExecutionStep;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExecutionPlanRegistryTest {
+
+    private final ExecutionPlanRegistry executionPlanRegistry = new ExecutionPlanRegistry();
+
+    @Test
+    public void testSameModelIsCompiledOnce() {
+        Executable executable = createExecutable("ns.op");
+        AtomicInteger compilations = new AtomicInteger();
+        Function<Executable, ExecutionPlan> planFactory = model -> {
+            compilations.incrementAndGet();
+            return createExecutionPlan(model.getId(), "value");
+        };
+
+        ExecutionPlan firstPlan = executionPlanRegistry.getExecutionPlan(executable, planFactory);
+        ExecutionPlan secondPlan = executionPlanRegistry.getExecutionPlan(executable, planFactory);
+
+        assertSame(firstPlan, secondPlan);
+        assertEquals(1, compilations.get());
+    }
+
+    @Test
+    public void testModelsWithSameContentShareThePlan() {
+        ExecutionPlan firstPlan = getExecutionPlan(createExecutable("ns.op"), "value");
+        ExecutionPlan secondPlan = getExecutionPlan(createExecutable("ns.op"), "value");
+
+        assertSame(firstPlan, secondPlan);
+        assertEquals(1, executionPlanRegistry.size());
+    }
+
+    @Test
+    public void testModelsWithDifferentContentDoNotShareThePlan() {
+        ExecutionPlan firstPlan = getExecutionPlan(createExecutable("ns.op"), "value");
+        ExecutionPlan secondPlan = getExecutionPlan(createExecutable("ns.op"), "other value");
+
+        assertNotSame(firstPlan, secondPlan);
+        assertEquals("other value", secondPlan.getStep(1L).getActionData().get("key"));
+        assertEquals(2, executionPlanRegistry.size());
+    }
+
+    @Test
+    public void testExecutablesWithDifferentIdsDoNotShareThePlan() {
+        ExecutionPlan firstPlan = getExecutionPlan(createExecutable("ns.first_op"), "value");
+        ExecutionPlan secondPlan = getExecutionPlan(createExecutable("ns.second_op"), "value");
+
+        assertNotSame(firstPlan, secondPlan);
+    }
+
+    @Test
+    public void testClear() {
+        Executable executable = createExecutable("ns.op");
+        ExecutionPlan firstPlan = getExecutionPlan(executable, "value");
+
+        executionPlanRegistry.clear();
+        ExecutionPlan secondPlan = getExecutionPlan(executable, "value");
+
+        assertNotSame(firstPlan, secondPlan);
+    }
+
+    private ExecutionPlan getExecutionPlan(Executable executable, Serializable actionValue) {
+        Function<Executable, ExecutionPlan> planFactory = model -> createExecutionPlan(model.getId(), actionValue);
+        return executionPlanRegistry.getExecutionPlan(executable, planFactory);
+    }
+
+    private Executable createExecutable(String executableId) {
+        Executable executable = mock(Executable.class);
+        when(executable.getId()).thenReturn(executableId);
+        return executable;
+    }
+
+    private ExecutionPlan createExecutionPlan(String executableId, Serializable actionValue) {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        executionPlan.setFlowUuid(executableId);
+        executionPlan.setBeginStep(1L);
+        ExecutionStep executionStep = new ExecutionStep(1L);
+        Map<String, Serializable> actionData = new HashMap<>();
+        actionData.put("key", actionValue);
+        executionStep.setActionData(actionData);
+        executionPlan.addStep(executionStep);
+        return executionPlan;
+    }
+}
@@ -25,6 +25,7 @@ import io.cloudslang.score.api.ExecutionStep;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -34,6 +35,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
 
 public class ExecutionStepFactoryTest {
 
@@ -90,6 +92,57 @@ public class ExecutionStepFactoryTest {
 
     }
 
+    @Test
+    public void testFinishStepsShareEqualNavigations() {
+        Map<String, ResultNavigation> firstNavigationValues = new HashMap<>();
+        firstNavigationValues.put(ScoreLangConstants.SUCCESS_RESULT, new ResultNavigation(5L, null));
+        firstNavigationValues.put(ScoreLangConstants.FAILURE_RESULT,
+                new ResultNavigation(0L, ScoreLangConstants.FAILURE_RESULT));
+        Map<String, ResultNavigation> secondNavigationValues = new HashMap<>();
+        secondNavigationValues.put(ScoreLangConstants.SUCCESS_RESULT, new ResultNavigation(5L, null));
+        secondNavigationValues.put(ScoreLangConstants.FAILURE_RESULT,
+                new ResultNavigation(0L, ScoreLangConstants.FAILURE_RESULT));
+        Map<String, Serializable> postStepData = new HashMap<>();
+        postStepData.put(SlangTextualKeys.BREAK_KEY, new ArrayList<>(Collections.singletonList("FAILURE")));
+
+        ExecutionStep firstStep = factory.createFinishStepStep(2L, postStepData, firstNavigationValues,
+                "first_step", null, false);
+        ExecutionStep secondStep = factory.createJoinBranchesStep(4L, postStepData, secondNavigationValues,
+                "second_step");
+
+        Object navigation = firstStep.getActionData().get(ScoreLangConstants.STEP_NAVIGATION_KEY);
+        Assert.assertEquals(firstNavigationValues, navigation);
+        Assert.assertSame(navigation, secondStep.getActionData().get(ScoreLangConstants.STEP_NAVIGATION_KEY));
+        Assert.assertEquals(Collections.singletonList("FAILURE"),
+                firstStep.getActionData().get(ScoreLangConstants.BREAK_LOOP_KEY));
+    }
+
+    @Test
+    public void testNavigationsAreNotModifiable() {
+        Map<String, ResultNavigation> navigationValues = new HashMap<>();
+        navigationValues.put(ScoreLangConstants.SUCCESS_RESULT, new ResultNavigation(5L, null));
+        ExecutionStep finishStep = factory.createFinishStepStep(2L, new HashMap<>(), navigationValues,
+                "step", null, false);
+        navigationValues.clear();
+
+        @SuppressWarnings("unchecked")
+        Map<String, ResultNavigation> navigation = (Map<String, ResultNavigation>) finishStep.getActionData()
+                .get(ScoreLangConstants.STEP_NAVIGATION_KEY);
+        Assert.assertEquals(1, navigation.size());
+        assertThrows(UnsupportedOperationException.class, navigation::clear);
+    }
+
+    @Test
+    public void testExecutablesWithoutHooksShareTheEmptyHooks() {
+        ExecutionStep startStep = factory.createStartStep(1L, new HashMap<>(), new ArrayList<>(), "op",
+                ExecutableType.OPERATION);
+        ExecutionStep endStep = factory.createEndStep(3L, new HashMap<>(), new ArrayList<>(), new ArrayList<>(),
+                "op", ExecutableType.OPERATION);
+
+        Assert.assertSame(Collections.emptyMap(), startStep.getActionData().get(ScoreLangConstants.HOOKS));
+        Assert.assertSame(Collections.emptyMap(), endStep.getActionData().get(ScoreLangConstants.HOOKS));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testCreateStartStepWithNullData() throws Exception {
         factory.createStartStep(1L, null, new ArrayList<Input>(), "", ExecutableType.FLOW);
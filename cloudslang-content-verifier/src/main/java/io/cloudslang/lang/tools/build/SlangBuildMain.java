@@ -20,10 +20,15 @@ import io.cloudslang.lang.tools.build.commands.ApplicationArgs;
 import io.cloudslang.lang.tools.build.tester.IRunTestResults;
 import io.cloudslang.lang.tools.build.tester.TestRun;
 import io.cloudslang.lang.tools.build.tester.parallel.report.SlangTestCaseRunReportGeneratorService;
+import io.cloudslang.lang.tools.build.tester.parallel.report.StreamingTestCaseReportListener;
+import io.cloudslang.lang.tools.build.tester.parallel.report.TestCaseRunResultsService;
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
 import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+import io.cloudslang.lang.tools.build.tester.runconfiguration.TestCaseShard;
 import io.cloudslang.lang.tools.build.tester.runconfiguration.TestRunInfoService;
 import io.cloudslang.score.events.ScoreEvent;
 import io.cloudslang.score.events.ScoreEventListener;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang.Validate;
@@ -78,12 +83,17 @@ import static org.apache.commons.lang3.StringUtils.equalsIgnoreCase;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.apache.logging.log4j.Level.ERROR;
 import static org.apache.logging.log4j.Level.INFO;
+import static org.apache.logging.log4j.Level.WARN;
 
 
 public class SlangBuildMain {
     public static final String DEFAULT_TESTS = "default";
 
     private static final String TEST_CASE_REPORT_LOCATION = "cloudslang.test.case.report.location";
+    private static final String SHARD_RESULTS_FILE_NAME = "test-case-results-shard-%d-of-%d" +
+            TestCaseRunResultsService.RESULTS_FILE_EXTENSION;
+    private static final String MERGED_RESULTS_FILE_NAME = "test-case-results-merged" +
+            TestCaseRunResultsService.RESULTS_FILE_EXTENSION;
     private static final String CONTENT_DIR = File.separator + "content";
     private static final String TEST_DIR = File.separator + "test";
 
@@ -146,6 +156,9 @@ public class SlangBuildMain {
 
         ApplicationArgs appArgs = new ApplicationArgs();
         parseArgs(args, appArgs);
+        if (CollectionUtils.isNotEmpty(appArgs.getMergeResults())) {
+            mergeTestCaseResults(appArgs.getMergeResults(), getProperty(TEST_CASE_REPORT_LOCATION));
+        }
         String projectPath = parseProjectPathArg(appArgs);
         final String contentPath = defaultIfEmpty(appArgs.getContentRoot(), projectPath + CONTENT_DIR);
         final String testsPath = defaultIfEmpty(appArgs.getTestRoot(), projectPath + TEST_DIR);
@@ -159,9 +172,18 @@ public class SlangBuildMain {
         final boolean shouldValidateCheckstyle = appArgs.shouldValidateCheckstyle();
         String runConfigPath = FilenameUtils.normalize(appArgs.getRunConfigPath());
 
+        TestCaseShard testCaseShard = null;
         BuildMode buildMode = null;
         Set<String> changedFiles = null;
         try {
+            if (StringUtils.isNotBlank(appArgs.getShard())) {
+                testCaseShard = TestCaseShard.parse(appArgs.getShard());
+                if (StringUtils.isNotBlank(appArgs.getShardDurations())) {
+                    TestCaseDurationHistory sharedDurations = new TestCaseDurationHistory();
+                    sharedDurations.loadFile(get(appArgs.getShardDurations()));
+                    testCaseShard = testCaseShard.withSharedDurations(sharedDurations);
+                }
+            }
             String smartModePath = appArgs.getChangesOnlyConfigPath();
             if (StringUtils.isEmpty(smartModePath)) {
                 buildMode = BuildMode.BASIC;
@@ -228,6 +250,10 @@ public class SlangBuildMain {
                 getListForPrint(getDefaultRunModeTestSuites(testSuites, testSuitesParallel, testSuitesSequential)));
 
         log.info("Bulk run mode for tests: " + getBulkModeForPrint(bulkRunMode));
+        if (testCaseShard != null) {
+            log.info("Running test case shard: " + testCaseShard);
+            log.info("Test case shard durations file: " + defaultIfEmpty(appArgs.getShardDurations(), "none"));
+        }
 
         log.info("Print coverage data: " + valueOf(shouldPrintCoverageData));
         log.info("Validate description: " + valueOf(shouldValidateDescription));
@@ -246,11 +272,21 @@ public class SlangBuildMain {
 
         try {
 
-            updateTestSuiteMappings(context.getBean(TestRunInfoService.class), testSuitesParallel,
+            TestRunInfoService testRunInfoService = context.getBean(TestRunInfoService.class);
+            updateTestSuiteMappings(testRunInfoService, testSuitesParallel,
                     testSuitesSequential, testSuites, unspecifiedTestSuiteRunMode);
+            testRunInfoService.setTestCaseShard(testCaseShard);
 
             registerEventHandlers(slang);
 
+            TestCaseDurationHistory testCaseDurationHistory = context.getBean(TestCaseDurationHistory.class);
+            loadTestCaseDurationHistory(testCaseDurationHistory, testCaseReportLocation, loggingService);
+
+            StreamingTestCaseReportListener testCaseReport = context.getBean(StreamingTestCaseReportListener.class);
+            if (StringUtils.isNotBlank(testCaseReportLocation)) {
+                testCaseReport.open(testCaseReportLocation);
+            }
+
             List<RuntimeException> exceptions = new ArrayList<>();
 
             SlangBuildResults buildResults =
@@ -278,11 +314,13 @@ public class SlangBuildMain {
             }
             loggingService.waitForAllLogTasksToFinish();
 
-            generateTestCaseReport(
-                    context.getBean(SlangTestCaseRunReportGeneratorService.class),
-                    runTestsResults,
-                    testCaseReportLocation
-            );
+            testCaseReport.close();
+            saveTestCaseDurationHistory(testCaseDurationHistory, testCaseReportLocation, loggingService);
+            if (testCaseShard != null && StringUtils.isNotBlank(testCaseReportLocation)) {
+                context.getBean(TestCaseRunResultsService.class).writeResults(runTestsResults,
+                        testCaseDurationHistory, get(testCaseReportLocation, format(SHARD_RESULTS_FILE_NAME,
+                                testCaseShard.getIndex(), testCaseShard.getCount())));
+            }
             System.exit(isNotEmpty(runTestsResults.getFailedTests()) ? 1 : 0);
 
         } catch (Throwable e) {
@@ -514,6 +552,68 @@ public class SlangBuildMain {
         }
     }
 
+    private static void mergeTestCaseResults(List<String> resultsFiles, String testCaseReportLocation) {
+        if (StringUtils.isBlank(testCaseReportLocation)) {
+            log.error("Test case report location property [" + TEST_CASE_REPORT_LOCATION +
+                    "] must be defined to merge test case results.");
+            System.exit(1);
+        }
+        TestCaseRunResultsService resultsService = new TestCaseRunResultsService();
+        try {
+            List<IRunTestResults> shardResults = new ArrayList<>(resultsFiles.size());
+            TestCaseDurationHistory mergedDurations = new TestCaseDurationHistory();
+            for (String resultsFile : resultsFiles) {
+                log.info("Reading test case results: " + resultsFile);
+                shardResults.add(resultsService.readResults(get(resultsFile)));
+                resultsService.readDurations(get(resultsFile), mergedDurations);
+            }
+            IRunTestResults mergedResults = resultsService.mergeResults(shardResults);
+            generateTestCaseReport(new SlangTestCaseRunReportGeneratorService(), mergedResults,
+                    testCaseReportLocation);
+            resultsService.writeResults(mergedResults, get(testCaseReportLocation, MERGED_RESULTS_FILE_NAME));
+            // for the --shard-durations of the next runs
+            mergedDurations.save(get(testCaseReportLocation));
+            log.info("Merged test case durations: " +
+                    get(testCaseReportLocation, TestCaseDurationHistory.DURATIONS_FILE_NAME));
+
+            log.info("Merged test case results of " + resultsFiles.size() + " shard(s): " +
+                    mergedResults.getPassedTests().size() + " passed, " +
+                    mergedResults.getFailedTests().size() + " failed, " +
+                    mergedResults.getSkippedTests().size() + " skipped");
+            for (String failedTest : mergedResults.getFailedTests().keySet()) {
+                log.error("Failed test: " + failedTest);
+            }
+            System.exit(isNotEmpty(mergedResults.getFailedTests()) ? 1 : 0);
+        } catch (IOException | RuntimeException e) {
+            log.error("Exception: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void loadTestCaseDurationHistory(TestCaseDurationHistory testCaseDurationHistory,
+                                                    String testCaseReportLocation, LoggingService loggingService) {
+        if (StringUtils.isNotBlank(testCaseReportLocation)) {
+            try {
+                testCaseDurationHistory.load(get(testCaseReportLocation));
+            } catch (IOException | RuntimeException e) {
+                loggingService.logEvent(WARN, "Could not load test case durations of previous runs: " +
+                        e.getMessage());
+            }
+        }
+    }
+
+    private static void saveTestCaseDurationHistory(TestCaseDurationHistory testCaseDurationHistory,
+                                                    String testCaseReportLocation, LoggingService loggingService) {
+        if (StringUtils.isNotBlank(testCaseReportLocation)) {
+            try {
+                testCaseDurationHistory.save(get(testCaseReportLocation));
+            } catch (IOException | RuntimeException e) {
+                loggingService.logEvent(WARN, "Could not save test case durations: " + e.getMessage());
+            }
+            loggingService.waitForAllLogTasksToFinish();
+        }
+    }
+
     @SuppressWarnings("Duplicates")
     private static void loadUserProperties() {
         try {
@@ -18,9 +18,12 @@ import io.cloudslang.lang.tools.build.tester.IRunTestResults;
 import io.cloudslang.lang.tools.build.tester.RunTestsResults;
 import io.cloudslang.lang.tools.build.tester.SlangTestRunner;
 import io.cloudslang.lang.tools.build.tester.SlangTestRunner.TestCaseRunState;
+import io.cloudslang.lang.tools.build.tester.TestSessionCache;
 import io.cloudslang.lang.tools.build.tester.parallel.report.ThreadSafeRunTestResults;
 import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
 import io.cloudslang.lang.tools.build.tester.runconfiguration.BuildModeConfig;
+import io.cloudslang.lang.tools.build.tester.runconfiguration.TestCaseShard;
+import io.cloudslang.lang.tools.build.tester.runconfiguration.TestRunInfoService;
 import io.cloudslang.lang.tools.build.verifier.CompileResult;
 import io.cloudslang.lang.tools.build.verifier.PreCompileResult;
 import io.cloudslang.lang.tools.build.verifier.SlangContentVerifier;
@@ -65,6 +68,12 @@ public class SlangBuilder {
     @Autowired
     private LoggingService loggingService;
 
+    @Autowired
+    private TestRunInfoService testRunInfoService;
+
+    @Autowired
+    private TestSessionCache testSessionCache;
+
     public SlangBuildResults buildSlangContent(
             String projectPath,
             String contentPath,
@@ -142,22 +151,26 @@ public class SlangBuilder {
         Map<String, Executable> allTestedFlowModels = new HashMap<>(testFlowModels);
         allTestedFlowModels.putAll(contentSlangModels);
 
-        // Compiling all the test flows
-        CompileResult compileResult = slangContentVerifier.compileSlangModels(allTestedFlowModels);
+        Set<String> allTestedFlowsFqn = mapExecutablesToFullyQualifiedName(allTestedFlowModels.values());
+        Map<String, SlangTestCase> testCases = slangTestRunner.createTestCases(testsPath, allTestedFlowsFqn);
+        BuildModeConfig buildModeConfig = createBuildModeConfig(buildMode, changedFiles, allTestedFlowModels);
+
+        // Compiling the test flows
+        CompileResult compileResult = slangContentVerifier.compileSlangModels(
+                getModelsToCompile(testCases, buildModeConfig, allTestedFlowModels));
         final Map<String, CompilationArtifact> compiledFlows =
                 compileResult.getResults();
 
-        Set<String> allTestedFlowsFqn = mapExecutablesToFullyQualifiedName(allTestedFlowModels.values());
-        Map<String, SlangTestCase> testCases = slangTestRunner.createTestCases(testsPath, allTestedFlowsFqn);
         loggingService.logEvent(Level.INFO, "");
         loggingService.logEvent(Level.INFO, "--- running tests ---");
         loggingService.logEvent(Level.INFO, "Found " + testCases.size() + " tests");
+        testCases = selectShardTestCases(testCases);
         IRunTestResults runTestsResults;
 
-        BuildModeConfig buildModeConfig = createBuildModeConfig(buildMode, changedFiles, allTestedFlowModels);
-
+        testSessionCache.clear();
         runTestsResults =
                 processRunTests(projectPath, testSuites, bulkRunMode, compiledFlows, testCases, buildModeConfig);
+        loggingService.logEvent(Level.INFO, testSessionCache.getSummary());
 
         runTestsResults.addExceptions(preCompileResult.getExceptions());
         runTestsResults.addExceptions(compileResult.getExceptions());
@@ -165,6 +178,41 @@ public class SlangBuilder {
         return runTestsResults;
     }
 
+    /**
+     * In changed build mode only the test flows of the affected test cases are compiled, together with
+     * their dependencies
+     */
+    private Map<String, Executable> getModelsToCompile(Map<String, SlangTestCase> testCases,
+                                                       BuildModeConfig buildModeConfig,
+                                                       Map<String, Executable> allTestedFlowModels) {
+        if (buildModeConfig.getBuildMode() != SlangBuildMain.BuildMode.CHANGED) {
+            return allTestedFlowModels;
+        }
+        Set<String> affectedTestFlows = new HashSet<>();
+        for (SlangTestCase testCase : testCases.values()) {
+            if (testCase != null && buildModeConfig.getImpactedExecutables().contains(testCase.getTestFlowPath())) {
+                affectedTestFlows.add(testCase.getTestFlowPath());
+            }
+        }
+        Map<String, Executable> modelsToCompile =
+                buildModeConfig.getImpactIndex().getModelsWithDependencies(affectedTestFlows);
+        loggingService.logEvent(Level.INFO, "Changed build mode: compiling " + modelsToCompile.size() +
+                " of " + allTestedFlowModels.size() + " executables for " + affectedTestFlows.size() +
+                " affected test flows");
+        return modelsToCompile;
+    }
+
+    private Map<String, SlangTestCase> selectShardTestCases(Map<String, SlangTestCase> testCases) {
+        TestCaseShard testCaseShard = testRunInfoService.getTestCaseShard();
+        if (testCaseShard == null) {
+            return testCases;
+        }
+        Map<String, SlangTestCase> shardTestCases = testCaseShard.selectTestCases(testCases);
+        loggingService.logEvent(Level.INFO, "Shard " + testCaseShard + " contains " + shardTestCases.size() +
+                " of the tests");
+        return shardTestCases;
+    }
+
     private BuildModeConfig createBuildModeConfig(SlangBuildMain.BuildMode buildMode, Set<String> changedFiles,
                                                   Map<String, Executable> allTestedFlowModels) {
         BuildModeConfig buildModeConfig;
@@ -71,6 +71,24 @@ public class ApplicationArgs {
             description = "Run only tests from active suites that were affected by this changelist")
     public String changesOnlyConfigPath;
 
+    @Parameter(names = {"--shard", "-sh"},
+            description = "Run only one shard of the test cases, given as '<index>/<count>', e.g. '2/8'. " +
+                    "Test cases are split between the shards by a hash of their name, or by their durations " +
+                    "if --shard-durations is given")
+    public String shard;
+
+    @Parameter(names = {"--shard-durations", "-sd"},
+            description = "Test case durations file shared by all the shards, e.g. the one written by " +
+                    "--merge-results, used to split the test cases between the shards by their durations")
+    public String shardDurations;
+
+    @Parameter(names = {"--merge-results", "-mr"},
+            description = "Comma-separated list of test case result files of shards to merge into a single " +
+                    "test case report and test case durations file, instead of building the project. Streamed " +
+                    ".jsonl result files of unfinished runs are accepted as well",
+            splitter = CommaParameterSplitter.class)
+    public List<String> mergeResults;
+
     @Parameter(names = {"--help", "-h"}, help = true,
             description = "Display help information")
     private boolean help;
@@ -133,4 +151,16 @@ public class ApplicationArgs {
     public String getChangesOnlyConfigPath() {
         return changesOnlyConfigPath;
     }
+
+    public String getShard() {
+        return shard;
+    }
+
+    public String getShardDurations() {
+        return shardDurations;
+    }
+
+    public List<String> getMergeResults() {
+        return mergeResults;
+    }
 }
@@ -13,9 +13,13 @@ import io.cloudslang.lang.commons.configuration.SlangCommonsSpringConfig;
 import io.cloudslang.lang.logging.LoggingServiceImpl;
 import io.cloudslang.lang.tools.build.SlangBuilder;
 import io.cloudslang.lang.tools.build.tester.SlangTestRunner;
+import io.cloudslang.lang.tools.build.tester.TestSessionCache;
 import io.cloudslang.lang.tools.build.tester.parallel.report.LoggingSlangTestCaseEventListener;
 import io.cloudslang.lang.tools.build.tester.parallel.report.SlangTestCaseRunReportGeneratorService;
+import io.cloudslang.lang.tools.build.tester.parallel.report.StreamingTestCaseReportListener;
+import io.cloudslang.lang.tools.build.tester.parallel.report.TestCaseRunResultsService;
 import io.cloudslang.lang.tools.build.tester.parallel.services.ParallelTestCaseExecutorService;
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
 import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseEventDispatchService;
 import io.cloudslang.lang.tools.build.tester.parse.TestCasesYamlParser;
 import io.cloudslang.lang.tools.build.tester.runconfiguration.TestRunInfoServiceImpl;
@@ -50,6 +54,11 @@ public class SlangBuildSpringConfiguration {
         return new SlangTestRunner();
     }
 
+    @Bean
+    public TestSessionCache testSessionCache() {
+        return new TestSessionCache();
+    }
+
     @Bean
     public TestCasesYamlParser parser() {
         return new TestCasesYamlParser();
@@ -65,11 +74,26 @@ public class SlangBuildSpringConfiguration {
         return new TestCaseEventDispatchService();
     }
 
+    @Bean
+    public TestCaseDurationHistory testCaseDurationHistory() {
+        return new TestCaseDurationHistory();
+    }
+
     @Bean
     public SlangTestCaseRunReportGeneratorService reportGeneratorService() {
         return new SlangTestCaseRunReportGeneratorService();
     }
 
+    @Bean
+    public TestCaseRunResultsService testCaseRunResultsService() {
+        return new TestCaseRunResultsService();
+    }
+
+    @Bean
+    public StreamingTestCaseReportListener streamingTestCaseReportListener() {
+        return new StreamingTestCaseReportListener();
+    }
+
     @Bean
     public TestRunInfoServiceImpl runConfigurationService() {
         return new TestRunInfoServiceImpl();
@@ -11,7 +11,6 @@ package io.cloudslang.lang.tools.build.tester;
 
 import io.cloudslang.lang.api.Slang;
 import io.cloudslang.lang.compiler.SlangSource;
-import io.cloudslang.lang.compiler.modeller.DependenciesHelper;
 import io.cloudslang.lang.compiler.modeller.model.Executable;
 import io.cloudslang.lang.entities.CompilationArtifact;
 import io.cloudslang.lang.entities.ScoreLangConstants;
@@ -23,8 +22,10 @@ import io.cloudslang.lang.tools.build.SlangBuildMain.TestCaseRunMode;
 import io.cloudslang.lang.logging.LoggingService;
 import io.cloudslang.lang.tools.build.tester.parallel.MultiTriggerTestCaseEventListener;
 import io.cloudslang.lang.tools.build.tester.parallel.report.LoggingSlangTestCaseEventListener;
+import io.cloudslang.lang.tools.build.tester.parallel.report.StreamingTestCaseReportListener;
 import io.cloudslang.lang.tools.build.tester.parallel.report.ThreadSafeRunTestResults;
 import io.cloudslang.lang.tools.build.tester.parallel.services.ParallelTestCaseExecutorService;
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
 import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseEventDispatchService;
 import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.FailedSlangTestCaseEvent;
 import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
@@ -44,6 +45,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
 import org.apache.commons.collections4.CollectionUtils;
@@ -60,6 +62,7 @@ import static java.lang.Long.parseLong;
 import static java.lang.String.valueOf;
 import static java.lang.System.getProperty;
 import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.commons.collections4.CollectionUtils.containsAny;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
@@ -70,6 +73,7 @@ public class SlangTestRunner {
     private static final String PROJECT_PATH_TOKEN = "${project_path}";
     public static final long MAX_TIME_PER_TESTCASE_IN_MINUTES = 10;
     public static final String TEST_CASE_TIMEOUT_IN_MINUTES_KEY = "test.case.timeout.in.minutes";
+    public static final String TEST_RUN_TARGET_WALL_TIME_IN_SECONDS_KEY = "test.run.target.wall.time.in.seconds";
     public static final String PREFIX_DASH = "    - ";
 
     @Autowired
@@ -87,15 +91,21 @@ public class SlangTestRunner {
     @Autowired
     private TestRunInfoService testRunInfoService;
 
-    @Autowired
-    private DependenciesHelper dependenciesHelper;
-
     @Autowired
     private LoggingService loggingService;
 
     @Autowired
     private LoggingSlangTestCaseEventListener loggingSlangTestCaseEventListener;
 
+    @Autowired
+    private TestCaseDurationHistory testCaseDurationHistory;
+
+    @Autowired
+    private TestSessionCache testSessionCache;
+
+    @Autowired
+    private StreamingTestCaseReportListener streamingTestCaseReportListener;
+
     private String[] testCaseFileExtensions = {"yaml", "yml"};
     private static final String TEST_CASE_PASSED = "Test case passed: ";
     private static final String TEST_CASE_FAILED = "Test case failed: ";
@@ -178,9 +188,13 @@ public class SlangTestRunner {
             try {
                 CompilationArtifact compiledTestFlow = getCompiledTestFlow(compiledFlows, testCase);
                 runTest(testCase, compiledTestFlow, projectPath);
-                runTestsResults.addPassedTest(testCase.getName(), new TestRun(testCase, null));
+                TestRun testRun = new TestRun(testCase, null);
+                runTestsResults.addPassedTest(testCase.getName(), testRun);
+                streamingTestCaseReportListener.addPassedTest(testCase.getName(), testRun);
             } catch (RuntimeException e) {
-                runTestsResults.addFailedTest(testCase.getName(), new TestRun(testCase, e.getMessage()));
+                TestRun testRun = new TestRun(testCase, e.getMessage());
+                runTestsResults.addFailedTest(testCase.getName(), testRun);
+                streamingTestCaseReportListener.addFailedTest(testCase.getName(), testRun);
             }
         }
     }
@@ -196,13 +210,21 @@ public class SlangTestRunner {
         testCaseEventDispatchService.unregisterAllListeners();
         testCaseEventDispatchService.registerListener(runTestsResults); // for gathering of report data
         testCaseEventDispatchService.registerListener(loggingSlangTestCaseEventListener); // for logging purpose
+        testCaseEventDispatchService.registerListener(testCaseDurationHistory); // for ordering of the next runs
+        testCaseEventDispatchService.registerListener(streamingTestCaseReportListener); // for the report
 
         MultiTriggerTestCaseEventListener multiTriggerTestCaseEventListener = new MultiTriggerTestCaseEventListener();
         slang.subscribeOnEvents(multiTriggerTestCaseEventListener, createListenerEventTypesSet());
         try {
+            // only as many threads as the recorded durations need to fit in the target wall time, if one is set
+            int threadCount = parallelTestCaseExecutorService.setThreadCount(testCaseDurationHistory.getConcurrency(
+                    testCases.values(), SECONDS.toMillis(getTargetWallTimeInSeconds()),
+                    parallelTestCaseExecutorService.getMaxThreadCount()));
+            loggingService.logEvent(Level.INFO, "Running the test cases on " + threadCount + " thread(s)");
+
+            // longest test cases first, so that the run is not prolonged by a long test case picked up last
             Map<SlangTestCase, Future<?>> testCaseFutures = new LinkedHashMap<>();
-            for (Map.Entry<String, SlangTestCase> testCaseEntry : testCases.entrySet()) {
-                SlangTestCase testCase = testCaseEntry.getValue();
+            for (SlangTestCase testCase : testCaseDurationHistory.orderByDuration(testCases.values())) {
                 SlangTestCaseRunnable slangTestCaseRunnable =
                         new SlangTestCaseRunnable(testCase, compiledFlows, projectPath, this,
                                 testCaseEventDispatchService, multiTriggerTestCaseEventListener);
@@ -274,7 +296,7 @@ public class SlangTestRunner {
 
             if (isTestCaseInActiveSuite(testCase, testSuites) &&
                     isEnabledByBuildMode(buildModeConfig.getBuildMode(), testCase,
-                            buildModeConfig.getChangedFiles(), buildModeConfig.getAllTestedFlowModels())) {
+                            buildModeConfig.getImpactedExecutables(), buildModeConfig.getAllTestedFlowModels())) {
                 processActiveTest(bulkRunMode, resultMap, testCaseEntry, testCase);
             } else {
                 processSkippedTest(runTestsResults, testCaseEntry, testCase, resultMap);
@@ -287,27 +309,27 @@ public class SlangTestRunner {
     private boolean isEnabledByBuildMode(
             SlangBuildMain.BuildMode buildMode,
             SlangTestCase slangTestCase,
-            Set<String> changedExecutables,
+            Set<String> impactedExecutables,
             Map<String, Executable> allTestedFlowModels) {
         return (buildMode == SlangBuildMain.BuildMode.BASIC) ||
                 (buildMode == SlangBuildMain.BuildMode.CHANGED &&
-                        isAffectedTestCase(slangTestCase, changedExecutables, allTestedFlowModels));
+                        isAffectedTestCase(slangTestCase, impactedExecutables, allTestedFlowModels));
     }
 
-    private boolean isAffectedTestCase(SlangTestCase slangTestCase, Set<String> changedExecutables,
+    private boolean isAffectedTestCase(SlangTestCase slangTestCase, Set<String> impactedExecutables,
                                        Map<String, Executable> allTestedFlowModels) {
         String testFlowPath = slangTestCase.getTestFlowPath();
-        Executable testCaseReference = allTestedFlowModels.get(testFlowPath);
-        if (testCaseReference == null) {
+        if (!allTestedFlowModels.containsKey(testFlowPath)) {
             throw new RuntimeException("Test case reference[" + testFlowPath + "] not found in compiled models.");
         }
-        Set<String> testCaseDependencies = dependenciesHelper.fetchDependencies(testCaseReference, allTestedFlowModels);
-        testCaseDependencies.add(testFlowPath);
-        return containsAny(testCaseDependencies, changedExecutables);
+        // the impacted executables already include everything that transitively reaches a changed executable
+        return impactedExecutables.contains(testFlowPath);
     }
 
     private void processQuickFailTest(final IRunTestResults runTestsResults) {
-        runTestsResults.addFailedTest(UNAVAILABLE_NAME, new TestRun(null, "Test case cannot be null"));
+        TestRun testRun = new TestRun(null, "Test case cannot be null");
+        runTestsResults.addFailedTest(UNAVAILABLE_NAME, testRun);
+        streamingTestCaseReportListener.addFailedTest(UNAVAILABLE_NAME, testRun);
     }
 
     private void processActiveTest(final BulkRunMode bulkRunMode, final Map<TestCaseRunState,
@@ -336,7 +358,9 @@ public class SlangTestRunner {
                 " because it is not in active test suites";
         loggingService.logEvent(Level.INFO, message);
 
-        runTestsResults.addSkippedTest(testCase.getName(), new TestRun(testCase, message));
+        TestRun testRun = new TestRun(testCase, message);
+        runTestsResults.addSkippedTest(testCase.getName(), testRun);
+        streamingTestCaseReportListener.addSkippedTest(testCase.getName(), testRun);
         resultMap.get(TestCaseRunState.INACTIVE).put(testCaseEntry.getKey(), testCaseEntry.getValue());
     }
 
@@ -351,6 +375,17 @@ public class SlangTestRunner {
         }
     }
 
+    private long getTargetWallTimeInSeconds() {
+        try {
+            return parseLong(getProperty(TEST_RUN_TARGET_WALL_TIME_IN_SECONDS_KEY, "0"));
+        } catch (NumberFormatException nfEx) {
+            loggingService.logEvent(Level.WARN,
+                    String.format("Misconfigured target wall time '%s'. Using the configured thread count.",
+                            getProperty(TEST_RUN_TARGET_WALL_TIME_IN_SECONDS_KEY)));
+            return 0;
+        }
+    }
+
     public boolean isTestCaseInActiveSuite(SlangTestCase testCase, List<String> testSuites) {
         return (isEmpty(testCase.getTestSuites()) && testSuites.contains(SlangBuildMain.DEFAULT_TESTS)) ||
                 containsAny(testSuites, testCase.getTestSuites());
@@ -413,7 +448,7 @@ public class SlangTestRunner {
             return new HashSet<>();
         }
         systemPropertiesFile = StringUtils.replace(systemPropertiesFile, PROJECT_PATH_TOKEN, projectPath);
-        return parser.parseProperties(systemPropertiesFile);
+        return testSessionCache.getSystemProperties(systemPropertiesFile, parser::parseProperties);
     }
 
     private Map<String, Value> getTestCaseInputsMap(SlangTestCase testCase) {
@@ -462,10 +497,11 @@ public class SlangTestRunner {
 
         Long executionId = slang.run(compilationArtifact, inputs, systemProperties);
 
-        while (!testsEventListener.isFlowFinished()) {
-            poll();
+        try {
+            awaitFlowCompletion(testsEventListener.getFlowCompletion(), testCase);
+        } finally {
+            slang.unSubscribeOnEvents(testsEventListener);
         }
-        slang.unSubscribeOnEvents(testsEventListener);
 
         String errorMessageFlowExecution = testsEventListener.getErrorMessage();
 
@@ -512,12 +548,18 @@ public class SlangTestRunner {
 
         Long executionId = slang.run(compilationArtifact, inputs, systemProperties);
 
-        while (!globalListener.isFlowFinishedByExecutionId(executionId)) {
-            poll();
+        String errorMessageFlowExecution;
+        String executionResult;
+        Map<String, Serializable> executionOutputs;
+        try {
+            awaitFlowCompletion(globalListener.getFlowCompletionByExecutionId(executionId), testCase);
+            errorMessageFlowExecution = globalListener.getErrorMessageByExecutionId(executionId);
+            executionResult = globalListener.getResultByExecutionId(executionId);
+            executionOutputs = globalListener.getOutputsByExecutionId(executionId);
+        } finally {
+            globalListener.removeByExecutionId(executionId);
         }
 
-        String errorMessageFlowExecution = globalListener.getErrorMessageByExecutionId(executionId);
-
         String message;
         String testCaseReference = SlangTestCase.generateTestCaseReference(testCase);
 
@@ -534,7 +576,6 @@ public class SlangTestRunner {
             throw new RuntimeException(message);
         }
 
-        String executionResult = globalListener.getResultByExecutionId(executionId);
         if (result != null && !result.equals(executionResult)) {
             message = TEST_CASE_FAILED + testCaseReference + " - " + testCase.getDescription() +
                     "\n\tExpected result: " + result + "\n\tActual result: " + executionResult;
@@ -542,7 +583,6 @@ public class SlangTestRunner {
             throw new RuntimeException(message);
         }
 
-        Map<String, Serializable> executionOutputs = globalListener.getOutputsByExecutionId(executionId);
         handleTestCaseFailuresFromOutputs(testCase, testCaseReference, outputs, executionOutputs);
 
         loggingService.logEvent(Level.INFO, TEST_CASE_PASSED + testCaseReference +
@@ -566,10 +606,16 @@ public class SlangTestRunner {
         return executionId;
     }
 
-    private void poll() {
+    private void awaitFlowCompletion(Future<Void> flowCompletion, SlangTestCase testCase) {
         try {
-            Thread.sleep(200);
-        } catch (InterruptedException ignore) {
+            flowCompletion.get(getTestCaseTimeoutInMinutes(), MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for test case " + testCase.getName(), e);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Timeout reached for test case " + testCase.getName(), e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
         }
     }
 
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.cloudslang.lang.entities.SystemProperty;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches the system properties files used by the test cases of a test session, so a file shared by many
+ * test cases is read and parsed only once. The cached system properties are immutable and shared between
+ * the test case threads.
+ */
+public class TestSessionCache {
+
+    private final Cache<String, Set<SystemProperty>> systemPropertiesFiles = CacheBuilder.newBuilder()
+            .concurrencyLevel(2 * Runtime.getRuntime().availableProcessors())
+            .build();
+
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong reuseCount = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+
+    /**
+     * @param systemPropertiesFile the path of the system properties file
+     * @param loader               reads and parses the file when it is not cached yet
+     * @return the system properties of the file
+     */
+    public Set<SystemProperty> getSystemProperties(final String systemPropertiesFile,
+                                                   final Function<String, Set<SystemProperty>> loader) {
+        final boolean[] loaded = new boolean[1];
+        try {
+            Set<SystemProperty> systemProperties = systemPropertiesFiles.get(systemPropertiesFile, () -> {
+                long start = System.nanoTime();
+                final Set<SystemProperty> loadedProperties = Collections.unmodifiableSet(
+                        new HashSet<>(loader.apply(systemPropertiesFile)));
+                loadNanos.addAndGet(System.nanoTime() - start);
+                loadCount.incrementAndGet();
+                loaded[0] = true;
+                return loadedProperties;
+            });
+            if (!loaded[0]) {
+                reuseCount.incrementAndGet();
+            }
+            return systemProperties;
+        } catch (UncheckedExecutionException | ExecutionError e) {
+            throw propagate(e.getCause());
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getReuseCount() {
+        return reuseCount.get();
+    }
+
+    /**
+     * @return the time saved by reusing the cached files, estimated by their average load time
+     */
+    public long getEstimatedSavedMillis() {
+        long loads = loadCount.get();
+        return loads == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(reuseCount.get() * (loadNanos.get() / loads));
+    }
+
+    public String getSummary() {
+        return "Test session cache: loaded " + getLoadCount() + " system properties file(s), reused them " +
+                getReuseCount() + " time(s), saving about " + getEstimatedSavedMillis() + " ms";
+    }
+
+    /**
+     * Starts a new test session, forgetting the cached files and the statistics.
+     */
+    public void clear() {
+        systemPropertiesFiles.invalidateAll();
+        loadCount.set(0);
+        reuseCount.set(0);
+        loadNanos.set(0);
+    }
+
+    private RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new RuntimeException(cause);
+    }
+
+}
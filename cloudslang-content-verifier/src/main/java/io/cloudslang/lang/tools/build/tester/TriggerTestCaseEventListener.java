@@ -19,7 +19,7 @@ import io.cloudslang.score.events.ScoreEventListener;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.collections4.MapUtils;
@@ -34,7 +34,7 @@ public class TriggerTestCaseEventListener implements ScoreEventListener {
     public static final String EXEC_START_PATH = "0";
 
 
-    private AtomicBoolean flowFinished = new AtomicBoolean(false);
+    private final CompletableFuture<Void> flowCompletion = new CompletableFuture<>();
     private AtomicReference<String> errorMessage = new AtomicReference<>("");
     private String result;
     private Map<String, Serializable> outputs = new HashMap<>();
@@ -48,7 +48,11 @@ public class TriggerTestCaseEventListener implements ScoreEventListener {
     }
 
     public boolean isFlowFinished() {
-        return flowFinished.get();
+        return flowCompletion.isDone();
+    }
+
+    public CompletableFuture<Void> getFlowCompletion() {
+        return flowCompletion;
     }
 
     public String getErrorMessage() {
@@ -67,12 +71,12 @@ public class TriggerTestCaseEventListener implements ScoreEventListener {
             case EventConstants.SCORE_FAILURE_EVENT:
                 errorMessage.set(data.get(EventConstants.SCORE_ERROR_LOG_MSG) + " , " +
                         data.get(EventConstants.SCORE_ERROR_MSG));
-                flowFinished.set(true);
+                flowCompletion.complete(null);
                 break;
             case ScoreLangConstants.EVENT_EXECUTION_FINISHED:
                 eventData = (LanguageEventData) data;
                 result = eventData.getResult();
-                flowFinished.set(true);
+                flowCompletion.complete(null);
                 break;
             case ScoreLangConstants.EVENT_OUTPUT_END:
                 eventData = (LanguageEventData) data;
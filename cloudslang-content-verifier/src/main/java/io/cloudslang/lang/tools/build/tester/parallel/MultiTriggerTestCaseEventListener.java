@@ -9,13 +9,16 @@
  *******************************************************************************/
 package io.cloudslang.lang.tools.build.tester.parallel;
 
+import com.google.common.cache.CacheBuilder;
 import io.cloudslang.lang.runtime.events.LanguageEventData;
 import io.cloudslang.lang.tools.build.tester.TriggerTestCaseEventListener;
 import io.cloudslang.score.events.ScoreEvent;
 import io.cloudslang.score.events.ScoreEventListener;
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import org.apache.commons.collections4.MapUtils;
 
 import static io.cloudslang.lang.entities.ScoreLangConstants.EVENT_EXECUTION_FINISHED;
@@ -27,65 +30,104 @@ import static io.cloudslang.score.events.EventConstants.SCORE_FAILURE_EVENT;
 import static io.cloudslang.score.events.EventConstants.SCORE_FINISHED_EVENT;
 
 
+/**
+ * Collects the outcome of the test flows running in parallel, in one state object per execution id.
+ * Events of different executions are handled without a shared lock, and the state of an execution is
+ * dropped once the test runner consumed it through {@link #removeByExecutionId(Long)}.
+ * <p>
+ * The first event of an execution may arrive before the test runner asks for its completion, so events create
+ * the state of their execution. A failed execution fires a SCORE_FAILURE_EVENT after its SCORE_ERROR_EVENT,
+ * possibly after the state was consumed, so the ids of the recently consumed executions are kept and their
+ * events are ignored instead of creating the state again.
+ */
 public class MultiTriggerTestCaseEventListener implements ScoreEventListener {
 
     public static final String SYSTEM_CONTEXT = "systemContext";
     public static final String EXECUTION_ID_CONTEXT = "executionIdContext";
-    private Map<Long, Boolean> flowFinishedMap;
-    private Map<Long, String> errorMessageMap;
-    private Map<Long, String> resultMap;
-    private Map<Long, Map<String, Serializable>> outputsMap;
-
-    public MultiTriggerTestCaseEventListener() {
-        flowFinishedMap = new HashMap<>();
-        errorMessageMap = new HashMap<>();
-        resultMap = new HashMap<>();
-        outputsMap = new HashMap<>();
-    }
+    private static final int MAX_CONSUMED_EXECUTION_IDS = 10000;
+
+    private final Map<Long, ExecutionState> executionStates = new ConcurrentHashMap<>();
+    private final Map<Long, Boolean> consumedExecutionIds = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CONSUMED_EXECUTION_IDS)
+            .<Long, Boolean>build()
+            .asMap();
 
     public String getResultByExecutionId(Long executionId) {
-        return resultMap.get(executionId);
+        ExecutionState executionState = executionStates.get(executionId);
+        return executionState == null ? null : executionState.result;
     }
 
     public boolean isFlowFinishedByExecutionId(Long executionId) {
-        Boolean flowFinished = flowFinishedMap.get(executionId);
-        return (flowFinished != null) && flowFinished;
+        ExecutionState executionState = executionStates.get(executionId);
+        return (executionState != null) && executionState.flowCompletion.isDone();
+    }
+
+    /**
+     * @param executionId the id of the execution
+     * @return a future completed once the execution finished, also when it finished before this call
+     */
+    public CompletableFuture<Void> getFlowCompletionByExecutionId(Long executionId) {
+        return getExecutionState(executionId).flowCompletion;
     }
 
     public String getErrorMessageByExecutionId(Long executionId) {
-        return errorMessageMap.get(executionId);
+        ExecutionState executionState = executionStates.get(executionId);
+        return executionState == null ? null : executionState.errorMessage;
+    }
+
+    public Map<String, Serializable> getOutputsByExecutionId(Long executionId) {
+        ExecutionState executionState = executionStates.get(executionId);
+        return executionState == null ? null : executionState.outputs;
+    }
+
+    /**
+     * Drops the state of an execution whose outcome was consumed.
+     *
+     * @param executionId the id of the execution
+     */
+    public void removeByExecutionId(Long executionId) {
+        consumedExecutionIds.put(executionId, Boolean.TRUE);
+        executionStates.remove(executionId);
+    }
+
+    int getExecutionCount() {
+        return executionStates.size();
     }
 
     @Override
-    public synchronized void onEvent(ScoreEvent scoreEvent) throws InterruptedException {
+    public void onEvent(ScoreEvent scoreEvent) throws InterruptedException {
         @SuppressWarnings("unchecked")
         Map<String, Serializable> data = (Map<String, Serializable>) scoreEvent.getData();
         LanguageEventData eventData;
         Long executionId = (data instanceof LanguageEventData) ? (((LanguageEventData) data).getExecutionId()) :
                 (Long) ((Map) data.get(SYSTEM_CONTEXT)).get(EXECUTION_ID_CONTEXT);
 
-
         switch (scoreEvent.getEventType()) {
             case SCORE_FINISHED_EVENT:
                 break;
             case SCORE_ERROR_EVENT:
             case SCORE_FAILURE_EVENT:
-                String errorMessage = data.get(SCORE_ERROR_LOG_MSG) + " , " + data.get(SCORE_ERROR_MSG);
-                errorMessageMap.put(executionId, errorMessage);
-                flowFinishedMap.put(executionId, true);
+                final String errorMessage = data.get(SCORE_ERROR_LOG_MSG) + " , " + data.get(SCORE_ERROR_MSG);
+                updateExecutionState(executionId, executionState -> {
+                    executionState.errorMessage = errorMessage;
+                    executionState.flowCompletion.complete(null);
+                });
                 break;
 
             case EVENT_EXECUTION_FINISHED:
-                eventData = (LanguageEventData) data;
-                resultMap.put(executionId, eventData.getResult());
-                flowFinishedMap.put(executionId, true);
+                final String result = ((LanguageEventData) data).getResult();
+                updateExecutionState(executionId, executionState -> {
+                    executionState.result = result;
+                    executionState.flowCompletion.complete(null);
+                });
                 break;
 
             case EVENT_OUTPUT_END:
                 eventData = (LanguageEventData) data;
-                Map<String, Serializable> extractOutputs = TriggerTestCaseEventListener.extractOutputs(eventData);
+                final Map<String, Serializable> extractOutputs =
+                        TriggerTestCaseEventListener.extractOutputs(eventData);
                 if (MapUtils.isNotEmpty(extractOutputs)) {
-                    outputsMap.put(executionId, extractOutputs);
+                    updateExecutionState(executionId, executionState -> executionState.outputs = extractOutputs);
                 }
                 break;
             default:
@@ -93,8 +135,29 @@ public class MultiTriggerTestCaseEventListener implements ScoreEventListener {
         }
     }
 
-    public Map<String, Serializable> getOutputsByExecutionId(Long executionId) {
-        return outputsMap.get(executionId);
+    private ExecutionState getExecutionState(Long executionId) {
+        return executionStates.computeIfAbsent(executionId, id -> new ExecutionState());
+    }
+
+    private void updateExecutionState(Long executionId, Consumer<ExecutionState> update) {
+        if (consumedExecutionIds.containsKey(executionId)) {
+            return;
+        }
+        ExecutionState executionState = getExecutionState(executionId);
+        update.accept(executionState);
+        // the state may have been consumed while the event was handled, after the check above
+        if (consumedExecutionIds.containsKey(executionId)) {
+            executionStates.remove(executionId, executionState);
+        }
+    }
+
+    private static class ExecutionState {
+
+        private final CompletableFuture<Void> flowCompletion = new CompletableFuture<>();
+        // written before the completion of the flow, so they are visible to whoever waited for it
+        private volatile String errorMessage;
+        private volatile String result;
+        private volatile Map<String, Serializable> outputs;
     }
 
 }
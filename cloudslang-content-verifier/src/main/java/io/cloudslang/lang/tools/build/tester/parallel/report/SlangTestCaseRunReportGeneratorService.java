@@ -96,25 +96,31 @@ public class SlangTestCaseRunReportGeneratorService {
 
 
     public void generateReport(IRunTestResults iRunTestResults, String reportDirectory) throws IOException {
+        try (Writer writer = createReportWriter(reportDirectory)) {
+            HtmlCanvas reportPageBody = appendReportPageStart(new HtmlCanvas(writer), reportDirectory);
+            generatePiechart(reportPageBody, iRunTestResults);
+            generateTestCaseReportTable(reportPageBody, iRunTestResults);
+        }
+    }
+
+    Writer createReportWriter(String reportDirectory) throws IOException {
         String reportFileName = String.format(TEST_CASE_REPORT_NAME + FORMATTER_STRING +
                 REPORT_EXTENSION, valueOf(currentTimeMillis()));
         Path path = Paths.get(reportDirectory, reportFileName);
+        return new PrintWriter(new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(path.toFile(), false), UTF_8)));
+    }
 
-        try (Writer writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(
-                new FileOutputStream(path.toFile(), false), UTF_8)))) {
-            HtmlCanvas reportPage = new HtmlCanvas(writer);
-
-            HtmlCanvas reportPageHtml = reportPage.html();
-            appendReportPageHead(reportPageHtml);
+    HtmlCanvas appendReportPageStart(HtmlCanvas reportPage, String reportDirectory) throws IOException {
+        HtmlCanvas reportPageHtml = reportPage.html();
+        appendReportPageHead(reportPageHtml);
 
-            HtmlCanvas reportPageBody = reportPageHtml.body();
-            createResourcesFolder(reportDirectory);
-            copyResources(reportDirectory);
+        HtmlCanvas reportPageBody = reportPageHtml.body();
+        createResourcesFolder(reportDirectory);
+        copyResources(reportDirectory);
 
-            generateHeader(reportPageBody, CURRENT_DIRECTORY + RES + SLASH + CLOUD_SLANG_LOGO_PNG);
-            generatePiechart(reportPageBody, iRunTestResults);
-            generateTestCaseReportTable(reportPageBody, iRunTestResults);
-        }
+        generateHeader(reportPageBody, CURRENT_DIRECTORY + RES + SLASH + CLOUD_SLANG_LOGO_PNG);
+        return reportPageBody;
     }
 
     void appendReportPageHead(HtmlCanvas reportPageHtml) throws IOException {
@@ -126,14 +132,16 @@ public class SlangTestCaseRunReportGeneratorService {
     }
 
     private void generatePiechart(HtmlCanvas reportPageBody, IRunTestResults iRunTestResults) throws IOException {
+        generatePiechart(reportPageBody, iRunTestResults.getPassedTests().size(),
+                iRunTestResults.getFailedTests().size(), iRunTestResults.getSkippedTests().size());
+    }
+
+    void generatePiechart(HtmlCanvas reportPageBody, int passedCount, int failedCount,
+                          int skippedCount) throws IOException {
         HtmlCanvas divSummary = reportPageBody.div();
         divSummary.div(new HtmlAttributes().id(PIECHART_ID))._div();
         HtmlCanvas divTestSummary = divSummary.div(new HtmlAttributes().class_(TEST_SUMMARY_CLASS));
 
-        int passedCount = iRunTestResults.getPassedTests().size();
-        int skippedCount = iRunTestResults.getSkippedTests().size();
-        int failedCount = iRunTestResults.getFailedTests().size();
-
         divTestSummary.h2().content(format(PASSED_TESTS, passedCount));
         divTestSummary.h2().content(format(FAILED_TESTS, failedCount));
         divTestSummary.h2().content(format(SKIPPED_TESTS, skippedCount));
@@ -185,6 +193,14 @@ public class SlangTestCaseRunReportGeneratorService {
     }
 
     public void generateTestCaseReportTable(HtmlCanvas htmlCanvas, IRunTestResults iRunTestResults) throws IOException {
+        HtmlCanvas table = appendTestCaseReportTableHeader(htmlCanvas);
+
+        appendTestRuns(table, iRunTestResults.getPassedTests(), PASSED);
+        appendTestRuns(table, iRunTestResults.getFailedTests(), FAILED);
+        appendTestRuns(table, iRunTestResults.getSkippedTests(), SKIPPED);
+    }
+
+    HtmlCanvas appendTestCaseReportTableHeader(HtmlCanvas htmlCanvas) throws IOException {
         HtmlCanvas table = htmlCanvas.table(new HtmlAttributes().class_(TABLE_CLASS));
         table.tr().th().content(TEST_NAME)
                 .th(getClass(TEST_SUITES_CSS_CLASS)).content(TEST_SUITE)
@@ -194,10 +210,7 @@ public class SlangTestCaseRunReportGeneratorService {
                 .th().content(OUTPUTS)
                 .th().content(EXCEPTION_OR_MESSAGE)
                 ._tr();
-
-        appendTestRuns(table, iRunTestResults.getPassedTests(), PASSED);
-        appendTestRuns(table, iRunTestResults.getFailedTests(), FAILED);
-        appendTestRuns(table, iRunTestResults.getSkippedTests(), SKIPPED);
+        return table;
     }
 
     void appendTestRuns(HtmlCanvas table, Map<String, TestRun> tests, String result) throws IOException {
@@ -208,8 +221,8 @@ public class SlangTestCaseRunReportGeneratorService {
         }
     }
 
-    private void appendTestRunRowToTable(HtmlCanvas table, TestRun testRun,
-                                         SlangTestCase testCase, String result) throws IOException {
+    void appendTestRunRowToTable(HtmlCanvas table, TestRun testRun,
+                                 SlangTestCase testCase, String result) throws IOException {
         table.tr().td().content(testCase.getName())
                 .td(getClass(TEST_SUITES_CSS_CLASS)).content(getTestSuites(testCase))
                 .td(getClass(STATUS_CSS_CLASS)).content(result)
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.parallel.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.cloudslang.lang.tools.build.tester.ISlangTestCaseEventListener;
+import io.cloudslang.lang.tools.build.tester.TestRun;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.FailedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.PassedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.SkippedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.SlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+import org.rendersnake.HtmlCanvas;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.cloudslang.lang.tools.build.tester.parallel.report.SlangTestCaseRunReportGeneratorService.FAILED;
+import static io.cloudslang.lang.tools.build.tester.parallel.report.SlangTestCaseRunReportGeneratorService.PASSED;
+import static io.cloudslang.lang.tools.build.tester.parallel.report.SlangTestCaseRunReportGeneratorService.SKIPPED;
+import static java.lang.String.valueOf;
+import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.ENGLISH;
+
+/**
+ * Writes the test case report while the tests run, instead of building it from the results at the end.
+ * <p>
+ * Every result is appended to the Html report and, one JSON object per line, to a results file as soon as it
+ * is received, and both files are flushed right away. Only the result counts are kept in memory, and the
+ * results written so far survive a build which does not finish. The summary of the Html report is written
+ * when the listener is closed.
+ */
+public class StreamingTestCaseReportListener implements ISlangTestCaseEventListener, Closeable {
+
+    public static final String STREAMED_RESULTS_FILE_NAME = "test-case-results_%s" +
+            TestCaseRunResultsService.STREAMED_RESULTS_FILE_EXTENSION;
+
+    @Autowired
+    private SlangTestCaseRunReportGeneratorService reportGeneratorService;
+
+    @Autowired
+    private TestCaseRunResultsService testCaseRunResultsService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Writer reportWriter;
+    private HtmlCanvas reportPageBody;
+    private HtmlCanvas reportTable;
+    private Writer resultsWriter;
+
+    private int passedCount;
+    private int failedCount;
+    private int skippedCount;
+    private IOException writeFailure;
+
+    /**
+     * Starts the report of a test run, writing the report header and the header of the test case table.
+     *
+     * @param reportDirectory the directory of the report, created if it does not exist
+     */
+    public synchronized void open(String reportDirectory) throws IOException {
+        if (isOpen()) {
+            throw new IllegalStateException("Test case report is already open");
+        }
+        Path reportDirectoryPath = Paths.get(reportDirectory);
+        Files.createDirectories(reportDirectoryPath);
+        passedCount = 0;
+        failedCount = 0;
+        skippedCount = 0;
+        writeFailure = null;
+        resultsWriter = Files.newBufferedWriter(reportDirectoryPath.resolve(
+                String.format(STREAMED_RESULTS_FILE_NAME, valueOf(currentTimeMillis()))), UTF_8);
+        reportWriter = reportGeneratorService.createReportWriter(reportDirectory);
+        reportPageBody = reportGeneratorService.appendReportPageStart(new HtmlCanvas(reportWriter), reportDirectory);
+        reportTable = reportGeneratorService.appendTestCaseReportTableHeader(reportPageBody);
+        reportWriter.flush();
+    }
+
+    public synchronized boolean isOpen() {
+        return reportWriter != null;
+    }
+
+    public void addPassedTest(String testCaseName, TestRun testRun) {
+        appendTestRun(testCaseName, testRun, PASSED);
+    }
+
+    public void addFailedTest(String testCaseName, TestRun testRun) {
+        appendTestRun(testCaseName, testRun, FAILED);
+    }
+
+    public void addSkippedTest(String testCaseName, TestRun testRun) {
+        appendTestRun(testCaseName, testRun, SKIPPED);
+    }
+
+    @Override
+    public void onEvent(SlangTestCaseEvent event) {
+        SlangTestCase slangTestCase = event.getSlangTestCase();
+        if (event instanceof FailedSlangTestCaseEvent) {
+            addFailedTest(slangTestCase.getName(),
+                    new TestRun(slangTestCase, ((FailedSlangTestCaseEvent) event).getFailureReason()));
+        } else if (event instanceof PassedSlangTestCaseEvent) {
+            addPassedTest(slangTestCase.getName(), new TestRun(slangTestCase, null));
+        } else if (event instanceof SkippedSlangTestCaseEvent) {
+            addSkippedTest(slangTestCase.getName(), new TestRun(slangTestCase,
+                    "Skipping test: " + SlangTestCase.generateTestCaseReference(slangTestCase) +
+                            " because it is not in active test suites"));
+        }
+    }
+
+    /**
+     * Writes the summary of the report and closes the report files. Does nothing if the report is not open.
+     *
+     * @throws IOException if the report could not be written, including a failure while the tests ran
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!isOpen()) {
+            return;
+        }
+        try (Writer report = reportWriter; Writer results = resultsWriter) {
+            reportTable._table();
+            reportGeneratorService.generatePiechart(reportPageBody, passedCount, failedCount, skippedCount);
+            reportPageBody._body()._html();
+            if (writeFailure != null) {
+                throw writeFailure;
+            }
+        } finally {
+            reportWriter = null;
+            reportPageBody = null;
+            reportTable = null;
+            resultsWriter = null;
+        }
+    }
+
+    private synchronized void appendTestRun(String testCaseName, TestRun testRun, String status) {
+        if (!isOpen() || writeFailure != null) {
+            return;
+        }
+        try {
+            ObjectNode testRunNode = testCaseRunResultsService.toJson(testCaseName, testRun);
+            testRunNode.put(TestCaseRunResultsService.STATUS, status.toLowerCase(ENGLISH));
+            resultsWriter.write(objectMapper.writeValueAsString(testRunNode));
+            resultsWriter.write(System.lineSeparator());
+            resultsWriter.flush();
+
+            SlangTestCase testCase = testRun.getTestCase();
+            if (testCase != null) {
+                reportGeneratorService.appendTestRunRowToTable(reportTable, testRun, testCase, status);
+                reportWriter.flush();
+            }
+        } catch (IOException e) {
+            // a report failure must not fail the test case, it is reported when the report is closed
+            writeFailure = e;
+        }
+        if (PASSED.equals(status)) {
+            passedCount++;
+        } else if (FAILED.equals(status)) {
+            failedCount++;
+        } else {
+            skippedCount++;
+        }
+    }
+
+}
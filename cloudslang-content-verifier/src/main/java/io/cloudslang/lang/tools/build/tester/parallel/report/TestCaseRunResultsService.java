@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.parallel.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.cloudslang.lang.tools.build.tester.IRunTestResults;
+import io.cloudslang.lang.tools.build.tester.RunTestsResults;
+import io.cloudslang.lang.tools.build.tester.TestRun;
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
+import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes the results of a test run to a JSON file and reads them back, so the results of test runs split
+ * between several shards can be merged into a single report.
+ */
+public class TestCaseRunResultsService {
+
+    public static final String RESULTS_FILE_EXTENSION = ".json";
+    public static final String STREAMED_RESULTS_FILE_EXTENSION = ".jsonl";
+
+    static final String STATUS = "status";
+
+    private static final String PASSED = "passed";
+    private static final String FAILED = "failed";
+    private static final String SKIPPED = "skipped";
+    private static final String COVERED = "covered";
+    private static final String UNCOVERED = "uncovered";
+    private static final String EXCEPTIONS = "exceptions";
+    private static final String NAME = "name";
+    private static final String TEST_CASE = "testCase";
+    private static final String FILE_PATH = "filePath";
+    private static final String MESSAGE = "message";
+    private static final String DURATION = "duration";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public void writeResults(IRunTestResults runTestResults, Path resultsFile) throws IOException {
+        writeResults(runTestResults, null, resultsFile);
+    }
+
+    /**
+     * @param runTestResults          the results of the test run
+     * @param testCaseDurationHistory the durations to write with the passed and failed test cases, or null
+     * @param resultsFile             the file to write
+     */
+    public void writeResults(IRunTestResults runTestResults, TestCaseDurationHistory testCaseDurationHistory,
+                             Path resultsFile) throws IOException {
+        ObjectNode results = objectMapper.createObjectNode();
+        results.set(PASSED, toJson(runTestResults.getPassedTests(), testCaseDurationHistory));
+        results.set(FAILED, toJson(runTestResults.getFailedTests(), testCaseDurationHistory));
+        results.set(SKIPPED, toJson(runTestResults.getSkippedTests(), null));
+        results.set(COVERED, toJson(runTestResults.getCoveredExecutables()));
+        results.set(UNCOVERED, toJson(runTestResults.getUncoveredExecutables()));
+        ArrayNode exceptions = results.putArray(EXCEPTIONS);
+        for (RuntimeException exception : runTestResults.getExceptions()) {
+            exceptions.add(exception.getMessage());
+        }
+        Path parent = resultsFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(resultsFile.toFile(), results);
+    }
+
+    /**
+     * @param resultsFile a results file, or a streamed results file written while the tests ran
+     * @return the results of the test run
+     */
+    public IRunTestResults readResults(Path resultsFile) throws IOException {
+        if (resultsFile.toString().endsWith(STREAMED_RESULTS_FILE_EXTENSION)) {
+            return readStreamedResults(resultsFile);
+        }
+        JsonNode results = objectMapper.readTree(resultsFile.toFile());
+        if (results == null || !results.isObject()) {
+            throw new IOException("Invalid test case results file: " + resultsFile);
+        }
+        RunTestsResults runTestResults = new RunTestsResults();
+        for (JsonNode testRun : results.path(PASSED)) {
+            runTestResults.addPassedTest(testRun.path(NAME).asText(), toTestRun(testRun));
+        }
+        for (JsonNode testRun : results.path(FAILED)) {
+            runTestResults.addFailedTest(testRun.path(NAME).asText(), toTestRun(testRun));
+        }
+        for (JsonNode testRun : results.path(SKIPPED)) {
+            runTestResults.addSkippedTest(testRun.path(NAME).asText(), toTestRun(testRun));
+        }
+        runTestResults.addCoveredExecutables(toStrings(results.path(COVERED)));
+        runTestResults.addUncoveredExecutables(toStrings(results.path(UNCOVERED)));
+        Queue<RuntimeException> exceptions = new ArrayDeque<>();
+        for (JsonNode exception : results.path(EXCEPTIONS)) {
+            exceptions.add(new RuntimeException(exception.asText()));
+        }
+        runTestResults.addExceptions(exceptions);
+        return runTestResults;
+    }
+
+    /**
+     * Reads the durations written with the passed and failed test cases of a results file. Streamed results files
+     * hold no durations.
+     *
+     * @param resultsFile             a results file
+     * @param testCaseDurationHistory the history to put the durations in
+     */
+    public void readDurations(Path resultsFile, TestCaseDurationHistory testCaseDurationHistory) throws IOException {
+        if (resultsFile.toString().endsWith(STREAMED_RESULTS_FILE_EXTENSION)) {
+            return;
+        }
+        JsonNode results = objectMapper.readTree(resultsFile.toFile());
+        if (results == null || !results.isObject()) {
+            throw new IOException("Invalid test case results file: " + resultsFile);
+        }
+        for (String status : new String[] {PASSED, FAILED}) {
+            for (JsonNode testRun : results.path(status)) {
+                if (testRun.path(DURATION).isIntegralNumber()) {
+                    testCaseDurationHistory.putDuration(testRun.path(NAME).asText(), testRun.path(DURATION).asLong());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a streamed results file, holding one test run per line. A last line left incomplete by a build
+     * which did not finish is ignored, so the results written before it can still be reported.
+     */
+    private IRunTestResults readStreamedResults(Path resultsFile) throws IOException {
+        RunTestsResults runTestResults = new RunTestsResults();
+        List<String> lines = readCompleteLines(resultsFile);
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).trim().isEmpty()) {
+                continue;
+            }
+            JsonNode testRun;
+            try {
+                testRun = objectMapper.readTree(lines.get(i));
+            } catch (IOException e) {
+                throw new IOException("Invalid test case results file: " + resultsFile + " at line " + (i + 1), e);
+            }
+            String name = testRun.path(NAME).asText();
+            String status = testRun.path(STATUS).asText();
+            if (PASSED.equals(status)) {
+                runTestResults.addPassedTest(name, toTestRun(testRun));
+            } else if (FAILED.equals(status)) {
+                runTestResults.addFailedTest(name, toTestRun(testRun));
+            } else if (SKIPPED.equals(status)) {
+                runTestResults.addSkippedTest(name, toTestRun(testRun));
+            } else {
+                throw new IOException("Invalid test case status [" + status + "] in results file: " + resultsFile);
+            }
+        }
+        return runTestResults;
+    }
+
+    // a test run and its line separator are written at once, so a last line without a line separator was cut
+    // by a build which did not finish, possibly in the middle of a multi-byte character
+    private List<String> readCompleteLines(Path resultsFile) throws IOException {
+        CharsetDecoder decoder = UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        String content = decoder.decode(ByteBuffer.wrap(Files.readAllBytes(resultsFile))).toString();
+        List<String> lines = new ArrayList<>(Arrays.asList(content.split("\r?\n", -1)));
+        lines.remove(lines.size() - 1);
+        return lines;
+    }
+
+    /**
+     * @param shardResults the results of the shards of a test run
+     * @return the results of the whole run, where an executable is uncovered only if no shard covered it
+     */
+    public IRunTestResults mergeResults(Collection<IRunTestResults> shardResults) {
+        RunTestsResults mergedResults = new RunTestsResults();
+        Set<String> uncoveredExecutables = new TreeSet<>();
+        for (IRunTestResults shardResult : shardResults) {
+            for (Map.Entry<String, TestRun> testRun : shardResult.getPassedTests().entrySet()) {
+                mergedResults.addPassedTest(testRun.getKey(), testRun.getValue());
+            }
+            for (Map.Entry<String, TestRun> testRun : shardResult.getFailedTests().entrySet()) {
+                mergedResults.addFailedTest(testRun.getKey(), testRun.getValue());
+            }
+            for (Map.Entry<String, TestRun> testRun : shardResult.getSkippedTests().entrySet()) {
+                mergedResults.addSkippedTest(testRun.getKey(), testRun.getValue());
+            }
+            mergedResults.addCoveredExecutables(shardResult.getCoveredExecutables());
+            uncoveredExecutables.addAll(shardResult.getUncoveredExecutables());
+            mergedResults.addExceptions(shardResult.getExceptions());
+        }
+        uncoveredExecutables.removeAll(mergedResults.getCoveredExecutables());
+        mergedResults.addUncoveredExecutables(uncoveredExecutables);
+        return mergedResults;
+    }
+
+    private ArrayNode toJson(Map<String, TestRun> testRuns, TestCaseDurationHistory testCaseDurationHistory) {
+        ArrayNode testRunsNode = objectMapper.createArrayNode();
+        for (Map.Entry<String, TestRun> testRun : testRuns.entrySet()) {
+            ObjectNode testRunNode = toJson(testRun.getKey(), testRun.getValue());
+            Long duration = testCaseDurationHistory == null ? null :
+                    testCaseDurationHistory.getDuration(testRun.getKey());
+            if (duration != null) {
+                testRunNode.put(DURATION, duration);
+            }
+            testRunsNode.add(testRunNode);
+        }
+        return testRunsNode;
+    }
+
+    ObjectNode toJson(String testCaseName, TestRun testRun) {
+        ObjectNode testRunNode = objectMapper.createObjectNode();
+        SlangTestCase testCase = testRun.getTestCase();
+        testRunNode.put(NAME, testCaseName);
+        testRunNode.set(TEST_CASE, objectMapper.valueToTree(testCase));
+        testRunNode.put(FILE_PATH, testCase == null ? null : testCase.getFilePath());
+        testRunNode.put(MESSAGE, testRun.getMessage());
+        return testRunNode;
+    }
+
+    private ArrayNode toJson(Set<String> executables) {
+        ArrayNode executablesNode = objectMapper.createArrayNode();
+        for (String executable : executables) {
+            executablesNode.add(executable);
+        }
+        return executablesNode;
+    }
+
+    private TestRun toTestRun(JsonNode testRunNode) throws IOException {
+        SlangTestCase testCase = null;
+        JsonNode testCaseNode = testRunNode.path(TEST_CASE);
+        if (testCaseNode.isObject()) {
+            testCase = objectMapper.treeToValue(testCaseNode, SlangTestCase.class);
+            testCase.setFilePath(testRunNode.path(FILE_PATH).isTextual() ?
+                    testRunNode.path(FILE_PATH).asText() : null);
+        }
+        JsonNode message = testRunNode.path(MESSAGE);
+        return new TestRun(testCase, message.isTextual() ? message.asText() : null);
+    }
+
+    private Set<String> toStrings(JsonNode executablesNode) {
+        Set<String> executables = new HashSet<>();
+        for (JsonNode executable : executablesNode) {
+            executables.add(executable.asText());
+        }
+        return executables;
+    }
+
+}
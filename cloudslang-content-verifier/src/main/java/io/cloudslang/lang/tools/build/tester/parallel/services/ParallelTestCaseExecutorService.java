@@ -10,8 +10,10 @@
 package io.cloudslang.lang.tools.build.tester.parallel.services;
 
 
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.DisposableBean;
 
 import javax.annotation.PostConstruct;
@@ -19,18 +21,50 @@ import javax.annotation.PostConstruct;
 import static java.lang.Integer.parseInt;
 import static java.lang.String.valueOf;
 import static java.lang.System.getProperty;
-import static java.util.concurrent.Executors.newFixedThreadPool;
 
 public class ParallelTestCaseExecutorService implements DisposableBean {
 
     public static final String SLANG_TEST_RUNNER_THREAD_COUNT = "slang.test.runner.thread.count";
-    private ExecutorService threadPoolExecutor;
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60L;
+    private ThreadPoolExecutor threadPoolExecutor;
 
     @PostConstruct
     public void initializeExecutor() {
-        threadPoolExecutor = newFixedThreadPool(parseInt(
+        int threadCount = getMaxThreadCount();
+        // threads are started only as test cases are submitted and released when idle,
+        // so small runs do not hold the whole configured thread count
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        threadPoolExecutor = executor;
+    }
+
+    /**
+     * @return the configured thread count, the upper bound of the threads running test cases
+     */
+    public int getMaxThreadCount() {
+        return parseInt(
                 getProperty(SLANG_TEST_RUNNER_THREAD_COUNT, valueOf(Runtime.getRuntime().availableProcessors()))
-        ));
+        );
+    }
+
+    /**
+     * Resizes the pool for the next test cases, capped by the configured thread count.
+     *
+     * @param threadCount the number of test cases to run concurrently
+     * @return the thread count in effect
+     */
+    public int setThreadCount(int threadCount) {
+        int effectiveThreadCount = Math.max(1, Math.min(threadCount, getMaxThreadCount()));
+        // the core size may never exceed the maximum size
+        if (effectiveThreadCount > threadPoolExecutor.getCorePoolSize()) {
+            threadPoolExecutor.setMaximumPoolSize(effectiveThreadCount);
+            threadPoolExecutor.setCorePoolSize(effectiveThreadCount);
+        } else {
+            threadPoolExecutor.setCorePoolSize(effectiveThreadCount);
+            threadPoolExecutor.setMaximumPoolSize(effectiveThreadCount);
+        }
+        return effectiveThreadCount;
     }
 
     public Future<?> submitTestCase(Runnable runnable) {
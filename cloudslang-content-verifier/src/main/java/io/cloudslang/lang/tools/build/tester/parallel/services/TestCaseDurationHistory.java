@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.parallel.services;
+
+import io.cloudslang.lang.tools.build.tester.ISlangTestCaseEventListener;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.BeginSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.FailedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.PassedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.SlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Durations of the test cases from previous runs, used to size a parallel run and to start the longest
+ * test cases first so that the run is not prolonged by a long test case picked up last.
+ * <p>
+ * Durations are recorded from the test case events and persisted in the test case report directory.
+ */
+public class TestCaseDurationHistory implements ISlangTestCaseEventListener {
+
+    public static final String DURATIONS_FILE_NAME = "test-case-durations.properties";
+
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+
+    @Override
+    public void onEvent(SlangTestCaseEvent event) {
+        String testCaseName = event.getSlangTestCase().getName();
+        if (event instanceof BeginSlangTestCaseEvent) {
+            startTimes.put(testCaseName, System.nanoTime());
+        } else if (event instanceof PassedSlangTestCaseEvent || event instanceof FailedSlangTestCaseEvent) {
+            Long startTime = startTimes.remove(testCaseName);
+            if (startTime != null) {
+                durations.put(testCaseName, (System.nanoTime() - startTime) / 1_000_000L);
+            }
+        }
+    }
+
+    /**
+     * @param testCaseName the name of the test case
+     * @return the last recorded duration of the test case in milliseconds, or null if it was never recorded
+     */
+    public Long getDuration(String testCaseName) {
+        return durations.get(testCaseName);
+    }
+
+    /**
+     * Records a duration measured elsewhere, e.g. by a shard of the run on another host.
+     *
+     * @param testCaseName the name of the test case
+     * @param duration     the duration of the test case in milliseconds
+     */
+    public void putDuration(String testCaseName, long duration) {
+        durations.put(testCaseName, duration);
+    }
+
+    /**
+     * @param testCases the test cases to order
+     * @return the test cases ordered by their last recorded duration, longest first; test cases without
+     *     a recorded duration come first since they may be the longest ones
+     */
+    public List<SlangTestCase> orderByDuration(Collection<SlangTestCase> testCases) {
+        List<SlangTestCase> orderedTestCases = new ArrayList<>(testCases);
+        orderedTestCases.sort(Comparator.comparingLong(this::getDurationForOrdering).reversed());
+        return orderedTestCases;
+    }
+
+    /**
+     * Sizes a parallel run from the recorded durations: the fewest test cases run concurrently for the run to
+     * fit in the target wall time, given that the test cases are started longest first. Without a target, or
+     * when the run can not fit in it, the pool is not shrunk, since fewer threads would only make the run longer.
+     *
+     * @param testCases the test cases to run
+     * @param targetWallTimeMillis the wall time the run should fit in, in milliseconds, or 0 for no target
+     * @param maxConcurrency the upper bound of the concurrency
+     * @return the number of test cases to run concurrently; maxConcurrency, bounded by the number of test
+     *     cases, if there is no target or a test case has no recorded duration
+     */
+    public int getConcurrency(Collection<SlangTestCase> testCases, long targetWallTimeMillis, int maxConcurrency) {
+        int upperBound = Math.max(1, Math.min(maxConcurrency, testCases.size()));
+        if (targetWallTimeMillis <= 0) {
+            return upperBound;
+        }
+        List<Long> testCaseDurations = new ArrayList<>(testCases.size());
+        for (SlangTestCase testCase : testCases) {
+            Long duration = durations.get(testCase.getName());
+            if (duration == null) {
+                return upperBound;
+            }
+            testCaseDurations.add(duration);
+        }
+        testCaseDurations.sort(Comparator.reverseOrder());
+        for (int concurrency = 1; concurrency < upperBound; concurrency++) {
+            if (getWallTime(testCaseDurations, concurrency) <= targetWallTimeMillis) {
+                return concurrency;
+            }
+        }
+        return upperBound;
+    }
+
+    /**
+     * Loads the durations persisted in the given directory, if any.
+     *
+     * @param directory the test case report directory
+     */
+    public void load(Path directory) throws IOException {
+        Path durationsFile = directory.resolve(DURATIONS_FILE_NAME);
+        if (Files.isRegularFile(durationsFile)) {
+            loadFile(durationsFile);
+        }
+    }
+
+    /**
+     * Loads the durations of the given file, e.g. durations merged from the shards of a previous run.
+     *
+     * @param durationsFile a durations file written by {@link #save(Path)}
+     */
+    public void loadFile(Path durationsFile) throws IOException {
+        if (!Files.isRegularFile(durationsFile)) {
+            throw new IOException("Test case durations file not found: " + durationsFile);
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(durationsFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        for (String testCaseName : properties.stringPropertyNames()) {
+            try {
+                durations.putIfAbsent(testCaseName, Long.parseLong(properties.getProperty(testCaseName).trim()));
+            } catch (NumberFormatException ignore) {
+                // the duration is recorded again on the next run
+            }
+        }
+    }
+
+    /**
+     * Persists the durations in the given directory, keeping the ones of test cases which did not run.
+     *
+     * @param directory the test case report directory
+     */
+    public void save(Path directory) throws IOException {
+        Properties properties = new Properties();
+        for (Map.Entry<String, Long> duration : durations.entrySet()) {
+            properties.setProperty(duration.getKey(), duration.getValue().toString());
+        }
+        Files.createDirectories(directory);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(DURATIONS_FILE_NAME), StandardCharsets.UTF_8)) {
+            properties.store(writer, "Test case durations in milliseconds");
+        }
+    }
+
+    // the wall time of a run where each test case, longest first, is picked up by the first free thread
+    private long getWallTime(List<Long> orderedDurations, int concurrency) {
+        PriorityQueue<Long> threadEndTimes = new PriorityQueue<>();
+        for (int thread = 0; thread < concurrency; thread++) {
+            threadEndTimes.add(0L);
+        }
+        long wallTime = 0;
+        for (Long duration : orderedDurations) {
+            long endTime = threadEndTimes.poll() + duration;
+            threadEndTimes.add(endTime);
+            wallTime = Math.max(wallTime, endTime);
+        }
+        return wallTime;
+    }
+
+    private long getDurationForOrdering(SlangTestCase testCase) {
+        Long duration = durations.get(testCase.getName());
+        return duration == null ? Long.MAX_VALUE : duration;
+    }
+
+}
@@ -24,12 +24,16 @@ public class BuildModeConfig {
     private final SlangBuildMain.BuildMode buildMode;
     private final Set<String> changedFiles;
     private final Map<String, Executable> allTestedFlowModels;
+    private final ExecutableImpactIndex impactIndex;
+    private final Set<String> impactedExecutables;
 
     private BuildModeConfig(SlangBuildMain.BuildMode buildMode, Set<String> changedFiles,
                             Map<String, Executable> allTestedFlowModels) {
         this.buildMode = buildMode;
         this.changedFiles = changedFiles;
         this.allTestedFlowModels = allTestedFlowModels;
+        this.impactIndex = new ExecutableImpactIndex(allTestedFlowModels);
+        this.impactedExecutables = impactIndex.getImpactedExecutables(changedFiles);
     }
 
     public static BuildModeConfig createBasicBuildModeConfig() {
@@ -53,4 +57,15 @@ public class BuildModeConfig {
     public Map<String, Executable> getAllTestedFlowModels() {
         return allTestedFlowModels;
     }
+
+    public ExecutableImpactIndex getImpactIndex() {
+        return impactIndex;
+    }
+
+    /**
+     * @return the changed executables together with all the executables which transitively depend on them
+     */
+    public Set<String> getImpactedExecutables() {
+        return impactedExecutables;
+    }
 }
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.runconfiguration;
+
+import io.cloudslang.lang.compiler.modeller.model.Executable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse dependency index of executables, used to find the executables affected by a change.
+ * <p>
+ * The index maps every executable to the executables that directly depend on it, so all the executables
+ * which transitively reach a changed executable are found in a single pass over the dependency graph,
+ * instead of collecting the dependencies of every test flow separately.
+ */
+public class ExecutableImpactIndex {
+
+    private final Map<String, Executable> models;
+    private final Map<String, Set<String>> dependents;
+
+    public ExecutableImpactIndex(Map<String, Executable> models) {
+        this.models = models;
+        this.dependents = new HashMap<>();
+        for (Map.Entry<String, Executable> model : models.entrySet()) {
+            Set<String> dependencies = model.getValue().getExecutableDependencies();
+            if (dependencies == null) {
+                continue;
+            }
+            for (String dependency : dependencies) {
+                Set<String> dependencyDependents = dependents.get(dependency);
+                if (dependencyDependents == null) {
+                    dependencyDependents = new HashSet<>();
+                    dependents.put(dependency, dependencyDependents);
+                }
+                dependencyDependents.add(model.getKey());
+            }
+        }
+    }
+
+    /**
+     * @param changedExecutables the ids of the changed executables
+     * @return the changed executables together with all the executables which transitively depend on them
+     */
+    public Set<String> getImpactedExecutables(Collection<String> changedExecutables) {
+        Set<String> impactedExecutables = new HashSet<>(changedExecutables);
+        Deque<String> toVisit = new ArrayDeque<>(changedExecutables);
+        while (!toVisit.isEmpty()) {
+            Set<String> executableDependents = dependents.get(toVisit.poll());
+            if (executableDependents == null) {
+                continue;
+            }
+            for (String dependent : executableDependents) {
+                if (impactedExecutables.add(dependent)) {
+                    toVisit.add(dependent);
+                }
+            }
+        }
+        return impactedExecutables;
+    }
+
+    /**
+     * @param executables the ids of the executables
+     * @return the models of the executables together with the models of all their transitive dependencies
+     */
+    public Map<String, Executable> getModelsWithDependencies(Collection<String> executables) {
+        Map<String, Executable> requiredModels = new HashMap<>();
+        Deque<String> toVisit = new ArrayDeque<>(executables);
+        while (!toVisit.isEmpty()) {
+            String executableId = toVisit.poll();
+            Executable model = models.get(executableId);
+            if (model == null || requiredModels.put(executableId, model) != null) {
+                continue;
+            }
+            Set<String> dependencies = model.getExecutableDependencies();
+            toVisit.addAll(dependencies == null ? Collections.<String>emptySet() : dependencies);
+        }
+        return requiredModels;
+    }
+
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.runconfiguration;
+
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
+import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * One of several shards a test run is split into, e.g. to run the test cases on several hosts.
+ * <p>
+ * Every shard must assign each test case to the same shard, so the assignment only depends on what all the shards
+ * share. By default test cases are assigned by a hash of their name. Given durations shared by all the shards,
+ * e.g. the ones merged from the results of a previous run, test cases are assigned longest first, each to the
+ * shard with the smallest total duration so far. The local duration history of a host is never used, since it
+ * differs between the hosts.
+ */
+public class TestCaseShard {
+
+    private static final String SEPARATOR = "/";
+    private static final String INVALID_SHARD = "Invalid shard '%s', expected '<index>/<count>' " +
+            "where 1 <= index <= count, e.g. '1/4'";
+
+    private final int index;
+    private final int count;
+    private final TestCaseDurationHistory sharedDurations;
+
+    public TestCaseShard(int index, int count) {
+        this(index, count, null);
+    }
+
+    /**
+     * @param index           the index of the shard, starting at 1
+     * @param count           the number of shards
+     * @param sharedDurations the durations shared by all the shards, or null to assign the test cases by name
+     */
+    public TestCaseShard(int index, int count, TestCaseDurationHistory sharedDurations) {
+        if (count < 1 || index < 1 || index > count) {
+            throw new IllegalArgumentException(format(INVALID_SHARD, index + SEPARATOR + count));
+        }
+        this.index = index;
+        this.count = count;
+        this.sharedDurations = sharedDurations;
+    }
+
+    /**
+     * @param shard the shard in the form <code>index/count</code>, where the index starts at 1
+     * @return the parsed shard
+     */
+    public static TestCaseShard parse(String shard) {
+        String[] parts = shard == null ? new String[0] : shard.trim().split(SEPARATOR);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(format(INVALID_SHARD, shard));
+        }
+        try {
+            return new TestCaseShard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(format(INVALID_SHARD, shard), e);
+        }
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @param durations the durations shared by all the shards
+     * @return this shard, splitting the test cases by the given durations
+     */
+    public TestCaseShard withSharedDurations(TestCaseDurationHistory durations) {
+        return new TestCaseShard(index, count, durations);
+    }
+
+    /**
+     * @param testCases all the test cases of the run, by name
+     * @return the test cases assigned to this shard, in their original order
+     */
+    public Map<String, SlangTestCase> selectTestCases(Map<String, SlangTestCase> testCases) {
+        if (count == 1) {
+            return testCases;
+        }
+        Map<String, Integer> shardIndexes = sharedDurations == null ?
+                getShardIndexesByName(testCases) : getShardIndexesByDuration(testCases);
+
+        Map<String, SlangTestCase> shardTestCases = new LinkedHashMap<>();
+        for (Map.Entry<String, SlangTestCase> testCase : testCases.entrySet()) {
+            if (shardIndexes.get(testCase.getKey()) == index) {
+                shardTestCases.put(testCase.getKey(), testCase.getValue());
+            }
+        }
+        return shardTestCases;
+    }
+
+    // String.hashCode is specified, so it is the same on all the hosts
+    private Map<String, Integer> getShardIndexesByName(Map<String, SlangTestCase> testCases) {
+        Map<String, Integer> shardIndexes = new LinkedHashMap<>();
+        for (String testCaseName : testCases.keySet()) {
+            shardIndexes.put(testCaseName, Math.floorMod(testCaseName.hashCode(), count) + 1);
+        }
+        return shardIndexes;
+    }
+
+    private Map<String, Integer> getShardIndexesByDuration(Map<String, SlangTestCase> testCases) {
+        final Map<String, Long> durations = getDurations(testCases);
+        List<String> testCaseNames = new ArrayList<>(testCases.keySet());
+        testCaseNames.sort(Comparator.<String, Long>comparing(durations::get, Comparator.reverseOrder())
+                .thenComparing(Comparator.naturalOrder()));
+
+        long[] shardDurations = new long[count];
+        Map<String, Integer> shardIndexes = new LinkedHashMap<>();
+        for (String testCaseName : testCaseNames) {
+            int shortestShard = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (shardDurations[shard] < shardDurations[shortestShard]) {
+                    shortestShard = shard;
+                }
+            }
+            shardDurations[shortestShard] += durations.get(testCaseName);
+            shardIndexes.put(testCaseName, shortestShard + 1);
+        }
+        return shardIndexes;
+    }
+
+    // test cases without a recorded duration are assumed to take the average duration, and every test case
+    // counts for at least a millisecond so that very short test cases are spread between the shards as well
+    private Map<String, Long> getDurations(Map<String, SlangTestCase> testCases) {
+        Map<String, Long> durations = new LinkedHashMap<>();
+        long totalDuration = 0;
+        int recordedCount = 0;
+        for (Map.Entry<String, SlangTestCase> testCase : testCases.entrySet()) {
+            Long duration = sharedDurations.getDuration(testCase.getValue().getName());
+            if (duration != null) {
+                duration = Math.max(1L, duration);
+                totalDuration += duration;
+                recordedCount++;
+            }
+            durations.put(testCase.getKey(), duration);
+        }
+        long defaultDuration = recordedCount == 0 ? 1L : totalDuration / recordedCount;
+        for (Map.Entry<String, Long> duration : durations.entrySet()) {
+            if (duration.getValue() == null) {
+                duration.setValue(defaultDuration);
+            }
+        }
+        return durations;
+    }
+
+    @Override
+    public String toString() {
+        return index + SEPARATOR + count;
+    }
+
+}
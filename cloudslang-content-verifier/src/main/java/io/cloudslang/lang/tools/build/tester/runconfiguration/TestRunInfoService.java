@@ -31,4 +31,11 @@ public interface TestRunInfoService {
     TestCaseRunMode getRunModeForTestCase(SlangTestCase testCase,
                                           ConflictResolutionStrategy<TestCaseRunMode> multipleModeConflictStrategy,
                                           DefaultResolutionStrategy<TestCaseRunMode> defaultTestSuiteStrategy);
+
+    /**
+     * @return the shard of the test cases to run, or null when all of the test cases run
+     */
+    TestCaseShard getTestCaseShard();
+
+    void setTestCaseShard(TestCaseShard testCaseShard);
 }
@@ -27,6 +27,8 @@ public class TestRunInfoServiceImpl implements TestRunInfoService {
 
     private ConcurrentMap<String, TestCaseRunMode> runModeMap;
 
+    private volatile TestCaseShard testCaseShard;
+
     @PostConstruct
     public void initialize() {
         runModeMap = new ConcurrentHashMap<>();
@@ -68,6 +70,16 @@ public class TestRunInfoServiceImpl implements TestRunInfoService {
         return result;
     }
 
+    @Override
+    public TestCaseShard getTestCaseShard() {
+        return testCaseShard;
+    }
+
+    @Override
+    public void setTestCaseShard(final TestCaseShard testCaseShard) {
+        this.testCaseShard = testCaseShard;
+    }
+
     private TestCaseRunMode doGetTestSuiteRunMode(String testSuite) {
         return runModeMap.get(testSuite);
     }
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.verifier;
+
+import io.cloudslang.lang.compiler.modeller.model.Executable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of a set of CloudSlang models, keyed by their unique name.
+ * <p>
+ * The transitive dependencies of every model are computed once, in topological order, and kept as bit sets
+ * over the model indexes, so diamond shaped graphs do not re-walk shared sub-graphs.
+ * Models are grouped into compilation levels: a model only depends on models from lower levels,
+ * so all the models of one level can be compiled independently of each other.
+ * Missing dependencies and dependency cycles are reported per model instead of being followed recursively.
+ */
+public class ExecutableDependencyGraph {
+
+    private static final String FAILED_COMPILING_SOURCE = "Failed compiling slang source: ";
+
+    private final List<Executable> models;
+    private final Map<Executable, Integer> indexes;
+    private final BitSet[] closures;
+    private final List<List<Executable>> levels;
+    private final Map<String, RuntimeException> errors;
+
+    public ExecutableDependencyGraph(Map<String, Executable> slangModels) {
+        int size = slangModels.size();
+        this.models = new ArrayList<>(size);
+        this.indexes = new IdentityHashMap<>(size);
+        this.closures = new BitSet[size];
+        this.levels = new ArrayList<>();
+        this.errors = new LinkedHashMap<>();
+
+        Map<String, Integer> indexesByName = new HashMap<>(size);
+        for (Map.Entry<String, Executable> entry : slangModels.entrySet()) {
+            indexesByName.put(entry.getKey(), models.size());
+            indexes.put(entry.getValue(), models.size());
+            models.add(entry.getValue());
+        }
+        build(indexesByName);
+    }
+
+    /**
+     * @return the models whose dependencies were fully resolved, grouped by compilation level
+     */
+    public List<List<Executable>> getCompilationLevels() {
+        return levels;
+    }
+
+    /**
+     * @param slangModel a model of this graph which was not reported in {@link #getErrors()}
+     * @return all the direct and transitive dependencies of the given model
+     */
+    public Set<Executable> getDependencies(Executable slangModel) {
+        BitSet closure = closures[indexes.get(slangModel)];
+        Set<Executable> dependencies = Collections.newSetFromMap(new IdentityHashMap<>(closure.cardinality()));
+        for (int i = closure.nextSetBit(0); i >= 0; i = closure.nextSetBit(i + 1)) {
+            dependencies.add(models.get(i));
+        }
+        return dependencies;
+    }
+
+    /**
+     * @return the models that cannot be compiled, mapped to the reason (missing dependency or cycle)
+     */
+    public Map<String, RuntimeException> getErrors() {
+        return errors;
+    }
+
+    private void build(Map<String, Integer> indexesByName) {
+        int size = models.size();
+        int[][] directDependencies = new int[size][];
+        List<List<Integer>> dependents = new ArrayList<>(size);
+        int[] pendingDependencies = new int[size];
+        RuntimeException[] failures = new RuntimeException[size];
+
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            Executable slangModel = models.get(i);
+            Set<Integer> dependencyIndexes = new LinkedHashSet<>();
+            for (String dependencyName : slangModel.getExecutableDependencies()) {
+                Integer dependencyIndex = indexesByName.get(dependencyName);
+                if (dependencyIndex == null) {
+                    if (failures[i] == null) {
+                        failures[i] = new RuntimeException(FAILED_COMPILING_SOURCE + getUniqueName(slangModel) +
+                                ". Missing dependency: " + dependencyName);
+                    }
+                } else if (dependencyIndexes.add(dependencyIndex)) {
+                    dependents.get(dependencyIndex).add(i);
+                }
+            }
+            directDependencies[i] = toArray(dependencyIndexes);
+            pendingDependencies[i] = directDependencies[i].length;
+        }
+
+        List<Integer> currentLevel = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (pendingDependencies[i] == 0) {
+                currentLevel.add(i);
+            }
+        }
+        while (!currentLevel.isEmpty()) {
+            List<Executable> levelModels = new ArrayList<>(currentLevel.size());
+            List<Integer> nextLevel = new ArrayList<>();
+            for (int index : currentLevel) {
+                BitSet closure = new BitSet(size);
+                for (int dependencyIndex : directDependencies[index]) {
+                    if (failures[index] == null && failures[dependencyIndex] != null) {
+                        failures[index] = failures[dependencyIndex];
+                    }
+                    closure.set(dependencyIndex);
+                    closure.or(closures[dependencyIndex]);
+                }
+                closures[index] = closure;
+                if (failures[index] == null) {
+                    levelModels.add(models.get(index));
+                } else {
+                    errors.put(getUniqueName(models.get(index)), failures[index]);
+                }
+                for (int dependentIndex : dependents.get(index)) {
+                    if (--pendingDependencies[dependentIndex] == 0) {
+                        nextLevel.add(dependentIndex);
+                    }
+                }
+            }
+            if (!levelModels.isEmpty()) {
+                levels.add(levelModels);
+            }
+            currentLevel = nextLevel;
+        }
+
+        // whatever was not reached still waits for a dependency that is part of (or leads to) a cycle
+        for (int i = 0; i < size; i++) {
+            if (closures[i] == null) {
+                errors.put(getUniqueName(models.get(i)), new RuntimeException(FAILED_COMPILING_SOURCE +
+                        getUniqueName(models.get(i)) + ". Cyclic dependency: " +
+                        describeCycle(i, directDependencies)));
+            }
+        }
+    }
+
+    private String describeCycle(int start, int[][] directDependencies) {
+        // every unresolved model has at least one unresolved dependency, so following them must close a cycle
+        Map<Integer, Integer> positions = new HashMap<>();
+        List<Integer> path = new ArrayList<>();
+        int current = start;
+        while (!positions.containsKey(current)) {
+            positions.put(current, path.size());
+            path.add(current);
+            current = firstUnresolvedDependency(directDependencies[current]);
+        }
+        StringBuilder cycle = new StringBuilder();
+        for (int index : path.subList(positions.get(current), path.size())) {
+            cycle.append(getUniqueName(models.get(index))).append(" -> ");
+        }
+        return cycle.append(getUniqueName(models.get(current))).toString();
+    }
+
+    private int firstUnresolvedDependency(int[] dependencies) {
+        for (int dependencyIndex : dependencies) {
+            if (closures[dependencyIndex] == null) {
+                return dependencyIndex;
+            }
+        }
+        throw new IllegalStateException("Unresolved model has no unresolved dependency");
+    }
+
+    private static int[] toArray(Set<Integer> values) {
+        int[] result = new int[values.size()];
+        int position = 0;
+        for (int value : values) {
+            result[position++] = value;
+        }
+        return result;
+    }
+
+    private static String getUniqueName(Executable sourceModel) {
+        return sourceModel.getNamespace() + "." + sourceModel.getName();
+    }
+
+}
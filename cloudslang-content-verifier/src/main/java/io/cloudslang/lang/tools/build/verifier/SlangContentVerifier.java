@@ -10,13 +10,14 @@
 package io.cloudslang.lang.tools.build.verifier;
 
 import io.cloudslang.lang.commons.services.api.SlangCompilationService;
-import io.cloudslang.lang.compiler.MetadataExtractor;
+import io.cloudslang.lang.compiler.PrecompileStrategy;
 import io.cloudslang.lang.compiler.SlangCompiler;
 import io.cloudslang.lang.compiler.SlangSource;
 import io.cloudslang.lang.compiler.modeller.model.Executable;
 import io.cloudslang.lang.compiler.modeller.model.Metadata;
 import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
 import io.cloudslang.lang.compiler.modeller.result.MetadataModellingResult;
+import io.cloudslang.lang.compiler.modeller.result.SourceAnalysisResult;
 import io.cloudslang.lang.compiler.scorecompiler.ScoreCompiler;
 import io.cloudslang.lang.entities.CompilationArtifact;
 import io.cloudslang.lang.logging.LoggingService;
@@ -27,27 +28,40 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
 import org.apache.commons.lang.Validate;
 import org.apache.logging.log4j.Level;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import static java.lang.Integer.parseInt;
+import static java.lang.String.valueOf;
+import static java.lang.System.getProperty;
+
 /**
  * Created by stoneo on 3/15/2015.
  **/
 @Component
-public class SlangContentVerifier {
+public class SlangContentVerifier implements DisposableBean {
 
-    @Autowired
-    private SlangCompiler slangCompiler;
+    public static final String SLANG_COMPILE_THREAD_COUNT = "slang.compile.thread.count";
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60L;
 
     @Autowired
-    private MetadataExtractor metadataExtractor;
+    private SlangCompiler slangCompiler;
 
     @Autowired
     private StaticValidator staticValidator;
@@ -61,6 +75,18 @@ public class SlangContentVerifier {
     @Autowired
     private SlangCompilationService slangCompilationService;
 
+    private ExecutorService compileExecutor;
+
+    @PostConstruct
+    public void initializeExecutor() {
+        int threadCount = getCompileThreadCount();
+        // the threads are released when idle, so the pool costs nothing between builds
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount,
+                IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        compileExecutor = executor;
+    }
+
     public PreCompileResult createModelsAndValidate(String directoryPath, boolean shouldValidateDescription,
                                                     boolean shouldValidateCheckstyle) {
         Validate.notEmpty(directoryPath, "You must specify a path");
@@ -85,12 +111,13 @@ public class SlangContentVerifier {
                         "\' must lead to a file");
                 SlangSource slangSource = SlangSource.fromFile(slangFile);
 
-                ExecutableModellingResult preCompileResult = slangCompiler.preCompileSource(slangSource);
+                SourceAnalysisResult analysisResult = slangCompiler
+                        .analyzeSource(slangSource, PrecompileStrategy.WITHOUT_CACHE, shouldValidateCheckstyle);
+                ExecutableModellingResult preCompileResult = analysisResult.getExecutableModellingResult();
                 sourceModel = preCompileResult.getExecutable();
                 exceptions.addAll(prependPrefix(preCompileResult.getErrors(), errorMessagePrefixCompilation));
 
-                MetadataModellingResult metadataResult = metadataExtractor
-                        .extractMetadataModellingResult(slangSource, shouldValidateCheckstyle);
+                MetadataModellingResult metadataResult = analysisResult.getMetadataModellingResult();
                 Metadata sourceMetadata = metadataResult.getMetadata();
                 exceptions.addAll(prependPrefix(metadataResult.getErrors(), errorMessagePrefixMetadata));
 
@@ -136,52 +163,87 @@ public class SlangContentVerifier {
 
     public CompileResult compileSlangModels(Map<String, Executable> slangModels) {
         CompileResult compileResult = new CompileResult();
-        Map<String, CompilationArtifact> compiledArtifacts = new HashMap<>();
-        for (Map.Entry<String, Executable> slangModelEntry : slangModels.entrySet()) {
-            Executable slangModel = slangModelEntry.getValue();
-            try {
-                CompilationArtifact compiledSource = compiledArtifacts.get(getUniqueName(slangModel));
-                if (compiledSource == null) {
-                    Set<Executable> dependenciesModels = getModelDependenciesRecursively(slangModels, slangModel);
-                    compiledSource = scoreCompiler.compile(slangModel, dependenciesModels);
-                    if (compiledSource != null) {
-                        loggingService.logEvent(Level.INFO, "Compiled: \'" + slangModel.getNamespace() + "." +
-                                slangModel.getName() + "\' successfully");
-                        compiledArtifacts.put(getUniqueName(slangModel), compiledSource);
-                    } else {
-                        loggingService.logEvent(Level.ERROR, "Failed to compile source: \'" +
-                                slangModel.getNamespace() + "." + slangModel.getName() + "\'");
-                    }
-                }
-            } catch (Exception e) {
-                String errorMessage = "Failed compiling Slang source: \'" + slangModel.getNamespace() + "." +
-                        slangModel.getName() + "\'.\n" + e.getMessage();
-                loggingService.logEvent(Level.ERROR, errorMessage);
-                compileResult.addException(new RuntimeException(errorMessage, e));
+        Map<String, CompilationArtifact> compiledArtifacts = new ConcurrentHashMap<>();
+        Queue<RuntimeException> exceptions = new ConcurrentLinkedQueue<>();
+
+        ExecutableDependencyGraph dependencyGraph = new ExecutableDependencyGraph(slangModels);
+        for (Map.Entry<String, RuntimeException> errorEntry : dependencyGraph.getErrors().entrySet()) {
+            String errorMessage = "Failed compiling Slang source: \'" + errorEntry.getKey() + "\'.\n" +
+                    errorEntry.getValue().getMessage();
+            loggingService.logEvent(Level.ERROR, errorMessage);
+            exceptions.add(new RuntimeException(errorMessage, errorEntry.getValue()));
+        }
+
+        // models of the same level do not depend on each other, so each level is compiled in parallel
+        for (List<Executable> compilationLevel : dependencyGraph.getCompilationLevels()) {
+            List<Future<?>> levelFutures = new ArrayList<>(compilationLevel.size());
+            for (Executable slangModel : compilationLevel) {
+                levelFutures.add(compileExecutor.submit(() -> compileSlangModel(slangModel,
+                        dependencyGraph.getDependencies(slangModel), compiledArtifacts, exceptions)));
             }
+            waitForAll(levelFutures);
         }
 
         compileResult.addResults(compiledArtifacts);
+        compileResult.addExceptions(exceptions);
         return compileResult;
     }
 
-    private Set<Executable> getModelDependenciesRecursively(Map<String, Executable> slangModels,
-                                                            Executable slangModel) {
-        Set<Executable> dependenciesModels = new HashSet<>();
-        for (String dependencyName : slangModel.getExecutableDependencies()) {
-            Executable dependency = slangModels.get(dependencyName);
-            if (dependency == null) {
-                throw new RuntimeException("Failed compiling slang source: " + slangModel.getNamespace() + "." +
-                        slangModel.getName() + ". Missing dependency: " + dependencyName);
+    private void compileSlangModel(Executable slangModel, Set<Executable> dependenciesModels,
+                                   Map<String, CompilationArtifact> compiledArtifacts,
+                                   Queue<RuntimeException> exceptions) {
+        try {
+            CompilationArtifact compiledSource = scoreCompiler.compile(slangModel, dependenciesModels);
+            if (compiledSource != null) {
+                loggingService.logEvent(Level.INFO, "Compiled: \'" + slangModel.getNamespace() + "." +
+                        slangModel.getName() + "\' successfully");
+                compiledArtifacts.put(getUniqueName(slangModel), compiledSource);
+            } else {
+                loggingService.logEvent(Level.ERROR, "Failed to compile source: \'" +
+                        slangModel.getNamespace() + "." + slangModel.getName() + "\'");
             }
-            dependenciesModels.add(dependency);
-            dependenciesModels.addAll(getModelDependenciesRecursively(slangModels, dependency));
+        } catch (Exception e) {
+            String errorMessage = "Failed compiling Slang source: \'" + slangModel.getNamespace() + "." +
+                    slangModel.getName() + "\'.\n" + e.getMessage();
+            loggingService.logEvent(Level.ERROR, errorMessage);
+            exceptions.add(new RuntimeException(errorMessage, e));
         }
-        return dependenciesModels;
+    }
+
+    private void waitForAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                cancelAll(futures);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while compiling Slang sources", e);
+            } catch (ExecutionException e) {
+                cancelAll(futures);
+                throw new RuntimeException("Failed compiling Slang sources: " + e.getCause().getMessage(),
+                        e.getCause());
+            }
+        }
+    }
+
+    private void cancelAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private int getCompileThreadCount() {
+        return Math.max(1, parseInt(getProperty(SLANG_COMPILE_THREAD_COUNT,
+                valueOf(Runtime.getRuntime().availableProcessors()))));
     }
 
     private String getUniqueName(Executable sourceModel) {
         return sourceModel.getNamespace() + "." + sourceModel.getName();
     }
 
+    @Override
+    public void destroy() throws Exception {
+        compileExecutor.shutdown();
+    }
+
 }
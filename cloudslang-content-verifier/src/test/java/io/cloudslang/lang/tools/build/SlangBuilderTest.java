@@ -15,6 +15,7 @@ import io.cloudslang.lang.commons.services.api.SlangCompilationService;
 import io.cloudslang.lang.commons.services.api.SlangSourceService;
 import io.cloudslang.lang.commons.services.impl.SlangCompilationServiceImpl;
 import io.cloudslang.lang.compiler.MetadataExtractor;
+import io.cloudslang.lang.compiler.PrecompileStrategy;
 import io.cloudslang.lang.compiler.SlangCompiler;
 import io.cloudslang.lang.compiler.SlangSource;
 import io.cloudslang.lang.compiler.modeller.DependenciesHelper;
@@ -24,6 +25,7 @@ import io.cloudslang.lang.compiler.modeller.model.Flow;
 import io.cloudslang.lang.compiler.modeller.model.Metadata;
 import io.cloudslang.lang.compiler.modeller.result.ExecutableModellingResult;
 import io.cloudslang.lang.compiler.modeller.result.MetadataModellingResult;
+import io.cloudslang.lang.compiler.modeller.result.SourceAnalysisResult;
 import io.cloudslang.lang.compiler.modeller.transformers.PublishTransformer;
 import io.cloudslang.lang.compiler.modeller.transformers.ResultsTransformer;
 import io.cloudslang.lang.compiler.scorecompiler.ScoreCompiler;
@@ -43,9 +45,14 @@ import io.cloudslang.lang.tools.build.tester.RunTestsResults;
 import io.cloudslang.lang.tools.build.tester.SlangTestRunner;
 import io.cloudslang.lang.tools.build.tester.SlangTestRunner.TestCaseRunState;
 import io.cloudslang.lang.tools.build.tester.TestRun;
+import io.cloudslang.lang.tools.build.tester.TestSessionCache;
 import io.cloudslang.lang.tools.build.tester.parallel.report.LoggingSlangTestCaseEventListener;
+import io.cloudslang.lang.tools.build.tester.parallel.report.SlangTestCaseRunReportGeneratorService;
+import io.cloudslang.lang.tools.build.tester.parallel.report.StreamingTestCaseReportListener;
+import io.cloudslang.lang.tools.build.tester.parallel.report.TestCaseRunResultsService;
 import io.cloudslang.lang.tools.build.tester.parallel.report.ThreadSafeRunTestResults;
 import io.cloudslang.lang.tools.build.tester.parallel.services.ParallelTestCaseExecutorService;
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
 import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseEventDispatchService;
 import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
 import io.cloudslang.lang.tools.build.tester.parse.TestCasesYamlParser;
@@ -100,6 +107,7 @@ import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertTrue;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.anyMapOf;
@@ -182,6 +190,17 @@ public class SlangBuilderTest {
         reset(slangCompiler);
         reset(scoreCompiler);
         reset(slangTestRunner);
+        // source analysis yields the pre-compile result and the metadata stubbed for each test
+        when(slangCompiler.analyzeSource(any(SlangSource.class), any(PrecompileStrategy.class), anyBoolean()))
+                .thenAnswer(new Answer<SourceAnalysisResult>() {
+                    @Override
+                    public SourceAnalysisResult answer(InvocationOnMock invocation) throws Throwable {
+                        SlangSource source = (SlangSource) invocation.getArguments()[0];
+                        boolean shouldValidateCheckstyle = (Boolean) invocation.getArguments()[2];
+                        return new SourceAnalysisResult(slangCompiler.preCompileSource(source),
+                                metadataExtractor.extractMetadataModellingResult(source, shouldValidateCheckstyle));
+                    }
+                });
     }
 
     @Test
@@ -787,6 +806,31 @@ public class SlangBuilderTest {
             return mock(TestCaseEventDispatchService.class);
         }
 
+        @Bean
+        public TestCaseDurationHistory testCaseDurationHistory() {
+            return new TestCaseDurationHistory();
+        }
+
+        @Bean
+        public TestSessionCache testSessionCache() {
+            return new TestSessionCache();
+        }
+
+        @Bean
+        public StreamingTestCaseReportListener streamingTestCaseReportListener() {
+            return new StreamingTestCaseReportListener();
+        }
+
+        @Bean
+        public SlangTestCaseRunReportGeneratorService reportGeneratorService() {
+            return new SlangTestCaseRunReportGeneratorService();
+        }
+
+        @Bean
+        public TestCaseRunResultsService testCaseRunResultsService() {
+            return new TestCaseRunResultsService();
+        }
+
         @Bean
         public SlangSourceService slangSourceService() {
             return mock(SlangSourceService.class);
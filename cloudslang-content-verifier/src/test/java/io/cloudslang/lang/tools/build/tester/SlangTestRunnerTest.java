@@ -35,8 +35,12 @@ import io.cloudslang.lang.logging.LoggingServiceImpl;
 import io.cloudslang.lang.tools.build.tester.SlangTestRunner.TestCaseRunState;
 import io.cloudslang.lang.tools.build.tester.parallel.MultiTriggerTestCaseEventListener;
 import io.cloudslang.lang.tools.build.tester.parallel.report.LoggingSlangTestCaseEventListener;
+import io.cloudslang.lang.tools.build.tester.parallel.report.SlangTestCaseRunReportGeneratorService;
+import io.cloudslang.lang.tools.build.tester.parallel.report.StreamingTestCaseReportListener;
+import io.cloudslang.lang.tools.build.tester.parallel.report.TestCaseRunResultsService;
 import io.cloudslang.lang.tools.build.tester.parallel.report.ThreadSafeRunTestResults;
 import io.cloudslang.lang.tools.build.tester.parallel.services.ParallelTestCaseExecutorService;
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
 import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseEventDispatchService;
 import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.FailedSlangTestCaseEvent;
 import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.SlangTestCaseEvent;
@@ -93,7 +97,6 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyLong;
-import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Matchers.anySetOf;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
@@ -106,6 +109,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -347,6 +351,7 @@ public class SlangTestRunnerTest {
         verify(testCaseEventDispatchService, times(2)).unregisterAllListeners();
         verify(testCaseEventDispatchService).registerListener(isA(ThreadSafeRunTestResults.class));
         verify(testCaseEventDispatchService).registerListener(isA(LoggingSlangTestCaseEventListener.class));
+        verify(testCaseEventDispatchService).registerListener(isA(StreamingTestCaseReportListener.class));
 
         verify(slang).subscribeOnEvents(eq(subscribeArgumentsHolder.getMultiTriggerTestCaseEventListener()),
                 eq(subscribeArgumentsHolder.getEventTypes()));
@@ -684,7 +689,7 @@ public class SlangTestRunnerTest {
     }
 
     @Test
-    public void testSplitTestCasesByRunStateDependencyHelperIsCalled() {
+    public void testSplitTestCasesByRunStateSelectsImpactedTestCases() {
         Map<String, SlangTestCase> testCases = new HashMap<>();
         SlangTestCase testCase1 = new SlangTestCase("test1", "testFlowPath1", "desc",
                 asList("special", "new"), "mock", null, null, false, "SUCCESS");
@@ -694,20 +699,30 @@ public class SlangTestRunnerTest {
         testCases.put("test2", testCase2);
         final List<String> testSuites = Lists.newArrayList("special");
         final IRunTestResults runTestResults = new RunTestsResults();
-        Set<String> changedFiles = new HashSet<>();
+        Set<String> changedFiles = new HashSet<>(Collections.singletonList("ns.changed_op"));
         Map<String, Executable> allTestedFlowModels = new HashMap<>();
-        Executable executable = mock(Executable.class);
-        allTestedFlowModels.put("testFlowPath1", executable);
-        allTestedFlowModels.put("testFlowPath2", executable);
+        allTestedFlowModels.put("testFlowPath1", mockExecutable("ns.subflow"));
+        allTestedFlowModels.put("testFlowPath2", mockExecutable("ns.other_op"));
+        allTestedFlowModels.put("ns.subflow", mockExecutable("ns.changed_op"));
+        allTestedFlowModels.put("ns.changed_op", mockExecutable());
+        allTestedFlowModels.put("ns.other_op", mockExecutable());
         BuildModeConfig buildModeConfig = createChangedBuildModeConfig(changedFiles, allTestedFlowModels);
-        when(dependenciesHelper.fetchDependencies(any(Executable.class), anyMapOf(String.class, Executable.class)))
-                .thenReturn(new HashSet<String>());
 
         // Tested call
-        slangTestRunner
+        Map<TestCaseRunState, Map<String, SlangTestCase>> testCaseRunStateMap = slangTestRunner
                 .splitTestCasesByRunState(ALL_SEQUENTIAL, testCases, testSuites, runTestResults, buildModeConfig);
 
-        verify(dependenciesHelper, times(2)).fetchDependencies(eq(executable), eq(allTestedFlowModels));
+        assertEquals(Collections.singletonMap("test1", testCase1),
+                testCaseRunStateMap.get(TestCaseRunState.SEQUENTIAL));
+        assertEquals(Collections.singletonMap("test2", testCase2),
+                testCaseRunStateMap.get(TestCaseRunState.INACTIVE));
+        verifyZeroInteractions(dependenciesHelper);
+    }
+
+    private Executable mockExecutable(String... dependencies) {
+        Executable executable = mock(Executable.class);
+        when(executable.getExecutableDependencies()).thenReturn(new HashSet<>(asList(dependencies)));
+        return executable;
     }
 
     @Test
@@ -841,6 +856,31 @@ public class SlangTestRunnerTest {
             return mock(ParallelTestCaseExecutorService.class);
         }
 
+        @Bean
+        public TestCaseDurationHistory testCaseDurationHistory() {
+            return new TestCaseDurationHistory();
+        }
+
+        @Bean
+        public TestSessionCache testSessionCache() {
+            return new TestSessionCache();
+        }
+
+        @Bean
+        public StreamingTestCaseReportListener streamingTestCaseReportListener() {
+            return new StreamingTestCaseReportListener();
+        }
+
+        @Bean
+        public SlangTestCaseRunReportGeneratorService reportGeneratorService() {
+            return new SlangTestCaseRunReportGeneratorService();
+        }
+
+        @Bean
+        public TestCaseRunResultsService testCaseRunResultsService() {
+            return new TestCaseRunResultsService();
+        }
+
         @Bean
         public TestRunInfoService testRunInfoServiceImpl() {
             return mock(TestRunInfoServiceImpl.class);
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester;
+
+import io.cloudslang.lang.entities.SystemProperty;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+public class TestSessionCacheTest {
+
+    private final TestSessionCache testSessionCache = new TestSessionCache();
+
+    @Test
+    public void testSystemPropertiesFileIsLoadedOnce() {
+        final AtomicInteger loads = new AtomicInteger();
+        Function<String, Set<SystemProperty>> loader = file -> {
+            loads.incrementAndGet();
+            return Collections.singleton(new SystemProperty("ns", "key", "value"));
+        };
+
+        Set<SystemProperty> first = testSessionCache.getSystemProperties("/props/a.prop.sl", loader);
+        Set<SystemProperty> second = testSessionCache.getSystemProperties("/props/a.prop.sl", loader);
+        testSessionCache.getSystemProperties("/props/b.prop.sl", loader);
+
+        assertSame(first, second);
+        assertEquals(Collections.singleton(new SystemProperty("ns", "key", "value")), first);
+        assertEquals(2, loads.get());
+        assertEquals(2, testSessionCache.getLoadCount());
+        assertEquals(1, testSessionCache.getReuseCount());
+    }
+
+    @Test
+    public void testCachedSystemPropertiesAreImmutable() {
+        Set<SystemProperty> systemProperties = testSessionCache.getSystemProperties("/props/a.prop.sl", file ->
+                Collections.singleton(new SystemProperty("ns", "key", "value")));
+
+        assertThrows(UnsupportedOperationException.class, () -> systemProperties.clear());
+    }
+
+    @Test
+    public void testLoadFailureIsNotCached() {
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                testSessionCache.getSystemProperties("/props/a.prop.sl", file -> {
+                    throw new RuntimeException("Invalid file: " + file);
+                }));
+        assertEquals("Invalid file: /props/a.prop.sl", exception.getMessage());
+
+        testSessionCache.getSystemProperties("/props/a.prop.sl", file -> Collections.emptySet());
+        assertEquals(1, testSessionCache.getLoadCount());
+        assertEquals(0, testSessionCache.getReuseCount());
+    }
+
+    @Test
+    public void testClear() {
+        testSessionCache.getSystemProperties("/props/a.prop.sl", file -> Collections.emptySet());
+        testSessionCache.getSystemProperties("/props/a.prop.sl", file -> Collections.emptySet());
+
+        testSessionCache.clear();
+
+        assertEquals(0, testSessionCache.getLoadCount());
+        assertEquals(0, testSessionCache.getReuseCount());
+        assertEquals(0, testSessionCache.getEstimatedSavedMillis());
+    }
+
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.parallel;
+
+import io.cloudslang.lang.entities.ScoreLangConstants;
+import io.cloudslang.lang.runtime.events.LanguageEventData;
+import io.cloudslang.lang.tools.build.tester.TriggerTestCaseEventListener;
+import io.cloudslang.score.events.EventConstants;
+import io.cloudslang.score.events.ScoreEvent;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+import static io.cloudslang.lang.tools.build.tester.parallel.MultiTriggerTestCaseEventListener.EXECUTION_ID_CONTEXT;
+import static io.cloudslang.lang.tools.build.tester.parallel.MultiTriggerTestCaseEventListener.SYSTEM_CONTEXT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MultiTriggerTestCaseEventListenerTest {
+
+    private final MultiTriggerTestCaseEventListener listener = new MultiTriggerTestCaseEventListener();
+
+    @Test
+    public void testCompletionRequestedBeforeExecutionFinished() throws Exception {
+        CompletableFuture<Void> flowCompletion = listener.getFlowCompletionByExecutionId(1L);
+        assertFalse(flowCompletion.isDone());
+
+        listener.onEvent(createExecutionFinishedEvent(1L, ScoreLangConstants.SUCCESS_RESULT));
+
+        assertTrue(flowCompletion.isDone());
+        assertTrue(listener.isFlowFinishedByExecutionId(1L));
+        assertEquals(ScoreLangConstants.SUCCESS_RESULT, listener.getResultByExecutionId(1L));
+    }
+
+    @Test
+    public void testCompletionRequestedAfterExecutionFinished() throws Exception {
+        listener.onEvent(createExecutionFinishedEvent(1L, ScoreLangConstants.SUCCESS_RESULT));
+
+        assertTrue(listener.getFlowCompletionByExecutionId(1L).isDone());
+        assertFalse(listener.getFlowCompletionByExecutionId(2L).isDone());
+    }
+
+    @Test
+    public void testCompletionOnScoreFailure() throws Exception {
+        final CompletableFuture<Void> flowCompletion = listener.getFlowCompletionByExecutionId(1L);
+
+        listener.onEvent(createScoreErrorEvent(EventConstants.SCORE_FAILURE_EVENT, 1L));
+
+        assertTrue(flowCompletion.isDone());
+        assertEquals("log message , error message", listener.getErrorMessageByExecutionId(1L));
+    }
+
+    @Test
+    public void testFailureEventAfterErrorEventOfConsumedExecution() throws Exception {
+        final CompletableFuture<Void> flowCompletion = listener.getFlowCompletionByExecutionId(1L);
+        listener.onEvent(createScoreErrorEvent(EventConstants.SCORE_ERROR_EVENT, 1L));
+        assertTrue(flowCompletion.isDone());
+        assertEquals("log message , error message", listener.getErrorMessageByExecutionId(1L));
+        listener.removeByExecutionId(1L);
+
+        listener.onEvent(createScoreErrorEvent(EventConstants.SCORE_FAILURE_EVENT, 1L));
+
+        assertEquals(0, listener.getExecutionCount());
+        assertNull(listener.getErrorMessageByExecutionId(1L));
+    }
+
+    @Test
+    public void testStateIsRemovedOnceConsumed() throws Exception {
+        listener.onEvent(createExecutionFinishedEvent(1L, ScoreLangConstants.SUCCESS_RESULT));
+        assertEquals(1, listener.getExecutionCount());
+
+        listener.removeByExecutionId(1L);
+
+        assertEquals(0, listener.getExecutionCount());
+        assertFalse(listener.isFlowFinishedByExecutionId(1L));
+        assertNull(listener.getResultByExecutionId(1L));
+    }
+
+    @Test
+    public void testEventsOfConcurrentExecutions() throws Exception {
+        final int executionCount = 2000;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long executionId = 0; executionId < executionCount; executionId++) {
+                final long currentExecutionId = executionId;
+                futures.add(executorService.submit(() -> {
+                    listener.onEvent(createOutputEndEvent(currentExecutionId));
+                    listener.onEvent(createExecutionFinishedEvent(currentExecutionId, "result" + currentExecutionId));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        for (long executionId = 0; executionId < executionCount; executionId++) {
+            assertTrue(listener.getFlowCompletionByExecutionId(executionId).isDone());
+            assertEquals("result" + executionId, listener.getResultByExecutionId(executionId));
+            assertEquals(executionId, listener.getOutputsByExecutionId(executionId).get("output"));
+            listener.removeByExecutionId(executionId);
+        }
+        assertEquals(0, listener.getExecutionCount());
+    }
+
+    private ScoreEvent createOutputEndEvent(Long executionId) {
+        LanguageEventData data = new LanguageEventData();
+        data.setExecutionId(executionId);
+        data.setPath(TriggerTestCaseEventListener.EXEC_START_PATH);
+        Map<String, Serializable> outputs = new HashMap<>();
+        outputs.put("output", executionId);
+        data.setOutputs(outputs);
+        return new ScoreEvent(ScoreLangConstants.EVENT_OUTPUT_END, data);
+    }
+
+    private ScoreEvent createScoreErrorEvent(String eventType, Long executionId) {
+        Map<String, Serializable> executionIdContext = new HashMap<>();
+        executionIdContext.put(EXECUTION_ID_CONTEXT, executionId);
+        Map<String, Serializable> data = new HashMap<>();
+        data.put(SYSTEM_CONTEXT, (Serializable) executionIdContext);
+        data.put(EventConstants.SCORE_ERROR_LOG_MSG, "log message");
+        data.put(EventConstants.SCORE_ERROR_MSG, "error message");
+        return new ScoreEvent(eventType, (Serializable) data);
+    }
+
+    private ScoreEvent createExecutionFinishedEvent(Long executionId, String result) {
+        LanguageEventData data = new LanguageEventData();
+        data.setExecutionId(executionId);
+        data.setResult(result);
+        return new ScoreEvent(ScoreLangConstants.EVENT_EXECUTION_FINISHED, data);
+    }
+}
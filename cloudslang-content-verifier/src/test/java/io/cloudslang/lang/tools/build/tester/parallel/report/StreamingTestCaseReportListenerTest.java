@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.parallel.report;
+
+import io.cloudslang.lang.tools.build.tester.IRunTestResults;
+import io.cloudslang.lang.tools.build.tester.TestRun;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.FailedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.PassedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StreamingTestCaseReportListenerTest {
+
+    private static final String PIECHART_DIV = "<div id=\"piechart\">";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Spy
+    private SlangTestCaseRunReportGeneratorService reportGeneratorService =
+            new SlangTestCaseRunReportGeneratorService();
+
+    @Spy
+    private TestCaseRunResultsService testCaseRunResultsService = new TestCaseRunResultsService();
+
+    @InjectMocks
+    private StreamingTestCaseReportListener streamingTestCaseReportListener;
+
+    @Test
+    public void testResultsAreWrittenAsTheyAreReceived() throws IOException {
+        File reportDirectory = temporaryFolder.newFolder("report");
+        streamingTestCaseReportListener.open(reportDirectory.getAbsolutePath());
+
+        streamingTestCaseReportListener.onEvent(new PassedSlangTestCaseEvent(createTestCase("first")));
+        streamingTestCaseReportListener.onEvent(new FailedSlangTestCaseEvent(createTestCase("second"),
+                "failure message", new RuntimeException("failure message")));
+        streamingTestCaseReportListener.addSkippedTest("third", new TestRun(createTestCase("third"), "skipped"));
+
+        String report = readReport(reportDirectory);
+        assertTrue(report.contains("first"));
+        assertTrue(report.contains("failure message"));
+        assertFalse(report.contains(PIECHART_DIV));
+        assertEquals(3, Files.readAllLines(getResultsFile(reportDirectory), UTF_8).size());
+
+        streamingTestCaseReportListener.close();
+
+        assertFalse(streamingTestCaseReportListener.isOpen());
+        assertTrue(readReport(reportDirectory).contains(PIECHART_DIV));
+        IRunTestResults results = testCaseRunResultsService.readResults(getResultsFile(reportDirectory));
+        assertEquals(Collections.singleton("first"), results.getPassedTests().keySet());
+        assertEquals("failure message", results.getFailedTests().get("second").getMessage());
+        assertEquals("ns.third", results.getSkippedTests().get("third").getTestCase().getTestFlowPath());
+    }
+
+    @Test
+    public void testResultsAreIgnoredWhenNotOpen() throws IOException {
+        streamingTestCaseReportListener.addPassedTest("first", new TestRun(createTestCase("first"), null));
+        streamingTestCaseReportListener.close();
+
+        assertFalse(streamingTestCaseReportListener.isOpen());
+    }
+
+    @Test
+    public void testIncompleteLastLineOfStreamedResultsIsIgnored() throws IOException {
+        File reportDirectory = temporaryFolder.newFolder("report");
+        streamingTestCaseReportListener.open(reportDirectory.getAbsolutePath());
+        streamingTestCaseReportListener.addPassedTest("first", new TestRun(createTestCase("first"), null));
+        Path resultsFile = getResultsFile(reportDirectory);
+        Files.write(resultsFile, "{\"name\":\"second\",\"tes".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        IRunTestResults results = testCaseRunResultsService.readResults(resultsFile);
+
+        assertEquals(Collections.singleton("first"), results.getPassedTests().keySet());
+        assertTrue(results.getFailedTests().isEmpty());
+        streamingTestCaseReportListener.close();
+    }
+
+    @Test
+    public void testLastLineCutInMultiByteCharacterIsIgnored() throws IOException {
+        File reportDirectory = temporaryFolder.newFolder("report");
+        streamingTestCaseReportListener.open(reportDirectory.getAbsolutePath());
+        String firstName = "caf" + (char) 0xE9;
+        streamingTestCaseReportListener.addPassedTest(firstName, new TestRun(createTestCase(firstName), null));
+        Path resultsFile = getResultsFile(reportDirectory);
+        // the last byte of the two bytes of the character is missing
+        byte[] secondTestRun = ("{\"name\":\"na" + (char) 0xEF).getBytes(UTF_8);
+        Files.write(resultsFile, Arrays.copyOf(secondTestRun, secondTestRun.length - 1), StandardOpenOption.APPEND);
+
+        IRunTestResults results = testCaseRunResultsService.readResults(resultsFile);
+
+        assertEquals(Collections.singleton(firstName), results.getPassedTests().keySet());
+        assertTrue(results.getFailedTests().isEmpty());
+        streamingTestCaseReportListener.close();
+    }
+
+    @Test
+    public void testInvalidCompleteLineOfStreamedResultsFails() throws IOException {
+        Path resultsFile = temporaryFolder.getRoot().toPath()
+                .resolve("results" + TestCaseRunResultsService.STREAMED_RESULTS_FILE_EXTENSION);
+        Files.write(resultsFile, Arrays.asList("{\"name\":\"first\",\"tes", "{\"name\":\"second\"}"), UTF_8);
+
+        IOException exception = assertThrows(IOException.class, () ->
+                testCaseRunResultsService.readResults(resultsFile));
+        assertTrue(exception.getMessage().endsWith("at line 1"));
+    }
+
+    private SlangTestCase createTestCase(String name) {
+        SlangTestCase testCase = new SlangTestCase(name, "ns." + name, "description", Arrays.asList("suite"),
+                null, null, null, false, "SUCCESS");
+        testCase.setName(name);
+        return testCase;
+    }
+
+    private String readReport(File reportDirectory) throws IOException {
+        return new String(Files.readAllBytes(findFile(reportDirectory, ".html")), UTF_8);
+    }
+
+    private Path getResultsFile(File reportDirectory) {
+        return findFile(reportDirectory, TestCaseRunResultsService.STREAMED_RESULTS_FILE_EXTENSION);
+    }
+
+    private Path findFile(File reportDirectory, String extension) {
+        List<File> files = Arrays.asList(reportDirectory.listFiles((dir, name) -> name.endsWith(extension)));
+        assertEquals(1, files.size());
+        return files.get(0).toPath();
+    }
+
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.parallel.report;
+
+import com.google.common.collect.Sets;
+import io.cloudslang.lang.tools.build.tester.IRunTestResults;
+import io.cloudslang.lang.tools.build.tester.RunTestsResults;
+import io.cloudslang.lang.tools.build.tester.TestRun;
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
+import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TestCaseRunResultsServiceTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final TestCaseRunResultsService testCaseRunResultsService = new TestCaseRunResultsService();
+
+    @Test
+    public void testWriteAndReadResults() throws Exception {
+        RunTestsResults runTestsResults = new RunTestsResults();
+        SlangTestCase passed = new SlangTestCase("passed", "ns.flow", "description", Arrays.asList("suite"),
+                null, null, Collections.<Map>singletonList(Collections.singletonMap("output", "value")),
+                false, "SUCCESS", "/tests/passed.inputs.yaml");
+        runTestsResults.addPassedTest("passed", new TestRun(passed, null));
+        runTestsResults.addFailedTest("failed", new TestRun(createTestCase("failed"), "failure message"));
+        runTestsResults.addSkippedTest("skipped", new TestRun(createTestCase("skipped"), "skipped message"));
+        runTestsResults.addCoveredExecutables(Sets.newHashSet("ns.flow"));
+        runTestsResults.addUncoveredExecutables(Sets.newHashSet("ns.op"));
+        runTestsResults.addExceptions(new ArrayDeque<>(Collections.singletonList(new RuntimeException("error"))));
+        Path resultsFile = temporaryFolder.getRoot().toPath().resolve("shard").resolve("results.json");
+
+        testCaseRunResultsService.writeResults(runTestsResults, resultsFile);
+        IRunTestResults readResults = testCaseRunResultsService.readResults(resultsFile);
+
+        assertEquals(runTestsResults, readResults);
+        SlangTestCase readTestCase = readResults.getPassedTests().get("passed").getTestCase();
+        assertEquals(passed.getOutputs(), readTestCase.getOutputs());
+        assertEquals(passed.getFilePath(), readTestCase.getFilePath());
+        assertEquals("failure message", readResults.getFailedTests().get("failed").getMessage());
+        assertEquals(runTestsResults.getCoveredExecutables(), readResults.getCoveredExecutables());
+        assertEquals(runTestsResults.getUncoveredExecutables(), readResults.getUncoveredExecutables());
+        assertEquals("error", readResults.getExceptions().peek().getMessage());
+    }
+
+    @Test
+    public void testWriteAndReadDurations() throws Exception {
+        RunTestsResults runTestsResults = new RunTestsResults();
+        runTestsResults.addPassedTest("passed", new TestRun(createTestCase("passed"), null));
+        runTestsResults.addFailedTest("failed", new TestRun(createTestCase("failed"), "failure message"));
+        runTestsResults.addSkippedTest("skipped", new TestRun(createTestCase("skipped"), null));
+        runTestsResults.addPassedTest("new", new TestRun(createTestCase("new"), null));
+        TestCaseDurationHistory testCaseDurationHistory = new TestCaseDurationHistory();
+        testCaseDurationHistory.putDuration("passed", 100L);
+        testCaseDurationHistory.putDuration("failed", 200L);
+        testCaseDurationHistory.putDuration("skipped", 300L);
+        Path resultsFile = temporaryFolder.getRoot().toPath().resolve("results.json");
+
+        testCaseRunResultsService.writeResults(runTestsResults, testCaseDurationHistory, resultsFile);
+        TestCaseDurationHistory readDurations = new TestCaseDurationHistory();
+        testCaseRunResultsService.readDurations(resultsFile, readDurations);
+
+        assertEquals(runTestsResults, testCaseRunResultsService.readResults(resultsFile));
+        assertEquals(Long.valueOf(100L), readDurations.getDuration("passed"));
+        assertEquals(Long.valueOf(200L), readDurations.getDuration("failed"));
+        assertNull(readDurations.getDuration("skipped"));
+        assertNull(readDurations.getDuration("new"));
+    }
+
+    @Test
+    public void testMergeResults() {
+        RunTestsResults firstShard = new RunTestsResults();
+        firstShard.addPassedTest("first", new TestRun(createTestCase("first"), null));
+        firstShard.addCoveredExecutables(Sets.newHashSet("ns.first"));
+        firstShard.addUncoveredExecutables(Sets.newHashSet("ns.second", "ns.third"));
+        RunTestsResults secondShard = new RunTestsResults();
+        secondShard.addFailedTest("second", new TestRun(createTestCase("second"), "failure message"));
+        secondShard.addSkippedTest("third", new TestRun(createTestCase("third"), null));
+        secondShard.addCoveredExecutables(Sets.newHashSet("ns.second"));
+        secondShard.addUncoveredExecutables(Sets.newHashSet("ns.first", "ns.third"));
+
+        IRunTestResults mergedResults = testCaseRunResultsService.mergeResults(Arrays.asList(firstShard, secondShard));
+
+        assertEquals(Collections.singleton("first"), mergedResults.getPassedTests().keySet());
+        assertEquals(Collections.singleton("second"), mergedResults.getFailedTests().keySet());
+        assertEquals(Collections.singleton("third"), mergedResults.getSkippedTests().keySet());
+        assertEquals(Sets.newHashSet("ns.first", "ns.second"), mergedResults.getCoveredExecutables());
+        assertEquals(Collections.singleton("ns.third"), mergedResults.getUncoveredExecutables());
+    }
+
+    private SlangTestCase createTestCase(String name) {
+        return new SlangTestCase(name, "ns." + name, null, Arrays.asList("suite"), null, null, null, false, null);
+    }
+
+}
@@ -10,11 +10,12 @@
 package io.cloudslang.lang.tools.build.tester.parallel.services;
 
 
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -28,6 +29,7 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -39,7 +41,7 @@ public class ParallelTestCaseExecutorServiceTest {
     private ParallelTestCaseExecutorService parallelTestCaseExecutorService;
 
     @Mock
-    private ExecutorService threadPoolExecutor;
+    private ThreadPoolExecutor threadPoolExecutor;
 
     @Test
     public void testSubmitSuccess() {
@@ -69,6 +71,26 @@ public class ParallelTestCaseExecutorServiceTest {
         verify(threadPoolExecutor).submit(eq(mockRunnable));
     }
 
+    @Test
+    public void testSetThreadCountIsCappedByConfiguredThreadCount() {
+        doReturn(1).when(threadPoolExecutor).getCorePoolSize();
+        int maxThreadCount = parallelTestCaseExecutorService.getMaxThreadCount();
+
+        assertEquals(maxThreadCount, parallelTestCaseExecutorService.setThreadCount(maxThreadCount + 1));
+        verify(threadPoolExecutor).setCorePoolSize(eq(maxThreadCount));
+        verify(threadPoolExecutor).setMaximumPoolSize(eq(maxThreadCount));
+    }
+
+    @Test
+    public void testSetThreadCountShrinksPool() {
+        doReturn(4).when(threadPoolExecutor).getCorePoolSize();
+
+        assertEquals(1, parallelTestCaseExecutorService.setThreadCount(0));
+        InOrder inOrder = inOrder(threadPoolExecutor);
+        inOrder.verify(threadPoolExecutor).setCorePoolSize(eq(1));
+        inOrder.verify(threadPoolExecutor).setMaximumPoolSize(eq(1));
+    }
+
     @Test
     public void testDestroySuccess() throws Exception {
         doNothing().when(threadPoolExecutor).shutdown();
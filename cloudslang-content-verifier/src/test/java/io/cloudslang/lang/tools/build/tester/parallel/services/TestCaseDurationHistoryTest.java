@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.parallel.services;
+
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.BeginSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.FailedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.PassedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parallel.testcaseevents.SkippedSlangTestCaseEvent;
+import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestCaseDurationHistoryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final TestCaseDurationHistory testCaseDurationHistory = new TestCaseDurationHistory();
+
+    @Test
+    public void testDurationIsRecordedForPassedAndFailedTestCases() {
+        SlangTestCase passed = createTestCase("passed");
+        SlangTestCase failed = createTestCase("failed");
+        SlangTestCase skipped = createTestCase("skipped");
+
+        testCaseDurationHistory.onEvent(new BeginSlangTestCaseEvent(passed));
+        testCaseDurationHistory.onEvent(new BeginSlangTestCaseEvent(failed));
+        testCaseDurationHistory.onEvent(new PassedSlangTestCaseEvent(passed));
+        testCaseDurationHistory.onEvent(new FailedSlangTestCaseEvent(failed, "message", null));
+        testCaseDurationHistory.onEvent(new SkippedSlangTestCaseEvent(skipped));
+
+        assertNotNull(testCaseDurationHistory.getDuration("passed"));
+        assertNotNull(testCaseDurationHistory.getDuration("failed"));
+        assertNull(testCaseDurationHistory.getDuration("skipped"));
+    }
+
+    @Test
+    public void testOrderByDurationStartsWithUnknownAndLongestTestCases() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Files.write(directory.resolve(TestCaseDurationHistory.DURATIONS_FILE_NAME),
+                Arrays.asList("short=10", "long=5000", "medium=200"), StandardCharsets.UTF_8);
+        testCaseDurationHistory.load(directory);
+
+        SlangTestCase shortTestCase = createTestCase("short");
+        SlangTestCase longTestCase = createTestCase("long");
+        SlangTestCase mediumTestCase = createTestCase("medium");
+        SlangTestCase newTestCase = createTestCase("new");
+        List<SlangTestCase> orderedTestCases = testCaseDurationHistory.orderByDuration(
+                Arrays.asList(shortTestCase, longTestCase, mediumTestCase, newTestCase));
+
+        assertEquals(Arrays.asList(newTestCase, longTestCase, mediumTestCase, shortTestCase), orderedTestCases);
+    }
+
+    @Test
+    public void testConcurrencyFitsTheRecordedDurationsInTheTargetWallTime() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Files.write(directory.resolve(TestCaseDurationHistory.DURATIONS_FILE_NAME),
+                Arrays.asList("long=5000", "medium=3000", "short=1000", "other=1000"), StandardCharsets.UTF_8);
+        testCaseDurationHistory.load(directory);
+        List<SlangTestCase> testCases = Arrays.asList(createTestCase("long"), createTestCase("medium"),
+                createTestCase("short"), createTestCase("other"));
+
+        assertEquals(1, testCaseDurationHistory.getConcurrency(testCases, 10000, 8));
+        assertEquals(2, testCaseDurationHistory.getConcurrency(testCases, 6000, 8));
+        // no run is shorter than its longest test case, so the pool is not shrunk
+        assertEquals(4, testCaseDurationHistory.getConcurrency(testCases, 1000, 8));
+        assertEquals(1, testCaseDurationHistory.getConcurrency(testCases, 10000, 1));
+    }
+
+    @Test
+    public void testConcurrencyWithoutTargetWallTimeIsNotShrunk() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+        Files.write(directory.resolve(TestCaseDurationHistory.DURATIONS_FILE_NAME),
+                Arrays.asList("a=10", "b=6", "c=6", "d=6", "e=6"), StandardCharsets.UTF_8);
+        testCaseDurationHistory.load(directory);
+        List<SlangTestCase> testCases = Arrays.asList(createTestCase("a"), createTestCase("b"),
+                createTestCase("c"), createTestCase("d"), createTestCase("e"));
+
+        // 4 threads would take 12ms, while 5 threads finish in 10ms
+        assertEquals(5, testCaseDurationHistory.getConcurrency(testCases, 0, 5));
+        assertEquals(5, testCaseDurationHistory.getConcurrency(testCases, 10, 5));
+        assertEquals(3, testCaseDurationHistory.getConcurrency(testCases, 12, 5));
+    }
+
+    @Test
+    public void testConcurrencyWithUnknownDurationsIsBoundedByTheTestCases() {
+        List<SlangTestCase> testCases = Arrays.asList(createTestCase("first"), createTestCase("second"));
+
+        assertEquals(2, testCaseDurationHistory.getConcurrency(testCases, 0, 8));
+        assertEquals(1, testCaseDurationHistory.getConcurrency(testCases, 0, 1));
+        assertEquals(1, testCaseDurationHistory.getConcurrency(Arrays.asList(), 0, 8));
+    }
+
+    @Test
+    public void testSaveAndLoad() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath().resolve("report");
+        SlangTestCase testCase = createTestCase("test case: with special characters");
+        testCaseDurationHistory.onEvent(new BeginSlangTestCaseEvent(testCase));
+        testCaseDurationHistory.onEvent(new PassedSlangTestCaseEvent(testCase));
+
+        testCaseDurationHistory.save(directory);
+        TestCaseDurationHistory loadedHistory = new TestCaseDurationHistory();
+        loadedHistory.load(directory);
+
+        assertTrue(Files.isRegularFile(directory.resolve(TestCaseDurationHistory.DURATIONS_FILE_NAME)));
+        assertEquals(testCaseDurationHistory.getDuration(testCase.getName()),
+                loadedHistory.getDuration(testCase.getName()));
+    }
+
+    @Test
+    public void testInvalidAndMissingDurationsAreIgnored() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+        testCaseDurationHistory.load(directory);
+
+        Files.write(directory.resolve(TestCaseDurationHistory.DURATIONS_FILE_NAME),
+                Arrays.asList("invalid=abc", "valid=42"), StandardCharsets.UTF_8);
+        testCaseDurationHistory.load(directory);
+
+        assertNull(testCaseDurationHistory.getDuration("invalid"));
+        assertEquals(Long.valueOf(42L), testCaseDurationHistory.getDuration("valid"));
+    }
+
+    private SlangTestCase createTestCase(String name) {
+        return new SlangTestCase(name, null, null, null, null, null, null, null, null);
+    }
+
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.runconfiguration;
+
+import com.google.common.collect.Sets;
+import io.cloudslang.lang.compiler.modeller.model.Executable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExecutableImpactIndexTest {
+
+    private Map<String, Executable> models;
+    private ExecutableImpactIndex impactIndex;
+
+    @Before
+    public void setUp() {
+        models = new HashMap<>();
+        models.put("test.first_flow", mockExecutable("ns.flow"));
+        models.put("test.second_flow", mockExecutable("ns.other_op"));
+        models.put("ns.flow", mockExecutable("ns.op", "ns.subflow"));
+        models.put("ns.subflow", mockExecutable("ns.op"));
+        models.put("ns.op", mockExecutable());
+        models.put("ns.other_op", mockExecutable());
+        impactIndex = new ExecutableImpactIndex(models);
+    }
+
+    @Test
+    public void testImpactedExecutablesAreTransitiveDependents() {
+        assertEquals(Sets.newHashSet("ns.op", "ns.subflow", "ns.flow", "test.first_flow"),
+                impactIndex.getImpactedExecutables(Collections.singleton("ns.op")));
+        assertEquals(Sets.newHashSet("ns.other_op", "test.second_flow"),
+                impactIndex.getImpactedExecutables(Collections.singleton("ns.other_op")));
+    }
+
+    @Test
+    public void testUnknownChangedExecutableImpactsOnlyItself() {
+        assertEquals(Collections.singleton("ns.unknown"),
+                impactIndex.getImpactedExecutables(Collections.singleton("ns.unknown")));
+    }
+
+    @Test
+    public void testModelsWithDependencies() {
+        Map<String, Executable> requiredModels =
+                impactIndex.getModelsWithDependencies(Collections.singleton("test.first_flow"));
+
+        assertEquals(Sets.newHashSet("test.first_flow", "ns.flow", "ns.subflow", "ns.op"), requiredModels.keySet());
+        assertEquals(models.get("ns.flow"), requiredModels.get("ns.flow"));
+    }
+
+    private Executable mockExecutable(String... dependencies) {
+        Executable executable = mock(Executable.class);
+        when(executable.getExecutableDependencies()).thenReturn(new HashSet<>(asList(dependencies)));
+        return executable;
+    }
+
+}
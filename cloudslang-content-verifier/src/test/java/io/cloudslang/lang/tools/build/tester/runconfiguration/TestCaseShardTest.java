@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.tester.runconfiguration;
+
+import io.cloudslang.lang.tools.build.tester.parallel.services.TestCaseDurationHistory;
+import io.cloudslang.lang.tools.build.tester.parse.SlangTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class TestCaseShardTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testParse() {
+        TestCaseShard testCaseShard = TestCaseShard.parse(" 2/8 ");
+
+        assertEquals(2, testCaseShard.getIndex());
+        assertEquals(8, testCaseShard.getCount());
+        assertEquals("2/8", testCaseShard.toString());
+    }
+
+    @Test
+    public void testParseInvalidShard() {
+        for (String shard : asList("", "2", "0/2", "3/2", "a/2", "1/2/3", "-1/2")) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                    TestCaseShard.parse(shard));
+            assertTrue(exception.getMessage().startsWith("Invalid shard"));
+        }
+    }
+
+    @Test
+    public void testShardsPartitionTheTestCasesByName() {
+        Map<String, SlangTestCase> testCases = createTestCases(17);
+
+        Set<String> selectedTestCases = new HashSet<>();
+        for (int index = 1; index <= 4; index++) {
+            Map<String, SlangTestCase> shardTestCases = new TestCaseShard(index, 4).selectTestCases(testCases);
+            assertFalse(shardTestCases.isEmpty());
+            for (String testCaseName : shardTestCases.keySet()) {
+                assertTrue(selectedTestCases.add(testCaseName));
+            }
+        }
+        assertEquals(testCases.keySet(), selectedTestCases);
+    }
+
+    @Test
+    public void testShardsPartitionTheTestCasesByDuration() {
+        Map<String, SlangTestCase> testCases = createTestCases(17);
+        TestCaseDurationHistory sharedDurations = new TestCaseDurationHistory();
+
+        Set<String> selectedTestCases = new HashSet<>();
+        for (int index = 1; index <= 4; index++) {
+            Map<String, SlangTestCase> shardTestCases =
+                    new TestCaseShard(index, 4, sharedDurations).selectTestCases(testCases);
+            assertTrue(shardTestCases.size() == 4 || shardTestCases.size() == 5);
+            for (String testCaseName : shardTestCases.keySet()) {
+                assertTrue(selectedTestCases.add(testCaseName));
+            }
+        }
+        assertEquals(testCases.keySet(), selectedTestCases);
+    }
+
+    @Test
+    public void testShardsAreBalancedByDuration() throws Exception {
+        Map<String, SlangTestCase> testCases = createTestCases(5);
+        Path durationsFile = temporaryFolder.getRoot().toPath().resolve("merged-durations.properties");
+        Files.write(durationsFile, asList("test0=100", "test1=40", "test2=30", "test3=20"), StandardCharsets.UTF_8);
+        TestCaseDurationHistory sharedDurations = new TestCaseDurationHistory();
+        sharedDurations.loadFile(durationsFile);
+
+        Map<String, SlangTestCase> firstShard =
+                TestCaseShard.parse("1/2").withSharedDurations(sharedDurations).selectTestCases(testCases);
+        Map<String, SlangTestCase> secondShard =
+                TestCaseShard.parse("2/2").withSharedDurations(sharedDurations).selectTestCases(testCases);
+
+        // test4 has no recorded duration and is assumed to take the average duration of 47ms
+        assertEquals(new HashSet<>(asList("test0", "test3")), firstShard.keySet());
+        assertEquals(new HashSet<>(asList("test1", "test2", "test4")), secondShard.keySet());
+    }
+
+    @Test
+    public void testSingleShardSelectsAllTestCases() {
+        Map<String, SlangTestCase> testCases = createTestCases(3);
+
+        assertEquals(testCases, new TestCaseShard(1, 1).selectTestCases(testCases));
+    }
+
+    private Map<String, SlangTestCase> createTestCases(int count) {
+        Map<String, SlangTestCase> testCases = new LinkedHashMap<>();
+        for (int index = 0; index < count; index++) {
+            String name = "test" + index;
+            testCases.put(name, new SlangTestCase(name, null, null, null, null, null, null, null, null));
+        }
+        return testCases;
+    }
+
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.tools.build.verifier;
+
+import io.cloudslang.lang.compiler.modeller.model.Executable;
+import io.cloudslang.lang.compiler.modeller.model.Flow;
+import io.cloudslang.lang.compiler.modeller.model.Operation;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutableDependencyGraphTest {
+
+    private static final String NAMESPACE = "ns";
+
+    @Test
+    public void testDiamondDependenciesAreGroupedByLevel() {
+        Executable base = operation("base");
+        Executable left = flow("left", "ns.base");
+        Executable right = flow("right", "ns.base");
+        Executable top = flow("top", "ns.left", "ns.right");
+
+        ExecutableDependencyGraph graph = new ExecutableDependencyGraph(models(top, left, right, base));
+
+        assertTrue(graph.getErrors().isEmpty());
+        List<List<Executable>> levels = graph.getCompilationLevels();
+        assertEquals(3, levels.size());
+        assertEquals(Collections.singletonList(base), levels.get(0));
+        assertEquals(new HashSet<>(Arrays.asList(left, right)), new HashSet<>(levels.get(1)));
+        assertEquals(Collections.singletonList(top), levels.get(2));
+        assertEquals(new HashSet<>(Arrays.asList(left, right, base)), new HashSet<>(graph.getDependencies(top)));
+        assertEquals(Collections.singleton(base), new HashSet<>(graph.getDependencies(left)));
+        assertTrue(graph.getDependencies(base).isEmpty());
+    }
+
+    @Test
+    public void testMissingDependencyIsPropagatedToDependents() {
+        Executable middle = flow("middle", "ns.missing");
+        Executable top = flow("top", "ns.middle");
+        Executable other = operation("other");
+
+        ExecutableDependencyGraph graph = new ExecutableDependencyGraph(models(top, middle, other));
+
+        assertEquals(2, graph.getErrors().size());
+        String expectedMessage = "Failed compiling slang source: ns.middle. Missing dependency: ns.missing";
+        assertEquals(expectedMessage, graph.getErrors().get("ns.middle").getMessage());
+        assertEquals(expectedMessage, graph.getErrors().get("ns.top").getMessage());
+        assertEquals(Collections.singletonList(Collections.singletonList(other)), graph.getCompilationLevels());
+    }
+
+    @Test
+    public void testCycleIsReported() {
+        Executable first = flow("first", "ns.second");
+        Executable second = flow("second", "ns.first");
+        Executable caller = flow("caller", "ns.first");
+
+        ExecutableDependencyGraph graph = new ExecutableDependencyGraph(models(caller, first, second));
+
+        assertTrue(graph.getCompilationLevels().isEmpty());
+        assertEquals(3, graph.getErrors().size());
+        assertEquals("Failed compiling slang source: ns.first. Cyclic dependency: ns.first -> ns.second -> ns.first",
+                graph.getErrors().get("ns.first").getMessage());
+        assertEquals("Failed compiling slang source: ns.caller. Cyclic dependency: ns.first -> ns.second -> ns.first",
+                graph.getErrors().get("ns.caller").getMessage());
+    }
+
+    @Test
+    public void testSelfDependencyIsReportedAsCycle() {
+        Executable recursive = flow("recursive", "ns.recursive");
+
+        ExecutableDependencyGraph graph = new ExecutableDependencyGraph(models(recursive));
+
+        assertEquals("Failed compiling slang source: ns.recursive. Cyclic dependency: ns.recursive -> ns.recursive",
+                graph.getErrors().get("ns.recursive").getMessage());
+    }
+
+    private Map<String, Executable> models(Executable... executables) {
+        Map<String, Executable> models = new LinkedHashMap<>();
+        for (Executable executable : executables) {
+            models.put(executable.getId(), executable);
+        }
+        return models;
+    }
+
+    private Executable flow(String name, String... dependencies) {
+        return new Flow(null, null, null, NAMESPACE, name, null, null, null, null,
+                new HashSet<>(Arrays.asList(dependencies)), new HashSet<String>());
+    }
+
+    private Executable operation(String name) {
+        return new Operation(null, null, null, NAMESPACE, name, null, null, null,
+                new HashSet<String>(), new HashSet<String>());
+    }
+}
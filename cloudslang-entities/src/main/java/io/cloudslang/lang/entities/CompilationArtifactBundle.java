@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.entities;
+
+import io.cloudslang.lang.entities.bindings.Input;
+import io.cloudslang.score.api.ExecutionPlan;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binary format (<code>.slc</code> files) for already compiled {@link CompilationArtifact}s, so they can be
+ * loaded without parsing, modelling and compiling their sources again.
+ * <p>
+ * A bundle starts with a magic number and a format version, followed by the Java serialized execution plans of
+ * all the dependencies, each stored once per executable id even when several artifacts depend on it, and then
+ * by the artifacts themselves, which only refer to their dependencies by id. The artifacts of a bundle are
+ * expected to be compiled from the same content, so the first plan found for an executable id is kept.
+ * Bundles rely on Java serialization of the CloudSlang and score classes, so they should be loaded by the same
+ * CloudSlang version that wrote them, and only from trusted locations.
+ */
+public final class CompilationArtifactBundle {
+
+    public static final String FILE_EXTENSION = "slc";
+    public static final int FORMAT_VERSION = 1;
+
+    // "SLC" followed by a zero byte
+    private static final int MAGIC_NUMBER = 0x534C4300;
+    // the CloudSlang models and score execution plans, and the JDK types found in them
+    private static final String[] ALLOWED_PACKAGES = {"io.cloudslang.lang.entities.",
+        "io.cloudslang.lang.compiler.modeller.model.", "io.cloudslang.score.api."};
+    private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+            String.class.getName(), Boolean.class.getName(), Byte.class.getName(), Character.class.getName(),
+            Short.class.getName(), Integer.class.getName(), Long.class.getName(), Float.class.getName(),
+            Double.class.getName(), Number.class.getName(), Enum.class.getName(),
+            ArrayList.class.getName(), HashMap.class.getName(), LinkedHashMap.class.getName(),
+            HashSet.class.getName(), LinkedHashSet.class.getName(), "java.util.Arrays$ArrayList",
+            "java.util.Collections$EmptyList", "java.util.Collections$EmptyMap", "java.util.Collections$EmptySet",
+            "java.util.Collections$SingletonList", "java.util.Collections$SingletonMap",
+            "java.util.Collections$SingletonSet", "java.util.Collections$UnmodifiableCollection",
+            "java.util.Collections$UnmodifiableList", "java.util.Collections$UnmodifiableRandomAccessList",
+            "java.util.Collections$UnmodifiableMap", "java.util.Collections$UnmodifiableSet"));
+
+    private CompilationArtifactBundle() {
+    }
+
+    /**
+     * @param compilationArtifacts the artifacts to write
+     * @param outputStream         the stream to write the bundle to, left open
+     */
+    public static void write(Collection<CompilationArtifact> compilationArtifacts, OutputStream outputStream)
+            throws IOException {
+        Map<String, ExecutionPlan> dependencies = new LinkedHashMap<>();
+        for (CompilationArtifact compilationArtifact : compilationArtifacts) {
+            for (Map.Entry<String, ExecutionPlan> dependency : compilationArtifact.getDependencies().entrySet()) {
+                dependencies.putIfAbsent(dependency.getKey(), dependency.getValue());
+            }
+        }
+
+        DataOutputStream dataOutputStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        dataOutputStream.writeInt(MAGIC_NUMBER);
+        dataOutputStream.writeInt(FORMAT_VERSION);
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(dataOutputStream);
+        objectOutputStream.writeInt(dependencies.size());
+        for (Map.Entry<String, ExecutionPlan> dependency : dependencies.entrySet()) {
+            objectOutputStream.writeUTF(dependency.getKey());
+            objectOutputStream.writeObject(dependency.getValue());
+        }
+        objectOutputStream.writeInt(compilationArtifacts.size());
+        for (CompilationArtifact compilationArtifact : compilationArtifacts) {
+            objectOutputStream.writeObject(compilationArtifact.getExecutionPlan());
+            objectOutputStream.writeObject(new ArrayList<>(compilationArtifact.getDependencies().keySet()));
+            objectOutputStream.writeObject(compilationArtifact.getInputs() == null ?
+                    null : new ArrayList<>(compilationArtifact.getInputs()));
+            objectOutputStream.writeObject(compilationArtifact.getSystemProperties() == null ?
+                    null : new HashSet<>(compilationArtifact.getSystemProperties()));
+        }
+        objectOutputStream.flush();
+    }
+
+    /**
+     * @param inputStream the stream to read the bundle from, left open
+     * @return the artifacts of the bundle, in the order they were written
+     * @throws IllegalArgumentException if the stream is not a bundle or has an unsupported format version
+     */
+    @SuppressWarnings("unchecked")
+    public static List<CompilationArtifact> read(InputStream inputStream) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream));
+        if (dataInputStream.readInt() != MAGIC_NUMBER) {
+            throw new IllegalArgumentException("Content is not a compilation artifact bundle");
+        }
+        int formatVersion = dataInputStream.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported compilation artifact bundle format version: " +
+                    formatVersion + ". Supported version is: " + FORMAT_VERSION);
+        }
+
+        ObjectInputStream objectInputStream = new BundleObjectInputStream(dataInputStream);
+        try {
+            int dependencyCount = objectInputStream.readInt();
+            Map<String, ExecutionPlan> dependencies = new HashMap<>(dependencyCount * 2);
+            for (int index = 0; index < dependencyCount; index++) {
+                String executableId = objectInputStream.readUTF();
+                dependencies.put(executableId, (ExecutionPlan) objectInputStream.readObject());
+            }
+            int artifactCount = objectInputStream.readInt();
+            List<CompilationArtifact> compilationArtifacts = new ArrayList<>(artifactCount);
+            for (int index = 0; index < artifactCount; index++) {
+                ExecutionPlan executionPlan = (ExecutionPlan) objectInputStream.readObject();
+                List<String> dependencyIds = (List<String>) objectInputStream.readObject();
+                List<Input> inputs = (List<Input>) objectInputStream.readObject();
+                Set<String> systemProperties = (Set<String>) objectInputStream.readObject();
+
+                Map<String, ExecutionPlan> artifactDependencies = new HashMap<>(dependencyIds.size() * 2);
+                for (String dependencyId : dependencyIds) {
+                    ExecutionPlan dependency = dependencies.get(dependencyId);
+                    if (dependency == null) {
+                        throw new IOException("Corrupted compilation artifact bundle: missing execution plan for " +
+                                "dependency: " + dependencyId);
+                    }
+                    artifactDependencies.put(dependencyId, dependency);
+                }
+                compilationArtifacts.add(
+                        new CompilationArtifact(executionPlan, artifactDependencies, inputs, systemProperties));
+            }
+            return compilationArtifacts;
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Corrupted compilation artifact bundle: " + e.getMessage(), e);
+        }
+    }
+
+    private static class BundleObjectInputStream extends ObjectInputStream {
+
+        BundleObjectInputStream(InputStream inputStream) throws IOException {
+            super(inputStream);
+        }
+
+        // the class is checked by name before it is loaded, since loading it may already run its code
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!isAllowed(getComponentClassName(desc.getName()))) {
+                throw new InvalidClassException(desc.getName(), "Class is not allowed in compilation artifact bundles");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not allowed in compilation artifact bundles");
+        }
+
+        // the name of an array class is its component class name in the form [[Lname; or [I for primitives
+        private String getComponentClassName(String className) {
+            int dimensions = 0;
+            while (className.startsWith("[", dimensions)) {
+                dimensions++;
+            }
+            if (dimensions == 0) {
+                return className;
+            }
+            String componentName = className.substring(dimensions);
+            return componentName.startsWith("L") && componentName.endsWith(";") ?
+                    componentName.substring(1, componentName.length() - 1) : null;
+        }
+
+        // a null name is the one of a primitive component type
+        private boolean isAllowed(String className) {
+            if (className == null || ALLOWED_CLASSES.contains(className)) {
+                return true;
+            }
+            for (String allowedPackage : ALLOWED_PACKAGES) {
+                if (className.startsWith(allowedPackage)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
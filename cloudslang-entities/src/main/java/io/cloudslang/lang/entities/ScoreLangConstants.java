@@ -39,10 +39,12 @@ public interface ScoreLangConstants {
     String PYTHON_ACTION_SCRIPT_KEY = "script";
     String PYTHON_ACTION_USE_JYTHON_KEY = "useJython";
     String PYTHON_ACTION_DEPENDENCIES_KEY = "dependencies";
+    String PYTHON_ACTION_SCRIPT_PARAMS_KEY = "scriptParams";
 
     String SEQ_ACTION_GAV_KEY = "gav";
     String SEQ_STEPS_KEY = "steps";
     String SEQ_EXTERNAL_KEY = "external";
+    String SEQ_PARAMETERS_KEY = "seqParameters";
 
     //navigation
     String NEXT_STEP_ID_KEY = "nextStepId";
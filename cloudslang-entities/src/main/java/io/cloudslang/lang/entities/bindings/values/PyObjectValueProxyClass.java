@@ -9,7 +9,11 @@
  *******************************************************************************/
 package io.cloudslang.lang.entities.bindings.values;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.Arrays;
 
 import static java.util.Arrays.copyOf;
@@ -24,11 +28,27 @@ public class PyObjectValueProxyClass {
     private Class proxyClass;
     private Constructor<?> constructor;
     private Object[] params;
+    private MethodHandle instantiator;
 
     public PyObjectValueProxyClass(Class proxyClass, Constructor<?> constructor, Object[] params) {
         this.proxyClass = proxyClass;
         this.constructor = constructor;
         this.params = getParamsHelper(params);
+        this.instantiator = createInstantiator(constructor, this.params);
+    }
+
+    /**
+     * Creates an instance of the proxy class with the default constructor parameters, through a method handle
+     * bound to them instead of a reflective call.
+     */
+    public Object newInstance() throws Exception {
+        try {
+            return instantiator.invokeExact();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
     }
 
     public Class getProxyClass() {
@@ -45,6 +65,7 @@ public class PyObjectValueProxyClass {
 
     public void setConstructor(Constructor<?> constructor) {
         this.constructor = constructor;
+        this.instantiator = createInstantiator(constructor, this.params);
     }
 
     public Object[] getParams() {
@@ -53,6 +74,22 @@ public class PyObjectValueProxyClass {
 
     public void setParams(Object[] params) {
         this.params = getParamsHelper(params);
+        this.instantiator = createInstantiator(this.constructor, this.params);
+    }
+
+    private static MethodHandle createInstantiator(Constructor<?> constructor, Object[] params) {
+        if (constructor == null) {
+            return null;
+        }
+        try {
+            MethodHandle constructorHandle = MethodHandles.publicLookup().unreflectConstructor(constructor);
+            if (params != null) {
+                constructorHandle = MethodHandles.insertArguments(constructorHandle, 0, params);
+            }
+            return constructorHandle.asType(MethodType.methodType(Object.class));
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to access the constructor of the proxy class: " + constructor, e);
+        }
     }
 
     private static Object[] getParamsHelper(Object[] params) {
@@ -13,6 +13,9 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
@@ -25,7 +28,10 @@ import javassist.util.proxy.ProxyFactory;
 import javassist.util.proxy.ProxyObject;
 import org.apache.commons.lang.ClassUtils;
 import org.python.core.Py;
+import org.python.core.PyDictionary;
+import org.python.core.PyList;
 import org.python.core.PyObject;
+import org.python.core.PyString;
 import org.python.core.PyType;
 
 /**
@@ -40,15 +46,76 @@ public class PyObjectValueProxyFactory {
 
     public static final String PROXY_CLASS_SUFFIX = "Value";
 
-    private static ConcurrentMap<String, PyObjectValueProxyClass> proxyClasses = new ConcurrentHashMap<>();
+    private static ConcurrentMap<Class<?>, PyObjectValueProxyClass> proxyClasses = new ConcurrentHashMap<>();
+
+    /**
+     * Samples of the contents most often converted to PyObjects, used to generate their proxy classes up front
+     */
+    private static final Serializable[] COMMON_CONTENTS = {null, "", 0, 0L, 0.0d, Boolean.FALSE, BigInteger.ZERO,
+        new ArrayList<>(), new HashMap<>(), new PyString(), new PyList(), new PyDictionary()};
 
     public static PyObjectValue create(Serializable content, boolean sensitive) {
+        if (!sensitive) {
+            PyObjectValue sharedValue = SharedValues.get(content);
+            if (sharedValue != null) {
+                return sharedValue;
+            }
+        }
+        return createProxy(content, ValueFactory.create(content, sensitive));
+    }
+
+    /**
+     * Creates a PyObjectValue which delegates to the given value, without copying it (and encrypting it again
+     * when it is sensitive).
+     */
+    public static PyObjectValue create(Value value) {
+        if (value == null || value instanceof PyObjectValue) {
+            return create(value == null ? null : value.get(), value != null && value.isSensitive());
+        }
+        Serializable content = value.get();
+        if (!value.isSensitive()) {
+            PyObjectValue sharedValue = SharedValues.get(content);
+            if (sharedValue != null) {
+                return sharedValue;
+            }
+        }
+        return createProxy(content, value);
+    }
+
+    /**
+     * Marks a PyObjectValue created by this factory as not accessed, so it can be reused by another evaluation.
+     */
+    public static void resetAccessed(PyObjectValue pyObjectValue) {
+        if (pyObjectValue instanceof ProxyObject) {
+            MethodHandler handler = ((ProxyObject) pyObjectValue).getHandler();
+            if (handler instanceof PyObjectValueMethodHandler) {
+                ((PyObjectValueMethodHandler) handler).accessed = false;
+            }
+        }
+    }
+
+    /**
+     * Generates the proxy classes of the common PyObject types, so they are not generated while the first
+     * expressions are evaluated.
+     */
+    public static void prewarm() {
+        for (Serializable content : COMMON_CONTENTS) {
+            PyObject pyObject = Py.java2py(content);
+            try {
+                getProxyClass(pyObject);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to create a proxy class for PyObjectValue and " +
+                        pyObject.getClass().getSimpleName(), e);
+            }
+        }
+        SharedValues.get(null);
+    }
+
+    private static PyObjectValue createProxy(Serializable content, Value value) {
         PyObject pyObject = Py.java2py(content);
         try {
-            PyObjectValueProxyClass proxyClass = getProxyClass(pyObject);
-            PyObjectValue pyObjectValue = (PyObjectValue) proxyClass.getConstructor()
-                    .newInstance(proxyClass.getParams());
-            ((Proxy) pyObjectValue).setHandler(new PyObjectValueMethodHandler(content, sensitive, pyObject));
+            PyObjectValue pyObjectValue = (PyObjectValue) getProxyClass(pyObject).newInstance();
+            ((Proxy) pyObjectValue).setHandler(new PyObjectValueMethodHandler(value, pyObject));
             return pyObjectValue;
         } catch (Exception e) {
             throw new RuntimeException("Failed to create a proxy to new instance for PyObjectValue and " +
@@ -57,20 +124,20 @@ public class PyObjectValueProxyFactory {
     }
 
     private static PyObjectValueProxyClass getProxyClass(PyObject pyObject) throws Exception {
-        String proxyClassName = pyObject.getClass() + PROXY_CLASS_SUFFIX;
-        PyObjectValueProxyClass proxyClass = proxyClasses.get(proxyClassName);
+        Class<?> pyObjectClass = pyObject.getClass();
+        PyObjectValueProxyClass proxyClass = proxyClasses.get(pyObjectClass);
         if (proxyClass == null) {
             writeLock.lock();
             try {
-                proxyClass = proxyClasses.get(proxyClassName);
+                proxyClass = proxyClasses.get(pyObjectClass);
                 if (proxyClass == null) {
                     ProxyFactory factory = new ProxyFactory();
-                    factory.setSuperclass(pyObject.getClass());
+                    factory.setSuperclass(pyObjectClass);
                     factory.setInterfaces(new Class[]{PyObjectValue.class});
                     factory.setFilter(new PyObjectValueMethodFilter());
                     factory.setUseWriteReplace(false);
-                    proxyClasses.putIfAbsent(proxyClassName, createProxyClass(factory.createClass(), pyObject));
-                    proxyClass = proxyClasses.get(proxyClassName);
+                    proxyClasses.putIfAbsent(pyObjectClass, createProxyClass(factory.createClass(), pyObject));
+                    proxyClass = proxyClasses.get(pyObjectClass);
                 }
             } finally {
                 writeLock.unlock();
@@ -107,6 +174,29 @@ public class PyObjectValueProxyFactory {
         }
     }
 
+    /**
+     * The values of immutable non sensitive contents which are shared by all the expressions. The accessed flag
+     * of a PyObjectValue is only checked for sensitive values, so one instance can serve all of them.
+     */
+    private static class SharedValues {
+
+        private static final PyObjectValue NONE = createProxy(null, ValueFactory.create(null));
+        private static final PyObjectValue TRUE = createProxy(Boolean.TRUE, ValueFactory.create(Boolean.TRUE));
+        private static final PyObjectValue FALSE = createProxy(Boolean.FALSE, ValueFactory.create(Boolean.FALSE));
+        private static final PyObjectValue EMPTY_STRING = createProxy("", ValueFactory.create(""));
+
+        static PyObjectValue get(Serializable content) {
+            if (content == null) {
+                return NONE;
+            } else if (content instanceof Boolean) {
+                return (Boolean) content ? TRUE : FALSE;
+            } else if ("".equals(content)) {
+                return EMPTY_STRING;
+            }
+            return null;
+        }
+    }
+
     private static class PyObjectValueMethodFilter implements MethodFilter {
 
         @Override
@@ -123,8 +213,8 @@ public class PyObjectValueProxyFactory {
         protected PyObject pyObject;
         protected boolean accessed;
 
-        public PyObjectValueMethodHandler(Serializable content, boolean sensitive, PyObject pyObject) {
-            this.value = ValueFactory.create(content, sensitive);
+        public PyObjectValueMethodHandler(Value value, PyObject pyObject) {
+            this.value = value;
             this.pyObject = pyObject;
             this.accessed = false;
         }
@@ -55,13 +55,15 @@ public abstract class ValueFactory implements Serializable {
     }
 
     public static PyObjectValue createPyObjectValue(Value value, boolean externalPython) {
-        return createPyObjectValue(value == null ? null : value.get(), value != null && value.isSensitive(),
-                externalPython);
+        if (externalPython) {
+            return createPyObjectValueForExternalPython(value);
+        } else {
+            return createPyObjectValueForJython(value);
+        }
     }
 
     public static PyObjectValue createPyObjectValueForJython(Value value) {
-        return PyObjectValueProxyFactory.create(value == null ? null : value.get(),
-                value != null && value.isSensitive());
+        return PyObjectValueProxyFactory.create(value);
     }
 
     public static PyObjectValue createPyObjectValueForExternalPython(Value value) {
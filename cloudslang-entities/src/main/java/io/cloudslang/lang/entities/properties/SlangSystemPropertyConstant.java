@@ -12,7 +12,8 @@ package io.cloudslang.lang.entities.properties;
 public enum SlangSystemPropertyConstant {
     CSLANG_ENCODING("cslang.encoding"),
     LOG4J_CONFIGURATION("log4j.configuration"),
-    CSLANG_RUNTIME_EVENTS_VERBOSITY("cslang.runtime.events.verbosity");
+    CSLANG_RUNTIME_EVENTS_VERBOSITY("cslang.runtime.events.verbosity"),
+    CSLANG_COMPILE_PARALLEL_STEPS_THRESHOLD("cslang.compile.parallel.steps.threshold");
 
     private final String value;
 
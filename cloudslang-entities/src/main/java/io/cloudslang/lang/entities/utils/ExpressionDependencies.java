@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.entities.utils;
+
+import io.cloudslang.lang.entities.bindings.ScriptFunction;
+
+import java.util.Set;
+
+/**
+ * Script functions and system properties used by an expression, as found by
+ * {@link ExpressionUtils#extractDependencies(String)}.
+ */
+public final class ExpressionDependencies {
+
+    private final Set<ScriptFunction> functionDependencies;
+    private final Set<String> systemPropertyDependencies;
+
+    ExpressionDependencies(Set<ScriptFunction> functionDependencies, Set<String> systemPropertyDependencies) {
+        this.functionDependencies = functionDependencies;
+        this.systemPropertyDependencies = systemPropertyDependencies;
+    }
+
+    /**
+     * @return the functions called by the expression, including {@link ScriptFunction#GET_SYSTEM_PROPERTY}
+     *     when at least one system property is referenced
+     */
+    public Set<ScriptFunction> getFunctionDependencies() {
+        return functionDependencies;
+    }
+
+    public Set<String> getSystemPropertyDependencies() {
+        return systemPropertyDependencies;
+    }
+
+}
@@ -12,7 +12,9 @@ package io.cloudslang.lang.entities.utils;
 import io.cloudslang.lang.entities.bindings.ScriptFunction;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -20,21 +22,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static io.cloudslang.lang.entities.constants.Regex.CHECK_EMPTY_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.CS_APPEND_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.CS_EXTRACT_NUMBER_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.CS_PREPEND_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.CS_REPLACE_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.CS_ROUND_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.CS_SUBSTRING_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.CS_TO_LOWER_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.CS_TO_UPPER_REGEX;
 import static io.cloudslang.lang.entities.constants.Regex.EXPRESSION_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.GET_REGEX;
-import static io.cloudslang.lang.entities.constants.Regex.GET_REGEX_WITH_DEFAULT;
-import static io.cloudslang.lang.entities.constants.Regex.SYSTEM_PROPERTY_REGEX_DOUBLE_QUOTE;
-import static io.cloudslang.lang.entities.constants.Regex.SYSTEM_PROPERTY_REGEX_SINGLE_QUOTE;
-import static io.cloudslang.lang.entities.constants.Regex.SYSTEM_PROPERTY_REGEX_WITH_DEFAULT_DOUBLE_QUOTE;
-import static io.cloudslang.lang.entities.constants.Regex.SYSTEM_PROPERTY_REGEX_WITH_DEFAULT_SINGLE_QUOTE;
 import static java.util.regex.Pattern.compile;
 
 /**
@@ -48,37 +36,24 @@ public final class ExpressionUtils {
 
     private static final Pattern EXPRESSION_PATTERN = compile(EXPRESSION_REGEX,
             Pattern.UNICODE_CHARACTER_CLASS | Pattern.DOTALL);
-    private static final Pattern SYSTEM_PROPERTY_PATTERN_SINGLE_QUOTE = compile(SYSTEM_PROPERTY_REGEX_SINGLE_QUOTE,
-            Pattern.UNICODE_CHARACTER_CLASS);
-    private static final Pattern SYSTEM_PROPERTY_PATTERN_DOUBLE_QUOTE =
-            compile(SYSTEM_PROPERTY_REGEX_DOUBLE_QUOTE, Pattern.UNICODE_CHARACTER_CLASS);
-
-    private static final Pattern SYSTEM_PROPERTY_PATTERN_WITH_DEFAULT_SINGLE_QUOTE =
-            compile(SYSTEM_PROPERTY_REGEX_WITH_DEFAULT_SINGLE_QUOTE, Pattern.UNICODE_CHARACTER_CLASS);
-    private static final Pattern SYSTEM_PROPERTY_PATTERN_WITH_DEFAULT_DOUBLE_QUOTE =
-            compile(SYSTEM_PROPERTY_REGEX_WITH_DEFAULT_DOUBLE_QUOTE, Pattern.UNICODE_CHARACTER_CLASS);
-
-    private static final Pattern GET_PATTERN = compile(GET_REGEX, Pattern.UNICODE_CHARACTER_CLASS);
-    private static final Pattern GET_PATTERN_WITH_DEFAULT = compile(GET_REGEX_WITH_DEFAULT,
-            Pattern.UNICODE_CHARACTER_CLASS);
     private static final Pattern CHECK_EMPTY_PATTERN = compile(CHECK_EMPTY_REGEX, Pattern.UNICODE_CHARACTER_CLASS);
 
-    private static final Map<ScriptFunction, Pattern> patternsMap = new HashMap<>();
+    private static final String GET_FUNCTION_NAME = "get";
+    private static final String SYSTEM_PROPERTY_FUNCTION_NAME = "get_sp";
 
-    static {
-        addPattern(ScriptFunction.CHECK_EMPTY, CHECK_EMPTY_REGEX);
-        addPattern(ScriptFunction.CS_APPEND, CS_APPEND_REGEX);
-        addPattern(ScriptFunction.CS_PREPEND, CS_PREPEND_REGEX);
-        addPattern(ScriptFunction.CS_EXTRACT_NUMBER, CS_EXTRACT_NUMBER_REGEX);
-        addPattern(ScriptFunction.CS_REPLACE, CS_REPLACE_REGEX);
-        addPattern(ScriptFunction.CS_ROUND, CS_ROUND_REGEX);
-        addPattern(ScriptFunction.CS_SUBSTRING, CS_SUBSTRING_REGEX);
-        addPattern(ScriptFunction.CS_TO_LOWER, CS_TO_LOWER_REGEX);
-        addPattern(ScriptFunction.CS_TO_UPPER, CS_TO_UPPER_REGEX);
-    }
+    // number of arguments required by the function patterns of Regex (e.g. CS_REPLACE_REGEX)
+    private static final Map<ScriptFunction, Integer> requiredArgumentsMap = new EnumMap<>(ScriptFunction.class);
 
-    private static void addPattern(ScriptFunction function, String regex) {
-        patternsMap.put(function, compile(regex, Pattern.UNICODE_CHARACTER_CLASS | Pattern.DOTALL | Pattern.MULTILINE));
+    static {
+        requiredArgumentsMap.put(ScriptFunction.CHECK_EMPTY, 2);
+        requiredArgumentsMap.put(ScriptFunction.CS_APPEND, 2);
+        requiredArgumentsMap.put(ScriptFunction.CS_PREPEND, 2);
+        requiredArgumentsMap.put(ScriptFunction.CS_EXTRACT_NUMBER, 1);
+        requiredArgumentsMap.put(ScriptFunction.CS_REPLACE, 3);
+        requiredArgumentsMap.put(ScriptFunction.CS_ROUND, 1);
+        requiredArgumentsMap.put(ScriptFunction.CS_SUBSTRING, 2);
+        requiredArgumentsMap.put(ScriptFunction.CS_TO_LOWER, 1);
+        requiredArgumentsMap.put(ScriptFunction.CS_TO_UPPER, 1);
     }
 
     public static String extractExpression(Serializable value) {
@@ -93,42 +68,194 @@ public final class ExpressionUtils {
         return expression;
     }
 
+    /**
+     * Finds, in a single pass over the expression, all the script functions it calls and all the system
+     * properties it reads through <code>get_sp</code>.
+     * <p>
+     * The result is the same as matching the function and system property patterns of
+     * {@link io.cloudslang.lang.entities.constants.Regex} one by one, but only the call sites
+     * (the opening parentheses) of the expression are inspected.
+     *
+     * @param expression the expression, without the <code>${ }</code> delimiters
+     * @return the function and system property dependencies of the expression
+     */
+    public static ExpressionDependencies extractDependencies(String expression) {
+        Set<ScriptFunction> functions = EnumSet.noneOf(ScriptFunction.class);
+        Set<ScriptFunction> inspectedFunctions = EnumSet.noneOf(ScriptFunction.class);
+        Set<String> systemProperties = new HashSet<>();
+        // get_sp calls with a default value are matched like consecutive regex matches, which never overlap;
+        // single and double quoted keys have separate patterns, so each quote resumes from its own last match
+        int[] systemPropertyWithDefaultFrom = new int[2];
+
+        for (int parenthesis = expression.indexOf('('); parenthesis >= 0;
+             parenthesis = expression.indexOf('(', parenthesis + 1)) {
+            if (isCalled(expression, parenthesis, SYSTEM_PROPERTY_FUNCTION_NAME)) {
+                matchSystemProperty(expression, parenthesis, systemPropertyWithDefaultFrom, systemProperties);
+            } else if (isCalled(expression, parenthesis, GET_FUNCTION_NAME)) {
+                if (!functions.contains(ScriptFunction.GET) && hasSingleLineArgument(expression, parenthesis + 1)) {
+                    functions.add(ScriptFunction.GET);
+                }
+            } else {
+                for (Map.Entry<ScriptFunction, Integer> entry : requiredArgumentsMap.entrySet()) {
+                    ScriptFunction function = entry.getKey();
+                    if (isCalled(expression, parenthesis, function.getValue())) {
+                        // only the first call needs checking, later ones have less text left for their arguments
+                        if (inspectedFunctions.add(function) &&
+                                hasArguments(expression, parenthesis + 1, entry.getValue())) {
+                            functions.add(function);
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        if (!systemProperties.isEmpty()) {
+            functions.add(ScriptFunction.GET_SYSTEM_PROPERTY);
+        }
+        return new ExpressionDependencies(Collections.unmodifiableSet(functions),
+                Collections.unmodifiableSet(systemProperties));
+    }
+
     public static Set<String> extractSystemProperties(String expression) {
-        Set<String> properties = matchFunction(SYSTEM_PROPERTY_PATTERN_SINGLE_QUOTE, expression, 1);
-        properties.addAll(matchFunction(SYSTEM_PROPERTY_PATTERN_DOUBLE_QUOTE, expression, 1));
-        properties.addAll(matchFunction(SYSTEM_PROPERTY_PATTERN_WITH_DEFAULT_SINGLE_QUOTE, expression, 1));
-        properties.addAll(matchFunction(SYSTEM_PROPERTY_PATTERN_WITH_DEFAULT_DOUBLE_QUOTE, expression, 1));
-        return properties;
+        return new HashSet<>(extractDependencies(expression).getSystemPropertyDependencies());
     }
 
     public static boolean matchGetFunction(String text) {
-        return matchPattern(GET_PATTERN_WITH_DEFAULT, text) || matchPattern(GET_PATTERN, text);
+        return extractDependencies(text).getFunctionDependencies().contains(ScriptFunction.GET);
     }
 
     public static boolean matchCheckEmptyFunction(String text) {
-        return matchPattern(CHECK_EMPTY_PATTERN, text);
+        return CHECK_EMPTY_PATTERN.matcher(text).find();
     }
 
-    private static boolean matchPattern(Pattern pattern, String text) {
-        Matcher matcher = pattern.matcher(text);
-        return matcher.find();
+    public static boolean matchesFunction(ScriptFunction function, String expression) {
+        return requiredArgumentsMap.containsKey(function) &&
+                extractDependencies(expression).getFunctionDependencies().contains(function);
     }
 
-    private static Set<String> matchFunction(Pattern functionPattern, String text, int parameterGroup) {
-        Matcher matcher = functionPattern.matcher(text);
-        Set<String> parameters = new HashSet<>();
-        while (matcher.find()) {
-            parameters.add(matcher.group(parameterGroup));
-        }
-        return parameters;
+    private static boolean isCalled(String expression, int parenthesis, String functionName) {
+        int start = parenthesis - functionName.length();
+        return start >= 0 && expression.startsWith(functionName, start);
     }
 
-    public static boolean matchesFunction(ScriptFunction function, String expression) {
-        Pattern pattern = patternsMap.get(function);
-        if (pattern != null) {
-            return matchPattern(pattern, expression);
+    // name((.+?),(.+?)...) where any character, including line breaks, may appear in an argument
+    private static boolean hasArguments(String expression, int argumentStart, int requiredArguments) {
+        int currentArgumentStart = argumentStart;
+        for (int argument = 1; argument < requiredArguments; argument++) {
+            int comma = expression.indexOf(',', currentArgumentStart + 1);
+            if (comma < 0) {
+                return false;
+            }
+            currentArgumentStart = comma + 1;
         }
+        return expression.indexOf(')', currentArgumentStart + 1) >= 0;
+    }
 
+    // get((.+)) where the argument cannot span multiple lines
+    private static boolean hasSingleLineArgument(String expression, int argumentStart) {
+        for (int index = argumentStart; index < expression.length(); index++) {
+            char current = expression.charAt(index);
+            if (isLineTerminator(current)) {
+                return false;
+            }
+            if (current == ')' && index > argumentStart) {
+                return true;
+            }
+        }
         return false;
     }
+
+    /**
+     * Matches <code>get_sp('key')</code> and <code>get_sp('key', default)</code> (or their double quoted forms)
+     * starting at the given parenthesis and adds the key to the system properties.
+     * A call with a default value is only matched from the index of <code>withDefaultFrom</code> for its quote,
+     * which is then moved after the call.
+     */
+    private static void matchSystemProperty(String expression, int parenthesis, int[] withDefaultFrom,
+                                            Set<String> systemProperties) {
+        int length = expression.length();
+        int quote = skipWhitespaces(expression, parenthesis + 1);
+        if (quote >= length || (expression.charAt(quote) != '\'' && expression.charAt(quote) != '"')) {
+            return;
+        }
+        int keyEnd = quote + 1;
+        while (keyEnd < length && isKeyCharacter(expression.codePointAt(keyEnd))) {
+            keyEnd += Character.charCount(expression.codePointAt(keyEnd));
+        }
+        if (keyEnd == quote + 1 || keyEnd >= length || expression.charAt(keyEnd) != expression.charAt(quote)) {
+            return;
+        }
+        String key = expression.substring(quote + 1, keyEnd);
+        int next = skipWhitespaces(expression, keyEnd + 1);
+        if (next >= length) {
+            return;
+        }
+        int quoteIndex = expression.charAt(quote) == '\'' ? 0 : 1;
+        if (expression.charAt(next) == ')') {
+            systemProperties.add(key);
+        } else if (expression.charAt(next) == ',' &&
+                parenthesis - SYSTEM_PROPERTY_FUNCTION_NAME.length() >= withDefaultFrom[quoteIndex]) {
+            int end = findDefaultValueEnd(expression, next + 1);
+            if (end >= 0) {
+                systemProperties.add(key);
+                withDefaultFrom[quoteIndex] = end + 1;
+            }
+        }
+    }
+
+    // \s*(.+?)\) where the default value cannot span multiple lines but may start on a new one
+    private static int findDefaultValueEnd(String expression, int start) {
+        int valueStart = skipWhitespaces(expression, start);
+        if (valueStart >= expression.length()) {
+            return -1;
+        }
+        for (int index = valueStart + 1; index < expression.length(); index++) {
+            char current = expression.charAt(index);
+            if (isLineTerminator(current)) {
+                break;
+            }
+            if (current == ')') {
+                return index;
+            }
+        }
+        // the value may also be a single whitespace given back by the leading \s*
+        if (expression.charAt(valueStart) == ')' && valueStart > start &&
+                !isLineTerminator(expression.charAt(valueStart - 1))) {
+            return valueStart;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespaces(String expression, int start) {
+        int index = start;
+        while (index < expression.length() && isWhitespace(expression.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    // \s with Pattern.UNICODE_CHARACTER_CLASS
+    private static boolean isWhitespace(char character) {
+        int type = Character.getType(character);
+        return type == Character.SPACE_SEPARATOR || type == Character.LINE_SEPARATOR ||
+                type == Character.PARAGRAPH_SEPARATOR || (character >= 0x9 && character <= 0xd) || character == 0x85;
+    }
+
+    // [\w\-.] with Pattern.UNICODE_CHARACTER_CLASS
+    private static boolean isKeyCharacter(int codePoint) {
+        if (codePoint == '-' || codePoint == '.' || Character.isAlphabetic(codePoint) ||
+                codePoint == 0x200C || codePoint == 0x200D) {
+            return true;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK ||
+                type == Character.COMBINING_SPACING_MARK || type == Character.DECIMAL_DIGIT_NUMBER ||
+                type == Character.CONNECTOR_PUNCTUATION;
+    }
+
+    // characters not matched by . without Pattern.DOTALL
+    private static boolean isLineTerminator(char character) {
+        return character == '\n' || character == '\r' || character == '\u0085' ||
+                character == '\u2028' || character == '\u2029';
+    }
 }
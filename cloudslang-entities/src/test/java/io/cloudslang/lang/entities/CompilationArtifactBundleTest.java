@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.entities;
+
+import com.google.common.collect.Sets;
+import io.cloudslang.lang.entities.bindings.Input;
+import io.cloudslang.score.api.ExecutionPlan;
+import io.cloudslang.score.api.ExecutionStep;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class CompilationArtifactBundleTest {
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        ExecutionPlan sharedDependency = createExecutionPlan("ns.shared_op", "value");
+        CompilationArtifact first = createCompilationArtifact("ns.first_flow", sharedDependency,
+                createExecutionPlan("ns.first_op", "value"));
+        CompilationArtifact second = createCompilationArtifact("ns.second_flow", sharedDependency);
+
+        List<CompilationArtifact> compilationArtifacts = read(write(Arrays.asList(first, second)));
+
+        assertEquals(Arrays.asList(first, second), compilationArtifacts);
+        assertSame(compilationArtifacts.get(0).getDependencies().get("ns.shared_op"),
+                compilationArtifacts.get(1).getDependencies().get("ns.shared_op"));
+    }
+
+    @Test
+    public void testSharedDependencyIsWrittenOnce() throws Exception {
+        ExecutionPlan sharedDependency = createExecutionPlan("ns.shared_op", "value");
+        CompilationArtifact first = createCompilationArtifact("ns.first_flow", sharedDependency);
+        CompilationArtifact second = createCompilationArtifact("ns.second_flow", sharedDependency);
+        CompilationArtifact secondWithCopiedDependency = createCompilationArtifact("ns.second_flow",
+                createExecutionPlan("ns.shared_op", "value"));
+
+        assertEquals(write(Arrays.asList(first, second)).length,
+                write(Arrays.asList(first, secondWithCopiedDependency)).length);
+        List<CompilationArtifact> compilationArtifacts = read(write(Arrays.asList(first, secondWithCopiedDependency)));
+        assertSame(compilationArtifacts.get(0).getDependencies().get("ns.shared_op"),
+                compilationArtifacts.get(1).getDependencies().get("ns.shared_op"));
+    }
+
+    @Test
+    public void testContentWhichIsNotABundleIsRejected() throws Exception {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                read("namespace: ns".getBytes()));
+        assertEquals("Content is not a compilation artifact bundle", exception.getMessage());
+    }
+
+    @Test
+    public void testUnsupportedFormatVersionIsRejected() throws Exception {
+        byte[] bundle = write(Collections.singletonList(createCompilationArtifact("ns.flow")));
+        ByteBuffer.wrap(bundle).putInt(4, CompilationArtifactBundle.FORMAT_VERSION + 1);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> read(bundle));
+        assertEquals("Unsupported compilation artifact bundle format version: " +
+                (CompilationArtifactBundle.FORMAT_VERSION + 1) + ". Supported version is: " +
+                CompilationArtifactBundle.FORMAT_VERSION, exception.getMessage());
+    }
+
+    @Test
+    public void testClassesOutsideOfAllowedPackagesAreRejected() throws Exception {
+        ExecutionPlan executionPlan = createExecutionPlan("ns.op", new URI("http://localhost"));
+        byte[] bundle = write(Collections.singletonList(new CompilationArtifact(executionPlan,
+                new HashMap<>(), Collections.emptyList(), Collections.emptySet())));
+
+        assertThrows(InvalidClassException.class, () -> read(bundle));
+    }
+
+    @Test
+    public void testJdkClassesOutsideOfAllowedClassesAreRejected() throws Exception {
+        for (Serializable actionValue : Arrays.<Serializable>asList(new StringBuilder("value"),
+                new StringBuilder[] {new StringBuilder("value")}, new TreeMap<>())) {
+            byte[] bundle = write(Collections.singletonList(new CompilationArtifact(
+                    createExecutionPlan("ns.op", actionValue), new HashMap<>(), null, null)));
+
+            InvalidClassException exception = assertThrows(InvalidClassException.class, () -> read(bundle));
+            assertTrue(exception.getMessage().contains("Class is not allowed in compilation artifact bundles"));
+        }
+    }
+
+    @Test
+    public void testAllowedJdkClassesAndPrimitiveArraysAreRead() throws Exception {
+        Serializable actionValue = new ArrayList<>(Arrays.asList(1, 2L, 3.0, true, 'c', new int[] {1},
+                Collections.unmodifiableList(new ArrayList<>(Collections.singletonList("value")))));
+        byte[] bundle = write(Collections.singletonList(new CompilationArtifact(
+                createExecutionPlan("ns.op", actionValue), new HashMap<>(), null, null)));
+
+        List<?> readValue = (List<?>) read(bundle).get(0).getExecutionPlan().getStep(1L).getActionData().get("key");
+        assertEquals(7, readValue.size());
+    }
+
+    @Test
+    public void testTruncatedBundleIsRejected() throws Exception {
+        byte[] bundle = write(Collections.singletonList(createCompilationArtifact("ns.flow")));
+
+        assertThrows(IOException.class, () -> read(Arrays.copyOf(bundle, bundle.length / 2)));
+    }
+
+    private CompilationArtifact createCompilationArtifact(String executableId, ExecutionPlan... dependencies) {
+        Map<String, ExecutionPlan> dependencyMap = new HashMap<>();
+        for (ExecutionPlan dependency : dependencies) {
+            dependencyMap.put(dependency.getFlowUuid(), dependency);
+        }
+        ExecutionPlan executionPlan = createExecutionPlan(executableId, "value");
+        executionPlan.setSubflowsUUIDs(new HashSet<>(dependencyMap.keySet()));
+        List<Input> inputs = Collections.singletonList(new Input.InputBuilder("input1", "${ get_sp('a.b') }")
+                .withSystemPropertyDependencies(Sets.newHashSet("a.b"))
+                .build());
+        return new CompilationArtifact(executionPlan, dependencyMap, inputs, Sets.newHashSet("a.b"));
+    }
+
+    private ExecutionPlan createExecutionPlan(String executableId, Serializable actionValue) {
+        ExecutionPlan executionPlan = new ExecutionPlan();
+        executionPlan.setFlowUuid(executableId);
+        executionPlan.setName(executableId.substring(executableId.lastIndexOf('.') + 1));
+        executionPlan.setLanguage(ExecutableType.FLOW.name());
+        executionPlan.setBeginStep(1L);
+        ExecutionStep executionStep = new ExecutionStep(1L);
+        Map<String, Serializable> actionData = new HashMap<>();
+        actionData.put("key", actionValue);
+        executionStep.setActionData(actionData);
+        executionPlan.addStep(executionStep);
+        return executionPlan;
+    }
+
+    private byte[] write(List<CompilationArtifact> compilationArtifacts) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        CompilationArtifactBundle.write(compilationArtifacts, outputStream);
+        assertTrue(outputStream.size() > 0);
+        return outputStream.toByteArray();
+    }
+
+    private List<CompilationArtifact> read(byte[] bundle) throws IOException {
+        return CompilationArtifactBundle.read(new ByteArrayInputStream(bundle));
+    }
+}
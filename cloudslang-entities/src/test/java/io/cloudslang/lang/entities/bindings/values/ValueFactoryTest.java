@@ -13,11 +13,15 @@ import io.cloudslang.lang.entities.encryption.DummyEncryptor;
 import io.cloudslang.lang.spi.encryption.Encryption;
 import junit.framework.Assert;
 import org.junit.Test;
+import org.python.core.PyObject;
 import org.junit.runner.RunWith;
 import org.springframework.context.annotation.Bean;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 @RunWith(SpringJUnit4ClassRunner.class)
 @ContextConfiguration(classes = ValueFactoryTest.Config.class)
 public class ValueFactoryTest {
@@ -40,6 +44,29 @@ public class ValueFactoryTest {
         Value value = ValueFactory.create("value1", true);
         PyObjectValue pyObjectValue = ValueFactory.createPyObjectValue(value, false);
         Assert.assertEquals("value1", pyObjectValue.get());
+        Assert.assertTrue(pyObjectValue.isSensitive());
+    }
+
+    @Test
+    public void testImmutableNonSensitivePyObjectValuesAreShared() {
+        Assert.assertSame(ValueFactory.createPyObjectValue(true, false, false),
+                ValueFactory.createPyObjectValue(ValueFactory.create(true), false));
+        Assert.assertSame(ValueFactory.createPyObjectValue(null, false, false),
+                ValueFactory.createPyObjectValueForJython(null));
+        Assert.assertNotSame(ValueFactory.createPyObjectValue("", true, false),
+                ValueFactory.createPyObjectValue("", true, false));
+        Assert.assertNotSame(ValueFactory.createPyObjectValue("value1", false, false),
+                ValueFactory.createPyObjectValue("value1", false, false));
+    }
+
+    @Test
+    public void testCreatePyObjectValueAfterPrewarm() {
+        PyObjectValueProxyFactory.prewarm();
+        PyObjectValue pyObjectValue = ValueFactory.createPyObjectValue(new ArrayList<>(Arrays.asList("a", "b")),
+                false, false);
+        Assert.assertEquals(Arrays.asList("a", "b"), pyObjectValue.get());
+        Assert.assertEquals(2, ((PyObject) pyObjectValue).__len__());
+        Assert.assertFalse(pyObjectValue.isSensitive());
     }
 
     static class Config {
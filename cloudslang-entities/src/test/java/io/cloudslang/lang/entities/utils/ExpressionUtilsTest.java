@@ -10,16 +10,27 @@
 package io.cloudslang.lang.entities.utils;
 
 import com.google.common.collect.Sets;
+import io.cloudslang.lang.entities.bindings.ScriptFunction;
+import io.cloudslang.lang.entities.constants.Regex;
 
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import junit.framework.Assert;
 import org.junit.Test;
 
+import static io.cloudslang.lang.entities.utils.ExpressionUtils.extractDependencies;
 import static io.cloudslang.lang.entities.utils.ExpressionUtils.extractExpression;
 import static io.cloudslang.lang.entities.utils.ExpressionUtils.extractSystemProperties;
 import static io.cloudslang.lang.entities.utils.ExpressionUtils.matchGetFunction;
+import static io.cloudslang.lang.entities.utils.ExpressionUtils.matchesFunction;
 
 /**
  * @author Bonczidai Levente
@@ -203,4 +214,97 @@ public class ExpressionUtilsTest {
         Assert.assertTrue(matchGetFunction("exec(get(get(var, default_expr), default_expr))"));
     }
 
+    ///////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Test
+    public void testExtractDependencies() throws Exception {
+        ExpressionDependencies dependencies = extractDependencies("cs_append(get('a', get_sp('a.b.c.key')), " +
+                "cs_to_upper(get_sp(\"d.e.f.key\", 'x'))) + cs_round(");
+        Assert.assertEquals(EnumSet.of(ScriptFunction.CS_APPEND, ScriptFunction.GET, ScriptFunction.CS_TO_UPPER,
+                ScriptFunction.GET_SYSTEM_PROPERTY), dependencies.getFunctionDependencies());
+        Assert.assertEquals(props2, dependencies.getSystemPropertyDependencies());
+    }
+
+    @Test
+    public void testExtractDependenciesNoFunctions() throws Exception {
+        ExpressionDependencies dependencies = extractDependencies("var + 'get_sp' + cs_round");
+        Assert.assertTrue(dependencies.getFunctionDependencies().isEmpty());
+        Assert.assertEquals(EMPTY_SET, dependencies.getSystemPropertyDependencies());
+    }
+
+    @Test
+    public void testGetFunctionArgumentOnSingleLine() throws Exception {
+        Assert.assertFalse(matchGetFunction("get(\nvar)"));
+        Assert.assertTrue(matchGetFunction("get(\nvar) + get(var)"));
+    }
+
+    @Test
+    public void testSystemPropertyWithDefaultCallsDoNotOverlap() throws Exception {
+        Assert.assertEquals(props1, extractSystemProperties("get_sp('a.b.c.key', get_sp('d.e.f.key', x))"));
+    }
+
+    @Test
+    public void testSystemPropertyWithDefaultCallsWithDifferentQuotesMayOverlap() throws Exception {
+        Assert.assertEquals(props2, extractSystemProperties("get_sp('a.b.c.key', get_sp(\"d.e.f.key\", x))"));
+    }
+
+    @Test
+    public void testExtractDependenciesMatchesRegex() throws Exception {
+        Random random = new Random(20161018L);
+        String[] fragments = {"get(", "get_sp(", "get_sp('a.b'", "get_sp(\"c-d\" ", "check_empty(", "cs_replace(",
+            "cs_round(", "cs_substring(", "cs_to_upper(", "'", "\"", "a.b", "-key", "é", " ", "\u00a0", "\n",
+            "\u2028", ",", ", ", ")", "(", "x"};
+        for (int expressionIndex = 0; expressionIndex < 20000; expressionIndex++) {
+            StringBuilder expression = new StringBuilder();
+            int fragmentCount = 1 + random.nextInt(16);
+            for (int fragmentIndex = 0; fragmentIndex < fragmentCount; fragmentIndex++) {
+                expression.append(fragments[random.nextInt(fragments.length)]);
+            }
+            assertMatchesRegex(expression.toString());
+        }
+    }
+
+    private void assertMatchesRegex(String expression) {
+        Assert.assertEquals(expression, extractSystemPropertiesWithRegex(expression),
+                extractSystemProperties(expression));
+        Assert.assertEquals(expression, matchPattern(Regex.GET_REGEX_WITH_DEFAULT, 0, expression) ||
+                matchPattern(Regex.GET_REGEX, 0, expression), matchGetFunction(expression));
+        for (Map.Entry<ScriptFunction, String> entry : getFunctionRegexes().entrySet()) {
+            Assert.assertEquals(expression + " " + entry.getKey(),
+                    matchPattern(entry.getValue(), Pattern.DOTALL | Pattern.MULTILINE, expression),
+                    matchesFunction(entry.getKey(), expression));
+        }
+    }
+
+    private Set<String> extractSystemPropertiesWithRegex(String expression) {
+        Set<String> properties = new HashSet<>();
+        for (String regex : new String[]{Regex.SYSTEM_PROPERTY_REGEX_SINGLE_QUOTE,
+            Regex.SYSTEM_PROPERTY_REGEX_DOUBLE_QUOTE, Regex.SYSTEM_PROPERTY_REGEX_WITH_DEFAULT_SINGLE_QUOTE,
+            Regex.SYSTEM_PROPERTY_REGEX_WITH_DEFAULT_DOUBLE_QUOTE}) {
+            Matcher matcher = Pattern.compile(regex, Pattern.UNICODE_CHARACTER_CLASS).matcher(expression);
+            while (matcher.find()) {
+                properties.add(matcher.group(1));
+            }
+        }
+        return properties;
+    }
+
+    private boolean matchPattern(String regex, int flags, String expression) {
+        return Pattern.compile(regex, Pattern.UNICODE_CHARACTER_CLASS | flags).matcher(expression).find();
+    }
+
+    private Map<ScriptFunction, String> getFunctionRegexes() {
+        Map<ScriptFunction, String> regexes = new EnumMap<>(ScriptFunction.class);
+        regexes.put(ScriptFunction.CHECK_EMPTY, Regex.CHECK_EMPTY_REGEX);
+        regexes.put(ScriptFunction.CS_APPEND, Regex.CS_APPEND_REGEX);
+        regexes.put(ScriptFunction.CS_PREPEND, Regex.CS_PREPEND_REGEX);
+        regexes.put(ScriptFunction.CS_EXTRACT_NUMBER, Regex.CS_EXTRACT_NUMBER_REGEX);
+        regexes.put(ScriptFunction.CS_REPLACE, Regex.CS_REPLACE_REGEX);
+        regexes.put(ScriptFunction.CS_ROUND, Regex.CS_ROUND_REGEX);
+        regexes.put(ScriptFunction.CS_SUBSTRING, Regex.CS_SUBSTRING_REGEX);
+        regexes.put(ScriptFunction.CS_TO_LOWER, Regex.CS_TO_LOWER_REGEX);
+        regexes.put(ScriptFunction.CS_TO_UPPER, Regex.CS_TO_UPPER_REGEX);
+        return regexes;
+    }
+
 }
@@ -13,6 +13,7 @@ import io.cloudslang.lang.entities.SystemProperty;
 import io.cloudslang.lang.entities.bindings.Argument;
 import io.cloudslang.lang.entities.bindings.values.Value;
 import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import io.cloudslang.lang.runtime.bindings.scripts.ScriptProcessor;
 import io.cloudslang.lang.runtime.steps.ReadOnlyContextAccessor;
 import org.springframework.stereotype.Component;
 
@@ -39,8 +40,10 @@ public class ArgumentsBinding extends AbstractBinding {
         //we do not want to change original context map
         Map<String, Value> srcContext = new HashMap<>(context);
 
-        for (Argument argument : arguments) {
-            bindArgument(argument, srcContext, systemProperties, resultContext);
+        try (ScriptProcessor.BindingPass ignored = scriptEvaluator.startBindingPass()) {
+            for (Argument argument : arguments) {
+                bindArgument(argument, srcContext, systemProperties, resultContext);
+            }
         }
 
         return resultContext;
@@ -55,8 +58,10 @@ public class ArgumentsBinding extends AbstractBinding {
         //we do not want to change original context map
         Map<String, Value> srcContext = contextAccessor.getMergedContexts();
 
-        for (Argument argument : arguments) {
-            bindArgument(argument, srcContext, systemProperties, resultContext);
+        try (ScriptProcessor.BindingPass ignored = scriptEvaluator.startBindingPass()) {
+            for (Argument argument : arguments) {
+                bindArgument(argument, srcContext, systemProperties, resultContext);
+            }
         }
 
         return resultContext;
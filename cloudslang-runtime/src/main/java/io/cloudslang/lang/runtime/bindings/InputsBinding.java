@@ -25,6 +25,7 @@ import io.cloudslang.lang.entities.bindings.prompt.Prompt;
 import io.cloudslang.lang.entities.bindings.values.Value;
 import io.cloudslang.lang.entities.bindings.values.ValueFactory;
 import io.cloudslang.lang.entities.utils.ExpressionUtils;
+import io.cloudslang.lang.runtime.bindings.scripts.ScriptProcessor;
 import org.apache.commons.lang.Validate;
 import org.springframework.stereotype.Component;
 
@@ -64,13 +65,15 @@ public class InputsBinding extends AbstractBinding {
         Map<String, Value> srcContext = new LinkedHashMap<>(context);
 
         Map<String, Value> actualPromptContext = defaultIfNull(promptContext, emptyMap());
-        for (Input input : inputs) {
-            // prompts might be passed from arguments
-            // this is the case for step inputs
-            input = overridePromptSettingIfExists(prompts, input);
-
-            bindInput(input, srcContext, actualPromptContext, resultContext,
-                    systemProperties, missingInputs, useEmptyValuesForPrompts);
+        try (ScriptProcessor.BindingPass ignored = scriptEvaluator.startBindingPass()) {
+            for (Input input : inputs) {
+                // prompts might be passed from arguments
+                // this is the case for step inputs
+                input = overridePromptSettingIfExists(prompts, input);
+
+                bindInput(input, srcContext, actualPromptContext, resultContext,
+                        systemProperties, missingInputs, useEmptyValuesForPrompts);
+            }
         }
 
         return resultContext;
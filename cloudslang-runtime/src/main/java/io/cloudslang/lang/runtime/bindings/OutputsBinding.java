@@ -13,6 +13,7 @@ import io.cloudslang.lang.entities.SystemProperty;
 import io.cloudslang.lang.entities.bindings.Output;
 import io.cloudslang.lang.entities.bindings.values.Value;
 import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import io.cloudslang.lang.runtime.bindings.scripts.ScriptProcessor;
 import io.cloudslang.lang.runtime.steps.ReadOnlyContextAccessor;
 import org.springframework.stereotype.Component;
 
@@ -40,27 +41,29 @@ public class OutputsBinding extends AbstractBinding {
         Map<String, Value> context = contextAccessor.getMergedContexts();
 
         if (possibleOutputs != null) {
-            for (Output output : possibleOutputs) {
-                String outputKey = output.getName();
-                String errorMessagePrefix = "Binding output: '" + output.getName() + " failed";
-                Value rawValue = output.getValue();
-                Value valueToAssign = rawValue;
-                String expressionToEvaluate = extractExpression(rawValue == null ? null : rawValue.get());
-                if (expressionToEvaluate != null) {
-                    // initialize with null value if key does not exist
-                    context.put(outputKey, context.get(outputKey));
-                    try {
-                        //evaluate expression
-                        Value value = scriptEvaluator.evalExpr(expressionToEvaluate, context,
-                                systemProperties, output.getFunctionDependencies());
-                        valueToAssign = ValueFactory.create(value, rawValue != null && rawValue.isSensitive());
-                    } catch (Exception exc) {
-                        throw new RuntimeException(errorMessagePrefix + "',\n\t" + exc.getMessage(), exc);
+            try (ScriptProcessor.BindingPass ignored = scriptEvaluator.startBindingPass()) {
+                for (Output output : possibleOutputs) {
+                    String outputKey = output.getName();
+                    String errorMessagePrefix = "Binding output: '" + output.getName() + " failed";
+                    Value rawValue = output.getValue();
+                    Value valueToAssign = rawValue;
+                    String expressionToEvaluate = extractExpression(rawValue == null ? null : rawValue.get());
+                    if (expressionToEvaluate != null) {
+                        // initialize with null value if key does not exist
+                        context.put(outputKey, context.get(outputKey));
+                        try {
+                            //evaluate expression
+                            Value value = scriptEvaluator.evalExpr(expressionToEvaluate, context,
+                                    systemProperties, output.getFunctionDependencies());
+                            valueToAssign = ValueFactory.create(value, rawValue != null && rawValue.isSensitive());
+                        } catch (Exception exc) {
+                            throw new RuntimeException(errorMessagePrefix + "',\n\t" + exc.getMessage(), exc);
+                        }
                     }
+                    validateStringValue(errorMessagePrefix, valueToAssign);
+                    outputs.put(outputKey, valueToAssign);
+                    context.put(outputKey, valueToAssign);
                 }
-                validateStringValue(errorMessagePrefix, valueToAssign);
-                outputs.put(outputKey, valueToAssign);
-                context.put(outputKey, valueToAssign);
             }
         }
         return outputs;
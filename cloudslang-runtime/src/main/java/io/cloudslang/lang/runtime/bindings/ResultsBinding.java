@@ -9,7 +9,8 @@
  *******************************************************************************/
 package io.cloudslang.lang.runtime.bindings;
 
-
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.cloudslang.lang.entities.ScoreLangConstants;
 import io.cloudslang.lang.entities.SystemProperty;
 import io.cloudslang.lang.entities.bindings.Result;
@@ -23,9 +24,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * User: stoneo
@@ -35,6 +39,10 @@ import java.util.Set;
 @Component
 public class ResultsBinding {
 
+    private static final Cache<String, ResultCondition> RESULT_CONDITIONS = CacheBuilder.newBuilder()
+            .maximumSize(Integer.getInteger("results.condition.cache.size", 10000))
+            .build();
+
     @Autowired
     public ScriptEvaluator scriptEvaluator;
 
@@ -81,6 +89,7 @@ public class ResultsBinding {
 
         // In the case of operation, we resolve the result by searching for the first result with a true expression
         // An empty expression passes as true
+        Map<String, Value> scriptContext = null;
         for (Result result : possibleResults) {
             String resultName = result.getName();
 
@@ -98,20 +107,14 @@ public class ResultsBinding {
                                     " expression " + ScoreLangConstants.EXPRESSION_END_DELIMITER);
                 }
 
-                Map<String, Value> scriptContext = MapUtils.mergeMaps(inputs, context);
+                if (scriptContext == null) {
+                    scriptContext = MapUtils.mergeMaps(inputs, context);
+                }
 
                 try {
-                    Value expressionResult = scriptEvaluator.evalExpr(expression, scriptContext, systemProperties,
-                            result.getFunctionDependencies());
-                    Boolean evaluatedResult;
-                    if (expressionResult.get() instanceof Integer) {
-                        evaluatedResult = (Integer) expressionResult.get() != 0;
-                    } else {
-                        evaluatedResult = (Boolean) expressionResult.get();
-                    }
+                    Boolean evaluatedResult = getResultCondition(expression).evaluate(scriptContext);
                     if (evaluatedResult == null) {
-                        throw new RuntimeException("Expression of the operation result: " + expression +
-                                " cannot be evaluated correctly to true or false value");
+                        evaluatedResult = evaluateExpression(expression, scriptContext, systemProperties, result);
                     }
                     if (evaluatedResult) {
                         return resultName;
@@ -130,4 +133,105 @@ public class ResultsBinding {
         throw new RuntimeException("No possible result was resolved");
     }
 
+    private Boolean evaluateExpression(String expression, Map<String, Value> scriptContext,
+                                       Set<SystemProperty> systemProperties, Result result) {
+        Value expressionResult = scriptEvaluator.evalExpr(expression, scriptContext, systemProperties,
+                result.getFunctionDependencies());
+        Boolean evaluatedResult;
+        if (expressionResult.get() instanceof Integer) {
+            evaluatedResult = (Integer) expressionResult.get() != 0;
+        } else {
+            evaluatedResult = (Boolean) expressionResult.get();
+        }
+        if (evaluatedResult == null) {
+            throw new RuntimeException("Expression of the operation result: " + expression +
+                    " cannot be evaluated correctly to true or false value");
+        }
+        return evaluatedResult;
+    }
+
+    private ResultCondition getResultCondition(String expression) {
+        ResultCondition condition = RESULT_CONDITIONS.getIfPresent(expression);
+        if (condition == null) {
+            condition = ResultCondition.compile(expression);
+            RESULT_CONDITIONS.put(expression, condition);
+        }
+        return condition;
+    }
+
+    /**
+     * A result expression simple enough to be decided in Java: a boolean or integer literal, or the comparison
+     * of a variable with a string literal, like <code>returnCode == '0'</code>. Any other expression, or a
+     * comparison whose variable is missing or is not a string, is left to the Python evaluation.
+     */
+    private static final class ResultCondition {
+
+        private static final ResultCondition PYTHON = new ResultCondition(null, null, null, false);
+
+        private static final Pattern INTEGER_LITERAL = Pattern.compile("-?(0|[1-9]\\d{0,8})");
+        private static final Pattern STRING_COMPARISON = Pattern.compile(
+                "([a-zA-Z_][a-zA-Z0-9_]*)\\s*(==|!=)\\s*(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\")");
+        private static final Pattern REVERSED_STRING_COMPARISON = Pattern.compile(
+                "(?:'([^'\\\\]*)'|\"([^\"\\\\]*)\")\\s*(==|!=)\\s*([a-zA-Z_][a-zA-Z0-9_]*)");
+
+        private final Boolean constant;
+        private final String variable;
+        private final String literal;
+        private final boolean equal;
+
+        private ResultCondition(Boolean constant, String variable, String literal, boolean equal) {
+            this.constant = constant;
+            this.variable = variable;
+            this.literal = literal;
+            this.equal = equal;
+        }
+
+        static ResultCondition compile(String expression) {
+            String trimmed = expression.trim();
+            if ("True".equals(trimmed) || "False".equals(trimmed)) {
+                return new ResultCondition(Boolean.valueOf(trimmed), null, null, false);
+            }
+            if (INTEGER_LITERAL.matcher(trimmed).matches()) {
+                return new ResultCondition(Integer.parseInt(trimmed) != 0, null, null, false);
+            }
+            Matcher matcher = STRING_COMPARISON.matcher(trimmed);
+            if (matcher.matches()) {
+                return createComparison(matcher.group(1), matcher.group(3) != null ? matcher.group(3) :
+                        matcher.group(4), matcher.group(2));
+            }
+            matcher = REVERSED_STRING_COMPARISON.matcher(trimmed);
+            if (matcher.matches()) {
+                return createComparison(matcher.group(4), matcher.group(1) != null ? matcher.group(1) :
+                        matcher.group(2), matcher.group(3));
+            }
+            return PYTHON;
+        }
+
+        private static ResultCondition createComparison(String variable, String literal, String operator) {
+            // a non ASCII string literal is not a unicode string in Python 2, leave the comparison to Python
+            if (!StandardCharsets.US_ASCII.newEncoder().canEncode(literal)) {
+                return PYTHON;
+            }
+            return new ResultCondition(null, variable, literal, "==".equals(operator));
+        }
+
+        /**
+         * @return the value of the condition, or null if it has to be evaluated in Python
+         */
+        Boolean evaluate(Map<String, Value> scriptContext) {
+            if (constant != null) {
+                return constant;
+            }
+            if (variable == null) {
+                return null;
+            }
+            Value value = scriptContext.get(variable);
+            Serializable rawValue = value == null ? null : value.get();
+            if (!(rawValue instanceof String)) {
+                return null;
+            }
+            return literal.equals(rawValue) == equal;
+        }
+    }
+
 }
@@ -14,6 +14,7 @@ import io.cloudslang.lang.entities.bindings.ScriptFunction;
 import io.cloudslang.lang.entities.bindings.values.PyObjectValue;
 import io.cloudslang.lang.entities.bindings.values.Value;
 import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import io.cloudslang.lang.runtime.metrics.RuntimeTimer;
 import io.cloudslang.lang.runtime.services.ScriptsService;
 import io.cloudslang.runtime.api.python.PythonEvaluationResult;
 import io.cloudslang.runtime.api.python.PythonRuntimeService;
@@ -33,6 +34,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startTimer;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.stopTimer;
+
 /**
  * @author stoneo
  * @version $Id$
@@ -62,6 +66,7 @@ public class ScriptEvaluator extends ScriptProcessor {
 
     public Value evalExpr(String expr, Map<String, Value> context, Set<SystemProperty> systemProperties,
                           Set<ScriptFunction> functionDependencies) {
+        final long start = startTimer();
         try {
             if (EXTERNAL_PYTHON) {
                 return doEvaluateExpressionExternalPython(expr, context, systemProperties, functionDependencies);
@@ -72,6 +77,8 @@ public class ScriptEvaluator extends ScriptProcessor {
             throw new RuntimeException("Error in evaluating expression: '" +
                     getTruncatedExpression(expr) + "',\n\t" +
                     handleExceptionSpecialCases(exception.getMessage()), exception);
+        } finally {
+            stopTimer(EXTERNAL_PYTHON ? RuntimeTimer.EXTERNAL_EXPRESSION : RuntimeTimer.JYTHON_EXPRESSION, start);
         }
     }
 
@@ -21,13 +21,12 @@ import javax.annotation.Resource;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
-import static java.util.stream.Collectors.toMap;
-
 /**
  * @author Bonczidai Levente
  * @since 1/19/2016
@@ -46,20 +45,35 @@ public class ScriptExecutor extends ScriptProcessor {
 
     public Map<String, Value> executeScript(Set<String> dependencies, String script, Map<String, Value> callArguments,
                                             boolean useJython) {
+        return executeScript(dependencies, script, null, callArguments, useJython);
+    }
+
+    /**
+     * @param scriptParams the parameters of the execute method of an external Python script, as extracted at
+     *                     compile time; when missing they are read from the script
+     */
+    public Map<String, Value> executeScript(Set<String> dependencies, String script,
+                                            Collection<String> scriptParams,
+                                            Map<String, Value> callArguments, boolean useJython) {
         if (useJython) {
             return runJythonAction(dependencies, script, callArguments);
         } else {
-            return runExternalPythonAction(dependencies, script, callArguments);
+            return runExternalPythonAction(dependencies, script, scriptParams, callArguments);
         }
     }
 
     private Map<String, Value> runExternalPythonAction(Set<String> dependencies, String script,
+                                                       Collection<String> scriptParams,
                                                        Map<String, Value> callArguments) {
-
-        String[] scriptParams = ExternalPythonScriptUtils.getScriptParams(script);
-        Map<String, Value> neededArguments = callArguments.entrySet().stream()
-                .filter(entry -> Arrays.asList(scriptParams).contains(entry.getKey()))
-                .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        // execution plans compiled before the parameters were extracted by the compiler do not carry them
+        Collection<String> params = scriptParams != null ? scriptParams :
+                Arrays.asList(ExternalPythonScriptUtils.getScriptParams(script));
+        Map<String, Value> neededArguments = new HashMap<>();
+        for (String param : params) {
+            if (callArguments.containsKey(param)) {
+                neededArguments.put(param, callArguments.get(param));
+            }
+        }
 
         Map<String, Serializable> executionResult = externalPytonRuntimeService.exec(dependencies, script,
                 createExternalPythonContext(neededArguments)).getExecutionResult();
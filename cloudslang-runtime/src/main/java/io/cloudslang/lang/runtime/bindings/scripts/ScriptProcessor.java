@@ -9,28 +9,115 @@
  *******************************************************************************/
 package io.cloudslang.lang.runtime.bindings.scripts;
 
+import io.cloudslang.lang.entities.bindings.values.PyObjectValue;
+import io.cloudslang.lang.entities.bindings.values.PyObjectValueProxyFactory;
 import io.cloudslang.lang.entities.bindings.values.Value;
 import io.cloudslang.lang.entities.bindings.values.ValueFactory;
+import io.cloudslang.lang.runtime.metrics.RuntimeTimer;
 
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startTimer;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.stopTimer;
 
 public abstract class ScriptProcessor {
 
+    private static final ThreadLocal<ContextWrappers> CONTEXT_WRAPPERS = new ThreadLocal<>();
+
+    /**
+     * Starts a binding pass on the current thread. Until the pass is closed, each context variable is wrapped
+     * once and the wrapper is reused by all the expressions of the pass, as long as the variable keeps the same
+     * value. The accessed flag of a reused wrapper is reset for every evaluation, so the sensitivity of the
+     * results is still detected per expression.
+     * <p>
+     * A pass started while another one is open on the same thread joins the outer pass. The outer pass is timed as
+     * the binding in the runtime metrics.
+     *
+     * @return the pass, to be closed when the binding is done
+     */
+    public BindingPass startBindingPass() {
+        if (CONTEXT_WRAPPERS.get() != null) {
+            return () -> {
+            };
+        }
+        CONTEXT_WRAPPERS.set(new ContextWrappers());
+        final long start = startTimer();
+        return () -> {
+            CONTEXT_WRAPPERS.remove();
+            stopTimer(RuntimeTimer.BINDING, start);
+        };
+    }
+
     public Map<String, Serializable> createJythonContext(Map<String, Value> context) {
+        ContextWrappers contextWrappers = CONTEXT_WRAPPERS.get();
         Map<String, Serializable> jythonContext = new HashMap<>();
         for (Map.Entry<String, ? extends Value> entry : context.entrySet()) {
-            jythonContext.put(entry.getKey(), ValueFactory.createPyObjectValueForJython(entry.getValue()));
+            jythonContext.put(entry.getKey(), contextWrappers == null ?
+                    ValueFactory.createPyObjectValueForJython(entry.getValue()) :
+                    contextWrappers.getJythonValue(entry.getKey(), entry.getValue()));
         }
         return jythonContext;
     }
 
     public Map<String, Serializable> createExternalPythonContext(Map<String, Value> context) {
+        ContextWrappers contextWrappers = CONTEXT_WRAPPERS.get();
         Map<String, Serializable> pythonContext = new HashMap<>();
         for (Map.Entry<String, ? extends Value> entry : context.entrySet()) {
-            pythonContext.put(entry.getKey(), ValueFactory.createPyObjectValueForExternalPython(entry.getValue()));
+            pythonContext.put(entry.getKey(), contextWrappers == null ?
+                    ValueFactory.createPyObjectValueForExternalPython(entry.getValue()) :
+                    contextWrappers.getExternalPythonValue(entry.getKey(), entry.getValue()));
         }
         return pythonContext;
     }
+
+    public interface BindingPass extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static class ContextWrappers {
+
+        private final Map<String, ContextWrapper> jythonWrappers = new HashMap<>();
+        private final Map<String, ContextWrapper> externalPythonWrappers = new HashMap<>();
+
+        PyObjectValue getJythonValue(String name, Value value) {
+            PyObjectValue wrapper = getWrapper(jythonWrappers, name, value,
+                    ValueFactory::createPyObjectValueForJython);
+            if (value != null && value.isSensitive()) {
+                PyObjectValueProxyFactory.resetAccessed(wrapper);
+            }
+            return wrapper;
+        }
+
+        PyObjectValue getExternalPythonValue(String name, Value value) {
+            // external Python wrappers are immutable and always reported as accessed
+            return getWrapper(externalPythonWrappers, name, value,
+                    ValueFactory::createPyObjectValueForExternalPython);
+        }
+
+        private PyObjectValue getWrapper(Map<String, ContextWrapper> wrappers, String name, Value value,
+                                         Function<Value, PyObjectValue> wrapperFactory) {
+            ContextWrapper contextWrapper = wrappers.get(name);
+            if (contextWrapper == null || contextWrapper.value != value) {
+                contextWrapper = new ContextWrapper(value, wrapperFactory.apply(value));
+                wrappers.put(name, contextWrapper);
+            }
+            return contextWrapper.wrapper;
+        }
+    }
+
+    private static class ContextWrapper {
+
+        private final Value value;
+        private final PyObjectValue wrapper;
+
+        ContextWrapper(Value value, PyObjectValue wrapper) {
+            this.value = value;
+            this.wrapper = wrapper;
+        }
+    }
 }
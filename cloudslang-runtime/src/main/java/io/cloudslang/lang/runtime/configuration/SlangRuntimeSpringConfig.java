@@ -10,12 +10,24 @@
 package io.cloudslang.lang.runtime.configuration;
 
 
+import io.cloudslang.lang.entities.bindings.values.PyObjectValueProxyFactory;
 import io.cloudslang.lang.entities.properties.SlangSystemPropertyConstant;
+import io.cloudslang.lang.runtime.metrics.InMemoryRuntimeMetrics;
+import io.cloudslang.lang.runtime.metrics.RuntimeMetrics;
+import io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider;
 import io.cloudslang.runtime.impl.RuntimeManagementConfiguration;
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
+import javax.annotation.PostConstruct;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.python.core.Options;
 import org.python.core.RegistryKey;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -25,6 +37,11 @@ import org.springframework.context.annotation.Import;
 @ComponentScan("io.cloudslang.lang.runtime")
 public class SlangRuntimeSpringConfig {
 
+    private static final Logger logger = LogManager.getLogger(SlangRuntimeSpringConfig.class);
+
+    @Autowired(required = false)
+    private RuntimeMetrics runtimeMetrics;
+
     static {
         Options.importSite = false;
         setPythonIoEncoding();
@@ -37,4 +54,37 @@ public class SlangRuntimeSpringConfig {
         }
         System.getProperties().setProperty(RegistryKey.PYTHON_IO_ENCODING, encodingValue);
     }
+
+    @PostConstruct
+    public void prewarmPyObjectValueProxies() {
+        // the proxies are only used when the expressions are evaluated by Jython
+        if (Boolean.valueOf(System.getProperty("use.jython.expressions", "true"))) {
+            PyObjectValueProxyFactory.prewarm();
+        }
+    }
+
+    @PostConstruct
+    public void initRuntimeMetrics() {
+        if (runtimeMetrics != null) {
+            RuntimeMetricsProvider.set(runtimeMetrics);
+        } else if (Boolean.getBoolean(RuntimeMetricsProvider.RUNTIME_METRICS_ENABLED)) {
+            InMemoryRuntimeMetrics inMemoryRuntimeMetrics = new InMemoryRuntimeMetrics();
+            registerMBean(inMemoryRuntimeMetrics);
+            RuntimeMetricsProvider.set(inMemoryRuntimeMetrics);
+        }
+    }
+
+    private void registerMBean(InMemoryRuntimeMetrics inMemoryRuntimeMetrics) {
+        try {
+            MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(InMemoryRuntimeMetrics.OBJECT_NAME);
+            // a runtime started again in the same JVM replaces the metrics of the previous one
+            if (mbeanServer.isRegistered(objectName)) {
+                mbeanServer.unregisterMBean(objectName);
+            }
+            mbeanServer.registerMBean(inMemoryRuntimeMetrics, objectName);
+        } catch (JMException e) {
+            logger.warn("Could not register the runtime metrics MBean: " + e.getMessage());
+        }
+    }
 }
@@ -18,6 +18,7 @@ import io.cloudslang.lang.entities.bindings.Argument;
 import io.cloudslang.lang.entities.bindings.prompt.Prompt;
 import io.cloudslang.lang.entities.bindings.values.SensitiveValue;
 import io.cloudslang.lang.entities.bindings.values.Value;
+import io.cloudslang.lang.runtime.metrics.RuntimeTimer;
 import io.cloudslang.score.api.StatefulSessionStack;
 import org.apache.commons.lang3.Validate;
 
@@ -31,6 +32,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startTimer;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.stopTimer;
+
 /**
  * User: stoneo
  * Date: 20/10/2014
@@ -212,19 +216,23 @@ public class RunEnvironment implements Serializable {
     }
 
     public void decryptSensitiveData() {
+        final long start = startTimer();
         for (Value value : prepareValuesForEncryptDecrypt()) {
             if (value.isSensitive()) {
                 ((SensitiveValue) value).decrypt();
             }
         }
+        stopTimer(RuntimeTimer.DECRYPT, start);
     }
 
     public void encryptSensitiveData() {
+        final long start = startTimer();
         for (Value value : prepareValuesForEncryptDecrypt()) {
             if (value.isSensitive()) {
                 ((SensitiveValue) value).encrypt();
             }
         }
+        stopTimer(RuntimeTimer.ENCRYPT, start);
     }
 
     private boolean containsSensitiveCallArgument() {
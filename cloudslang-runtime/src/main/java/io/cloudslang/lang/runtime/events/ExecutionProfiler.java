@@ -0,0 +1,393 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.CacheBuilder;
+import io.cloudslang.lang.entities.ScoreLangConstants;
+import io.cloudslang.lang.runtime.env.ExecutionPath;
+import io.cloudslang.score.events.ScoreEvent;
+import io.cloudslang.score.events.ScoreEventListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.apache.commons.lang3.StringUtils.countMatches;
+import static org.apache.commons.lang3.StringUtils.substringAfterLast;
+import static org.apache.commons.lang3.StringUtils.substringBeforeLast;
+
+/**
+ * Profiles executions from their language events.
+ * <p>
+ * The events of every execution are folded, as they are received, into one node per execution path: the flow,
+ * its steps with the operations or sub flows they run, and the branches of the parallel loops. A node keeps when
+ * it started and ended, and how long its binding and its action took; the events themselves are not kept. The
+ * time between the end of a step and the start of the next step of the same flow is the navigation time of the
+ * step. The profile can be exported as collapsed stacks, the input of the flame graph tools, or as JSON.
+ * <p>
+ * Only the most recently profiled executions are kept, so executions which were never exported and removed do
+ * not pile up.
+ * <p>
+ * The times are taken from the timestamps of the events, so they have a resolution of a millisecond.
+ */
+public class ExecutionProfiler implements ScoreEventListener {
+
+    public static final String BINDING_FRAME = "[binding]";
+    public static final String ACTION_FRAME = "[action]";
+    public static final String NAVIGATION_FRAME = "[navigation]";
+    public static final int DEFAULT_MAX_EXECUTIONS = 1000;
+
+    private static final Set<String> BINDING_START_EVENTS = new HashSet<>(Arrays.asList(
+            ScoreLangConstants.EVENT_ARGUMENT_START, ScoreLangConstants.EVENT_INPUT_START,
+            ScoreLangConstants.EVENT_OUTPUT_START, ScoreLangConstants.EVENT_JOIN_BRANCHES_START));
+    private static final Set<String> BINDING_END_EVENTS = new HashSet<>(Arrays.asList(
+            ScoreLangConstants.EVENT_ARGUMENT_END, ScoreLangConstants.EVENT_INPUT_END,
+            ScoreLangConstants.EVENT_OUTPUT_END, ScoreLangConstants.EVENT_JOIN_BRANCHES_END));
+    private static final Set<String> ACTION_EVENTS = new HashSet<>(Arrays.asList(
+            ScoreLangConstants.EVENT_ACTION_START, ScoreLangConstants.EVENT_ACTION_END,
+            ScoreLangConstants.EVENT_ACTION_ERROR));
+
+    /**
+     * The events to subscribe the profiler to.
+     */
+    public static final Set<String> PROFILED_EVENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            ScoreLangConstants.EVENT_STEP_START, ScoreLangConstants.EVENT_ARGUMENT_START,
+            ScoreLangConstants.EVENT_ARGUMENT_END, ScoreLangConstants.EVENT_INPUT_START,
+            ScoreLangConstants.EVENT_INPUT_END, ScoreLangConstants.EVENT_ACTION_START,
+            ScoreLangConstants.EVENT_ACTION_END, ScoreLangConstants.EVENT_ACTION_ERROR,
+            ScoreLangConstants.EVENT_OUTPUT_START, ScoreLangConstants.EVENT_OUTPUT_END,
+            ScoreLangConstants.EVENT_SPLIT_BRANCHES, ScoreLangConstants.EVENT_BRANCH_START,
+            ScoreLangConstants.EVENT_BRANCH_END, ScoreLangConstants.EVENT_JOIN_BRANCHES_START,
+            ScoreLangConstants.EVENT_JOIN_BRANCHES_END, ScoreLangConstants.EVENT_EXECUTION_FINISHED)));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<Long, Map<String, ProfiledNode>> executions;
+
+    public ExecutionProfiler() {
+        this(DEFAULT_MAX_EXECUTIONS);
+    }
+
+    /**
+     * @param maxExecutions the number of executions to keep, the least recently profiled ones are dropped first
+     */
+    public ExecutionProfiler(int maxExecutions) {
+        executions = CacheBuilder.newBuilder()
+                .maximumSize(maxExecutions)
+                .<Long, Map<String, ProfiledNode>>build()
+                .asMap();
+    }
+
+    @Override
+    public synchronized void onEvent(ScoreEvent event) {
+        if (!(event.getData() instanceof LanguageEventData)) {
+            return;
+        }
+        LanguageEventData eventData = (LanguageEventData) event.getData();
+        if (eventData.getExecutionId() == null || eventData.getPath() == null || eventData.getTimeStamp() == null) {
+            return;
+        }
+        String path = eventData.getPath();
+        // the action of an operation runs one level down the path of the step or the top level operation running it
+        if (ACTION_EVENTS.contains(eventData.getEventType()) && path.contains(ExecutionPath.PATH_SEPARATOR)) {
+            path = substringBeforeLast(path, ExecutionPath.PATH_SEPARATOR);
+        }
+        executions.computeIfAbsent(eventData.getExecutionId(), key -> new HashMap<>())
+                .computeIfAbsent(path, ProfiledNode::new)
+                .record(eventData);
+    }
+
+    public synchronized Set<Long> getExecutionIds() {
+        return new HashSet<>(executions.keySet());
+    }
+
+    /**
+     * Forgets an execution, once its profile was exported.
+     *
+     * @param executionId the id of the execution
+     */
+    public synchronized void removeExecution(Long executionId) {
+        executions.remove(executionId);
+    }
+
+    /**
+     * @param executionId the id of the execution
+     * @return the node of the top level flow or operation, with the nodes under it, or null if the execution is
+     *     not known; the nodes are a snapshot which the events received later do not change
+     */
+    public ProfiledNode getProfile(Long executionId) {
+        Map<String, ProfiledNode> nodes = new HashMap<>();
+        synchronized (this) {
+            Map<String, ProfiledNode> liveNodes = executions.get(executionId);
+            if (liveNodes != null) {
+                for (ProfiledNode node : liveNodes.values()) {
+                    nodes.put(node.getPath(), new ProfiledNode(node));
+                }
+            }
+        }
+        if (nodes.isEmpty()) {
+            return null;
+        }
+        List<ProfiledNode> sortedNodes = new ArrayList<>(nodes.values());
+        sortedNodes.sort(Comparator.comparingInt((ProfiledNode node) -> node.getDepth())
+                .thenComparingLong(ProfiledNode::getStartTime));
+        ProfiledNode root = new ProfiledNode("");
+        for (ProfiledNode node : sortedNodes) {
+            findParent(nodes, node, root).children.add(node);
+        }
+        computeNavigation(root);
+        // an execution has a single top level flow or operation
+        return root.children.size() == 1 ? root.children.get(0) : root.withTimesOfChildren();
+    }
+
+    /**
+     * @param executionId the id of the execution
+     * @return one line per stack of nodes, with the milliseconds spent in its last frame, or an empty string if the
+     *     execution is not known
+     */
+    public String toCollapsedStacks(Long executionId) {
+        ProfiledNode root = getProfile(executionId);
+        StringBuilder collapsedStacks = new StringBuilder();
+        if (root != null) {
+            appendCollapsedStacks(collapsedStacks, root, "");
+        }
+        return collapsedStacks.toString();
+    }
+
+    /**
+     * @param executionId the id of the execution
+     * @return the tree of nodes as JSON, or null if the execution is not known
+     */
+    public String toJson(Long executionId) {
+        ProfiledNode root = getProfile(executionId);
+        if (root == null) {
+            return null;
+        }
+        ObjectNode json = objectMapper.createObjectNode();
+        json.put("executionId", executionId);
+        json.set("profile", nodeToJson(root));
+        return json.toString();
+    }
+
+    private ProfiledNode findParent(Map<String, ProfiledNode> nodes, ProfiledNode node, ProfiledNode root) {
+        String path = node.getPath();
+        while (path.contains(ExecutionPath.PATH_SEPARATOR)) {
+            path = substringBeforeLast(path, ExecutionPath.PATH_SEPARATOR);
+            ProfiledNode parent = nodes.get(path);
+            if (parent != null) {
+                return parent;
+            }
+        }
+        return root;
+    }
+
+    private void computeNavigation(ProfiledNode node) {
+        List<ProfiledNode> children = node.children;
+        children.sort(Comparator.comparingLong(ProfiledNode::getStartTime));
+        for (int i = 0; i < children.size(); i++) {
+            ProfiledNode child = children.get(i);
+            if (i + 1 < children.size() && !child.branch) {
+                child.navigationMillis = Math.max(0, children.get(i + 1).getStartTime() - child.getEndTime());
+            }
+            computeNavigation(child);
+        }
+    }
+
+    private void appendCollapsedStacks(StringBuilder collapsedStacks, ProfiledNode node, String parentStack) {
+        String stack = parentStack + node.getLabel().replace(';', '_');
+        appendCollapsedStack(collapsedStacks, stack, node.getSelfMillis());
+        appendCollapsedStack(collapsedStacks, stack + ";" + BINDING_FRAME, node.getBindingMillis());
+        appendCollapsedStack(collapsedStacks, stack + ";" + ACTION_FRAME, node.getActionMillis());
+        appendCollapsedStack(collapsedStacks, stack + ";" + NAVIGATION_FRAME, node.getNavigationMillis());
+        for (ProfiledNode child : node.getChildren()) {
+            appendCollapsedStacks(collapsedStacks, child, stack + ";");
+        }
+    }
+
+    private void appendCollapsedStack(StringBuilder collapsedStacks, String stack, long millis) {
+        if (millis > 0) {
+            collapsedStacks.append(stack).append(' ').append(millis).append('\n');
+        }
+    }
+
+    private ObjectNode nodeToJson(ProfiledNode node) {
+        ObjectNode json = objectMapper.createObjectNode();
+        json.put("path", node.getPath());
+        json.put("name", node.getLabel());
+        json.put("stepName", node.getStepName());
+        json.put("executableName", node.getExecutableName());
+        json.put("startTime", node.getStartTime());
+        json.put("totalMillis", node.getTotalMillis());
+        json.put("selfMillis", node.getSelfMillis());
+        json.put("bindingMillis", node.getBindingMillis());
+        json.put("actionMillis", node.getActionMillis());
+        json.put("navigationMillis", node.getNavigationMillis());
+        ArrayNode children = json.putArray("children");
+        for (ProfiledNode child : node.getChildren()) {
+            children.add(nodeToJson(child));
+        }
+        return json;
+    }
+
+    public static class ProfiledNode {
+
+        private final String path;
+        private String stepName;
+        private String executableName;
+        private boolean branch;
+        private long startTime = Long.MAX_VALUE;
+        private long endTime = Long.MIN_VALUE;
+        private long bindingMillis;
+        private long actionMillis;
+        private long navigationMillis;
+        private Long bindingStart;
+        private Long actionStart;
+        private final List<ProfiledNode> children = new ArrayList<>();
+
+        private ProfiledNode(String path) {
+            this.path = path;
+        }
+
+        // copies the recorded times, without the children and the navigation time which depend on the other nodes
+        private ProfiledNode(ProfiledNode node) {
+            this.path = node.path;
+            this.stepName = node.stepName;
+            this.executableName = node.executableName;
+            this.branch = node.branch;
+            this.startTime = node.startTime;
+            this.endTime = node.endTime;
+            this.bindingMillis = node.bindingMillis;
+            this.actionMillis = node.actionMillis;
+        }
+
+        private void record(LanguageEventData eventData) {
+            final long time = eventData.getTimeStamp().getTime();
+            startTime = Math.min(startTime, time);
+            endTime = Math.max(endTime, time);
+
+            LanguageEventData.StepType stepType = eventData.getStepType();
+            if (stepType == LanguageEventData.StepType.STEP) {
+                stepName = eventData.getStepName();
+            } else if (stepType != null && stepType != LanguageEventData.StepType.ACTION) {
+                executableName = eventData.getStepName();
+            }
+
+            String eventType = eventData.getEventType();
+            if (BINDING_START_EVENTS.contains(eventType)) {
+                bindingStart = time;
+            } else if (BINDING_END_EVENTS.contains(eventType) && bindingStart != null) {
+                bindingMillis += time - bindingStart;
+                bindingStart = null;
+            } else if (ScoreLangConstants.EVENT_ACTION_START.equals(eventType)) {
+                actionStart = time;
+            } else if ((ScoreLangConstants.EVENT_ACTION_END.equals(eventType) ||
+                    ScoreLangConstants.EVENT_ACTION_ERROR.equals(eventType)) && actionStart != null) {
+                actionMillis += time - actionStart;
+                actionStart = null;
+            } else if (ScoreLangConstants.EVENT_BRANCH_START.equals(eventType)) {
+                branch = true;
+            }
+        }
+
+        private ProfiledNode withTimesOfChildren() {
+            for (ProfiledNode child : children) {
+                startTime = Math.min(startTime, child.startTime);
+                endTime = Math.max(endTime, child.endTime);
+            }
+            return this;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return the name of the node in the collapsed stacks: the step name, the flow or operation name for the
+         *     top level node, or the index of a parallel loop branch
+         */
+        public String getLabel() {
+            if (branch) {
+                return "[branch " + substringAfterLast(path, ExecutionPath.PATH_SEPARATOR) + "]";
+            }
+            if (stepName != null) {
+                return stepName;
+            }
+            return executableName != null ? executableName : path;
+        }
+
+        public String getStepName() {
+            return stepName;
+        }
+
+        public String getExecutableName() {
+            return executableName;
+        }
+
+        public boolean isBranch() {
+            return branch;
+        }
+
+        public long getStartTime() {
+            return startTime;
+        }
+
+        public long getEndTime() {
+            return endTime;
+        }
+
+        public long getTotalMillis() {
+            return endTime - startTime;
+        }
+
+        public long getBindingMillis() {
+            return bindingMillis;
+        }
+
+        public long getActionMillis() {
+            return actionMillis;
+        }
+
+        /**
+         * @return the time from the end of the step to the start of the next step of its flow
+         */
+        public long getNavigationMillis() {
+            return navigationMillis;
+        }
+
+        /**
+         * @return the time of the node which is not spent in its binding, its action or the nodes under it
+         */
+        public long getSelfMillis() {
+            long childrenMillis = 0;
+            for (ProfiledNode child : children) {
+                childrenMillis += child.getTotalMillis() + child.getNavigationMillis();
+            }
+            return Math.max(0, getTotalMillis() - bindingMillis - actionMillis - childrenMillis);
+        }
+
+        public List<ProfiledNode> getChildren() {
+            return Collections.unmodifiableList(children);
+        }
+
+        private int getDepth() {
+            return countMatches(path, ExecutionPath.PATH_SEPARATOR) + 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.metrics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Locale.ENGLISH;
+
+/**
+ * Keeps a histogram of the timings of every timer and node in memory, and exposes them over JMX.
+ * <p>
+ * The histograms have fixed buckets, from 10 microseconds to 10 seconds, so recording a timing does not
+ * allocate once the histogram of its node exists.
+ */
+public class InMemoryRuntimeMetrics implements RuntimeMetrics, InMemoryRuntimeMetricsMBean {
+
+    public static final String OBJECT_NAME = "io.cloudslang.lang.runtime:type=RuntimeMetrics";
+    public static final String METRIC_NAME = "cslang_runtime_duration_seconds";
+
+    private static final String NO_NODE = "";
+    private static final long[] BUCKET_BOUNDS_NANOS = {
+        10_000L, 50_000L, 100_000L, 500_000L,
+        1_000_000L, 5_000_000L, 10_000_000L, 50_000_000L, 100_000_000L, 500_000_000L,
+        1_000_000_000L, 5_000_000_000L, 10_000_000_000L
+    };
+
+    private final Map<RuntimeTimer, ConcurrentMap<String, Histogram>> histograms = new EnumMap<>(RuntimeTimer.class);
+
+    public InMemoryRuntimeMetrics() {
+        for (RuntimeTimer timer : RuntimeTimer.values()) {
+            histograms.put(timer, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void record(RuntimeTimer timer, String nodeName, long durationNanos) {
+        ConcurrentMap<String, Histogram> nodeHistograms = histograms.get(timer);
+        String node = nodeName == null ? NO_NODE : nodeName;
+        Histogram histogram = nodeHistograms.get(node);
+        if (histogram == null) {
+            histogram = nodeHistograms.computeIfAbsent(node, key -> new Histogram());
+        }
+        histogram.record(durationNanos);
+    }
+
+    /**
+     * @param timer    the timer
+     * @param nodeName the node, or null for the timings taken outside of an execution step
+     * @return the histogram of the timings, or null if there are none
+     */
+    public Histogram getHistogram(RuntimeTimer timer, String nodeName) {
+        return histograms.get(timer).get(nodeName == null ? NO_NODE : nodeName);
+    }
+
+    @Override
+    public void reset() {
+        for (ConcurrentMap<String, Histogram> nodeHistograms : histograms.values()) {
+            nodeHistograms.clear();
+        }
+    }
+
+    @Override
+    public String[] getSummary() {
+        List<String> summary = new ArrayList<>();
+        for (Map.Entry<RuntimeTimer, ConcurrentMap<String, Histogram>> timerEntry : histograms.entrySet()) {
+            for (Map.Entry<String, Histogram> nodeEntry : new TreeMap<>(timerEntry.getValue()).entrySet()) {
+                Histogram histogram = nodeEntry.getValue();
+                long count = histogram.getCount();
+                summary.add(String.format(ENGLISH, "%s[%s]: count=%d, mean=%.3f ms, max=%.3f ms",
+                        timerEntry.getKey().getMetricName(), nodeEntry.getKey(), count,
+                        count == 0 ? 0.0 : toMillis(histogram.getTotalNanos()) / count,
+                        toMillis(histogram.getMaxNanos())));
+            }
+        }
+        return summary.toArray(new String[summary.size()]);
+    }
+
+    @Override
+    public String getPrometheusText() {
+        StringBuilder text = new StringBuilder()
+                .append("# HELP ").append(METRIC_NAME).append(" Time spent in the CloudSlang execution steps.\n")
+                .append("# TYPE ").append(METRIC_NAME).append(" histogram\n");
+        for (Map.Entry<RuntimeTimer, ConcurrentMap<String, Histogram>> timerEntry : histograms.entrySet()) {
+            for (Map.Entry<String, Histogram> nodeEntry : new TreeMap<>(timerEntry.getValue()).entrySet()) {
+                String labels = "timer=\"" + timerEntry.getKey().getMetricName() + "\",node=\"" +
+                        escapeLabelValue(nodeEntry.getKey()) + "\"";
+                appendHistogram(text, labels, nodeEntry.getValue());
+            }
+        }
+        return text.toString();
+    }
+
+    private void appendHistogram(StringBuilder text, String labels, Histogram histogram) {
+        long[] bucketCounts = histogram.getBucketCounts();
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+            cumulativeCount += bucketCounts[i];
+            text.append(METRIC_NAME).append("_bucket{").append(labels).append(",le=\"")
+                    .append(toSeconds(BUCKET_BOUNDS_NANOS[i])).append("\"} ").append(cumulativeCount).append('\n');
+        }
+        cumulativeCount += bucketCounts[BUCKET_BOUNDS_NANOS.length];
+        text.append(METRIC_NAME).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+                .append(cumulativeCount).append('\n')
+                .append(METRIC_NAME).append("_sum{").append(labels).append("} ")
+                .append(toSeconds(histogram.getTotalNanos())).append('\n')
+                .append(METRIC_NAME).append("_count{").append(labels).append("} ")
+                .append(cumulativeCount).append('\n');
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static String toSeconds(long nanos) {
+        return BigDecimal.valueOf(nanos, 9).stripTrailingZeros().toPlainString();
+    }
+
+    public static class Histogram {
+
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_NANOS.length + 1];
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        private Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void record(long durationNanos) {
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_NANOS.length && durationNanos > BUCKET_BOUNDS_NANOS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            totalNanos.add(durationNanos);
+            maxNanos.accumulate(durationNanos);
+        }
+
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        /**
+         * @return the number of timings in every bucket, the last bucket holds those longer than 10 seconds
+         */
+        public long[] getBucketCounts() {
+            long[] counts = new long[buckets.length];
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+            }
+            return counts;
+        }
+
+    }
+
+}
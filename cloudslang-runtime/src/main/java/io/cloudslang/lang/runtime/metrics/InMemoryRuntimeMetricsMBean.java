@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.metrics;
+
+/**
+ * The JMX view of the {@link InMemoryRuntimeMetrics}.
+ */
+public interface InMemoryRuntimeMetricsMBean {
+
+    /**
+     * @return the histograms in the Prometheus text exposition format
+     */
+    String getPrometheusText();
+
+    /**
+     * @return one line per timer and node, with the count, the mean and the maximum of its timings
+     */
+    String[] getSummary();
+
+    void reset();
+
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.metrics;
+
+/**
+ * The default {@link RuntimeMetrics}, which takes no timings.
+ */
+public final class NoOpRuntimeMetrics implements RuntimeMetrics {
+
+    public static final NoOpRuntimeMetrics INSTANCE = new NoOpRuntimeMetrics();
+
+    private NoOpRuntimeMetrics() {
+    }
+
+    @Override
+    public void record(RuntimeTimer timer, String nodeName, long durationNanos) {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+}
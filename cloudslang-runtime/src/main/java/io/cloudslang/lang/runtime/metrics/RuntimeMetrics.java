@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.metrics;
+
+/**
+ * Receives the time spent in the execution steps of the runtime.
+ * <p>
+ * An implementation can be plugged in as a Spring bean; when there is none, the {@link InMemoryRuntimeMetrics}
+ * are used if the {@value RuntimeMetricsProvider#RUNTIME_METRICS_ENABLED} system property is set, and nothing
+ * is recorded otherwise. The timings are recorded on the execution threads, so an implementation must be
+ * thread safe and cheap.
+ */
+public interface RuntimeMetrics {
+
+    /**
+     * @param timer         the part of the execution which was timed
+     * @param nodeName      the step, flow or operation in which it was timed, or null if it is not known
+     * @param durationNanos the time it took
+     */
+    void record(RuntimeTimer timer, String nodeName, long durationNanos);
+
+    /**
+     * @return whether the timings should be taken at all
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.metrics;
+
+/**
+ * Holds the {@link RuntimeMetrics} of the runtime and takes the timings for them.
+ * <p>
+ * A timer started while the metrics are disabled costs a single read, and stopping it records nothing. The name
+ * of the step, flow or operation whose execution step runs on the current thread is kept by the {@link NodeTimer},
+ * so the timings taken deeper, as the binding and the expression evaluation, are recorded for it as well.
+ */
+public final class RuntimeMetricsProvider {
+
+    public static final String RUNTIME_METRICS_ENABLED = "cslang.runtime.metrics.enabled";
+
+    private static final NodeTimer NO_OP_NODE_TIMER = new NodeTimer(null, null, 0L, null);
+
+    private static final ThreadLocal<String> CURRENT_NODE = new ThreadLocal<>();
+
+    private static volatile RuntimeMetrics metrics = NoOpRuntimeMetrics.INSTANCE;
+
+    private RuntimeMetricsProvider() {
+    }
+
+    public static RuntimeMetrics get() {
+        return metrics;
+    }
+
+    /**
+     * @param runtimeMetrics the metrics to record the timings in, or null to stop recording them
+     */
+    public static void set(RuntimeMetrics runtimeMetrics) {
+        metrics = runtimeMetrics == null ? NoOpRuntimeMetrics.INSTANCE : runtimeMetrics;
+    }
+
+    /**
+     * @return the start of the timer, or 0 if the metrics are disabled
+     */
+    public static long startTimer() {
+        return metrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time since the start of the timer for the node whose execution step runs on this thread.
+     *
+     * @param timer the part of the execution which was timed
+     * @param start the value returned by {@link #startTimer()}
+     */
+    public static void stopTimer(RuntimeTimer timer, long start) {
+        // the metrics were disabled when the timer started, so the node of this thread is not looked up
+        if (start != 0L) {
+            metrics.record(timer, CURRENT_NODE.get(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param timer    the part of the execution which was timed
+     * @param start    the value returned by {@link #startTimer()}
+     * @param nodeName the step, flow or operation in which it was timed
+     */
+    public static void stopTimer(RuntimeTimer timer, long start, String nodeName) {
+        if (start != 0L) {
+            metrics.record(timer, nodeName, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Times an execution step, and makes its node the node of the timings taken on this thread until the returned
+     * timer is closed.
+     *
+     * @param timer    the execution step
+     * @param nodeName the step, flow or operation it runs
+     * @return the timer to close when the execution step ends
+     */
+    public static NodeTimer startNodeTimer(RuntimeTimer timer, String nodeName) {
+        RuntimeMetrics currentMetrics = metrics;
+        if (!currentMetrics.isEnabled()) {
+            return NO_OP_NODE_TIMER;
+        }
+        String previousNode = CURRENT_NODE.get();
+        CURRENT_NODE.set(nodeName);
+        return new NodeTimer(timer, nodeName, System.nanoTime(), previousNode);
+    }
+
+    public static final class NodeTimer implements AutoCloseable {
+
+        private final RuntimeTimer timer;
+        private final String nodeName;
+        private final long start;
+        private final String previousNode;
+
+        private NodeTimer(RuntimeTimer timer, String nodeName, long start, String previousNode) {
+            this.timer = timer;
+            this.nodeName = nodeName;
+            this.start = start;
+            this.previousNode = previousNode;
+        }
+
+        @Override
+        public void close() {
+            if (timer == null) {
+                return;
+            }
+            stopTimer(timer, start, nodeName);
+            if (previousNode == null) {
+                CURRENT_NODE.remove();
+            } else {
+                CURRENT_NODE.set(previousNode);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.metrics;
+
+/**
+ * The parts of the execution steps timed by the {@link RuntimeMetrics}.
+ */
+public enum RuntimeTimer {
+
+    BEGIN_STEP("begin_step"),
+    END_STEP("end_step"),
+    START_EXECUTABLE("start_executable"),
+    FINISH_EXECUTABLE("finish_executable"),
+    ADD_BRANCHES("add_branches"),
+    JOIN_BRANCHES("join_branches"),
+    ACTION("action"),
+    BINDING("binding"),
+    JYTHON_EXPRESSION("jython_expression"),
+    EXTERNAL_EXPRESSION("external_expression"),
+    EVENT("event"),
+    CONTEXT_CLONE("context_clone"),
+    ENCRYPT("encrypt"),
+    DECRYPT("decrypt");
+
+    private final String metricName;
+
+    RuntimeTimer(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+}
@@ -33,6 +33,7 @@ import io.cloudslang.lang.runtime.env.ParentFlowStack;
 import io.cloudslang.lang.runtime.env.ReturnValues;
 import io.cloudslang.lang.runtime.env.RunEnvironment;
 import io.cloudslang.lang.runtime.events.LanguageEventData;
+import io.cloudslang.lang.runtime.metrics.RuntimeTimer;
 import io.cloudslang.score.api.execution.ExecutionParametersConsts;
 import io.cloudslang.score.lang.ExecutionRuntimeServices;
 import org.apache.commons.lang3.tuple.Pair;
@@ -53,6 +54,8 @@ import static io.cloudslang.lang.entities.properties.EventVerbosityLevel.ALL;
 import static io.cloudslang.lang.entities.properties.EventVerbosityLevel.DEFAULT;
 import static io.cloudslang.lang.entities.properties.SlangSystemPropertyConstant.CSLANG_RUNTIME_EVENTS_VERBOSITY;
 import static io.cloudslang.lang.entities.utils.ValueUtils.flatten;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startTimer;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.stopTimer;
 import static java.lang.System.getProperty;
 
 public abstract class AbstractExecutionData {
@@ -79,10 +82,12 @@ public abstract class AbstractExecutionData {
                                  String stepName,
                                  Map<String, Value> context,
                                  Map.Entry<String, ? extends Serializable>... fields) {
+        final long start = startTimer();
         LanguageEventData eventData = getLanguageEventData(runtimeServices, type, description,
                 path, stepType, stepName);
         flattenAndSetContext(eventData, context);
         addEventToRuntime(runtimeServices, type, eventData, fields);
+        stopTimer(RuntimeTimer.EVENT, start);
     }
 
     @SafeVarargs
@@ -94,11 +99,12 @@ public abstract class AbstractExecutionData {
                                  String stepName,
                                  ReadOnlyContextAccessor contextAccessor,
                                  Map.Entry<String, ? extends Serializable>... fields) {
-
+        final long start = startTimer();
         LanguageEventData eventData = getLanguageEventData(runtimeServices, type, description,
                 runEnvironment.getExecutionPath().getCurrentPath(), stepType, stepName);
         flattenAndSetContext(eventData, contextAccessor);
         addEventToRuntime(runtimeServices, type, eventData, fields);
+        stopTimer(RuntimeTimer.EVENT, start);
     }
 
     private static LanguageEventData getLanguageEventData(ExecutionRuntimeServices runtimeServices,
@@ -119,19 +125,24 @@ public abstract class AbstractExecutionData {
     }
 
     private static void flattenAndSetContext(LanguageEventData eventData, Map<String, Value> context) {
-        if (ALL.getValue().equals(getProperty(CSLANG_RUNTIME_EVENTS_VERBOSITY.getValue(),
-                DEFAULT.getValue())) && (context != null)) {
+        if (isContextInEvents() && (context != null)) {
             eventData.setContext(flatten(context));
         }
     }
 
     private static void flattenAndSetContext(LanguageEventData eventData, ReadOnlyContextAccessor accessor) {
-        if (ALL.getValue().equals(getProperty(CSLANG_RUNTIME_EVENTS_VERBOSITY.getValue(),
-                DEFAULT.getValue())) && (accessor != null)) {
+        if (isContextInEvents() && (accessor != null)) {
             eventData.setContext(flatten(accessor.getContextHolder()));
         }
     }
 
+    /**
+     * @return whether the events carry the context, which is the case only in the full events verbosity
+     */
+    protected static boolean isContextInEvents() {
+        return ALL.getValue().equals(getProperty(CSLANG_RUNTIME_EVENTS_VERBOSITY.getValue(), DEFAULT.getValue()));
+    }
+
     private static void addEventToRuntime(ExecutionRuntimeServices runtimeServices,
                                           String type,
                                           LanguageEventData eventData,
@@ -9,6 +9,7 @@
  *******************************************************************************/
 package io.cloudslang.lang.runtime.steps;
 
+import com.google.common.collect.Maps;
 import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
 import io.cloudslang.lang.compiler.modeller.model.SeqStep;
@@ -20,6 +21,7 @@ import io.cloudslang.lang.runtime.bindings.scripts.ScriptExecutor;
 import io.cloudslang.lang.runtime.env.ReturnValues;
 import io.cloudslang.lang.runtime.env.RunEnvironment;
 import io.cloudslang.lang.runtime.events.LanguageEventData;
+import io.cloudslang.lang.runtime.metrics.RuntimeTimer;
 import io.cloudslang.runtime.api.java.JavaRuntimeService;
 import io.cloudslang.runtime.api.sequential.SequentialExecutionService;
 import io.cloudslang.score.api.execution.ExecutionParametersConsts;
@@ -46,6 +48,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startTimer;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.stopTimer;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.EXECUTION_RUNTIME_SERVICES;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.SEQUENTIAL;
 
@@ -94,17 +98,17 @@ public class ActionExecutionData extends AbstractExecutionData {
                          @Param(ScoreLangConstants.PYTHON_ACTION_SCRIPT_KEY) String script,
                          @Param(ScoreLangConstants.PYTHON_ACTION_USE_JYTHON_KEY) Boolean useJython,
                          @Param(ScoreLangConstants.PYTHON_ACTION_DEPENDENCIES_KEY) Collection<String> dependencies,
+                         @Param(ScoreLangConstants.PYTHON_ACTION_SCRIPT_PARAMS_KEY) Collection<String> scriptParams,
                          @Param(ScoreLangConstants.SEQ_STEPS_KEY) List<SeqStep> steps,
                          @Param(ScoreLangConstants.SEQ_EXTERNAL_KEY) Boolean external,
+                         @Param(ScoreLangConstants.SEQ_PARAMETERS_KEY) Collection<String> seqParameters,
                          @Param(ExecutionParametersConsts.EXECUTION) Serializable execution) {
 
         Map<String, Value> returnValue = new HashMap<>();
         Map<String, Value> callArguments = runEnv.removeCallArguments();
-        Map<String, Value> callArgumentsDeepCopy = new HashMap<>();
-
-        for (Map.Entry<String, Value> entry : callArguments.entrySet()) {
-            callArgumentsDeepCopy.put(entry.getKey(), ValueFactory.create(entry.getValue()));
-        }
+        // the call arguments are copied as they are before the action runs only when the events carry them as
+        // context, the call arguments event field is masked into a new map when the event is created
+        Map<String, Value> callArgumentsDeepCopy = isContextInEvents() ? deepCopy(callArguments) : null;
 
         Map<String, SerializableSessionObject> serializableSessionData = runEnv.getSerializableDataMap();
         fireEvent(
@@ -115,7 +119,8 @@ public class ActionExecutionData extends AbstractExecutionData {
                 LanguageEventData.StepType.ACTION,
                 null,
                 callArgumentsDeepCopy,
-                Pair.of(LanguageEventData.CALL_ARGUMENTS, (Serializable) callArgumentsDeepCopy));
+                Pair.of(LanguageEventData.CALL_ARGUMENTS, (Serializable) callArguments));
+        final long actionStart = startTimer();
         try {
             switch (actionType) {
                 case JAVA:
@@ -124,11 +129,12 @@ public class ActionExecutionData extends AbstractExecutionData {
                             runEnv.getParentFlowStack().size());
                     break;
                 case PYTHON:
-                    returnValue = prepareAndRunPythonAction(dependencies, script, callArguments, useJython);
+                    returnValue = prepareAndRunPythonAction(dependencies, script, scriptParams, callArguments,
+                            useJython);
                     break;
                 case SEQUENTIAL:
                     returnValue = runSequentialAction(callArguments, gav, steps, Boolean.TRUE.equals(external),
-                            execution, runEnv, nextStepId);
+                            seqParameters, execution, runEnv, nextStepId);
                     break;
                 default:
                     break;
@@ -148,6 +154,8 @@ public class ActionExecutionData extends AbstractExecutionData {
                     Pair.of(LanguageEventData.EXCEPTION, ex.getMessage()));
             logger.error(ex);
             throw (ex);
+        } finally {
+            stopTimer(RuntimeTimer.ACTION, actionStart, executionRuntimeServices.getNodeName());
         }
 
         ReturnValues returnValues = new ReturnValues(returnValue, null);
@@ -177,6 +185,7 @@ public class ActionExecutionData extends AbstractExecutionData {
             String gav,
             List<SeqStep> seqSteps,
             boolean external,
+            Collection<String> seqParameters,
             Serializable execution,
             RunEnvironment runEnv,
             Long nextStepId) {
@@ -189,7 +198,8 @@ public class ActionExecutionData extends AbstractExecutionData {
                                 new CloudSlangSequentialExecutionParametersProviderImpl(
                                         currentContext,
                                         seqSteps,
-                                        external), execution);
+                                        external,
+                                        seqParameters), execution);
         return (returnMap != null) ? handleSensitiveValues(returnMap, currentContext) :
                 new HashMap<>();
     }
@@ -245,17 +255,24 @@ public class ActionExecutionData extends AbstractExecutionData {
         logger.error("Java operation encountered an exception:\n" + stacktrace);
     }
 
-    protected Map<String, Serializable> createActionContext(Map<String, Value> context) {
-        Map<String, Serializable> result = new HashMap<>();
-        for (Map.Entry<String, Value> entry : context.entrySet()) {
-            result.put(entry.getKey(), entry.getValue() == null ? null : entry.getValue().get());
+    private Map<String, Value> deepCopy(Map<String, Value> callArguments) {
+        Map<String, Value> callArgumentsDeepCopy = Maps.newHashMapWithExpectedSize(callArguments.size());
+        for (Map.Entry<String, Value> entry : callArguments.entrySet()) {
+            callArgumentsDeepCopy.put(entry.getKey(), ValueFactory.create(entry.getValue()));
         }
-        return result;
+        return callArgumentsDeepCopy;
+    }
+
+    /**
+     * @return a view of the context with the unwrapped values, the action only reads the values of its parameters
+     */
+    protected Map<String, Serializable> createActionContext(Map<String, Value> context) {
+        return Maps.transformValues(context, value -> value == null ? null : value.get());
     }
 
     protected Map<String, Value> handleSensitiveValues(Map<String, Serializable> executionResult,
                                                        Map<String, Value> context) {
-        Map<String, Value> result = new HashMap<>();
+        Map<String, Value> result = Maps.newHashMapWithExpectedSize(executionResult.size());
         for (Map.Entry<String, Serializable> entry : executionResult.entrySet()) {
             Value callArgumenet = context.get(entry.getKey());
             Value value = ValueFactory.create(entry.getValue(), callArgumenet != null && callArgumenet.isSensitive());
@@ -292,10 +309,12 @@ public class ActionExecutionData extends AbstractExecutionData {
     }
 
     private Map<String, Value> prepareAndRunPythonAction(Collection<String> dependencies, String pythonScript,
-                                                         Map<String, Value> callArguments, boolean useJython) {
+                                                         Collection<String> scriptParams,
+                                                         Map<String, Value> callArguments,
+                                                         boolean useJython) {
         if (StringUtils.isNotBlank(pythonScript)) {
             final Map<String, Value> returnedMap = scriptExecutor.executeScript(
-                    normalizePythonDependencies(dependencies), pythonScript, callArguments, useJython);
+                    normalizePythonDependencies(dependencies), pythonScript, scriptParams, callArguments, useJython);
 
             final Value ex = returnedMap.get(EXCEPTION);
             if (ex != null) {
@@ -20,10 +20,10 @@ import org.apache.commons.lang.StringUtils;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.GLOBAL_SESSION_OBJECT;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.SESSION_OBJECT;
@@ -38,6 +38,17 @@ public class CloudSlangJavaExecutionParameterProvider implements JavaExecutionPa
     private static final String SERIALIZABLE_SESSION_OBJECT = SerializableSessionObject.class.getCanonicalName();
     private static final String STEP_SERIALIZABLE_SESSION_OBJECT =
             StepSerializableSessionObject.class.getCanonicalName();
+    /**
+     * The parameters of the action methods, read once per method and kept with the declaring action class.
+     */
+    private static final ClassValue<ConcurrentMap<Method, ParameterSlot[]>> INVOCATION_PLANS = new ClassValue<
+            ConcurrentMap<Method, ParameterSlot[]>>() {
+        @Override
+        protected ConcurrentMap<Method, ParameterSlot[]> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private final Map<String, SerializableSessionObject> serializableSessionData;
     private final Map<String, Serializable> currentContext;
     private final Map<String, Object> globalSessionObjectData;
@@ -60,60 +71,72 @@ public class CloudSlangJavaExecutionParameterProvider implements JavaExecutionPa
 
     @Override
     public Object[] getExecutionParameters(Method executionMethod) {
+        ParameterSlot[] parameterSlots = INVOCATION_PLANS.get(executionMethod.getDeclaringClass())
+                .computeIfAbsent(executionMethod, CloudSlangJavaExecutionParameterProvider::createInvocationPlan);
+        Object[] args = new Object[parameterSlots.length];
+        for (int index = 0; index < parameterSlots.length; index++) {
+            args[index] = getArgument(executionMethod, parameterSlots[index]);
+        }
+        return args;
+    }
+
+    private Object getArgument(Method executionMethod, ParameterSlot parameterSlot) {
+        switch (parameterSlot.kind) {
+            case GLOBAL_SESSION_OBJECT:
+                return handleSessionContextArgument(globalSessionObjectData, GLOBAL_SESSION_OBJECT_CLASS_NAME,
+                        parameterSlot.name, parameterSlot.classLoader);
+            case SESSION_OBJECT:
+                return handleSessionContextArgument(sessionObjectData, SESSION_OBJECT_CLASS_NAME,
+                        parameterSlot.name + "_" + (depth - 1), parameterSlot.classLoader);
+            case SERIALIZABLE_SESSION_OBJECT:
+                return handleSessionContextArgument(serializableSessionData, SERIALIZABLE_SESSION_OBJECT,
+                        parameterSlot.name, parameterSlot.classLoader);
+            case STEP_SERIALIZABLE_SESSION_OBJECT:
+                return handleStepSessionContextArgument(serializableSessionData, parameterSlot.name,
+                        parameterSlot.classLoader);
+            default:
+                Serializable value = currentContext.get(parameterSlot.name);
+                if ((value == null) || parameterSlot.type.isInstance(value)) {
+                    return value;
+                }
+                throw new RuntimeException(new StringBuilder("Parameter type mismatch for action ")
+                        .append(executionMethod.getName())
+                        .append(" of class ")
+                        .append(executionMethod.getDeclaringClass().getName())
+                        .append(". Parameter ")
+                        .append(parameterSlot.name)
+                        .append(" expects type ")
+                        .append(parameterSlot.type.getName())
+                        .append(". Actual type is ")
+                        .append(value.getClass().getName())
+                        .toString());
+        }
+    }
+
+    /**
+     * Reads the {@link Param} annotations and the session object types of the action method parameters once,
+     * so that an action execution only looks its arguments up in the context.
+     */
+    private static ParameterSlot[] createInvocationPlan(Method executionMethod) {
         Class<?>[] parameterTypes = executionMethod.getParameterTypes();
-        List<Object> args = new ArrayList<>(parameterTypes.length);
-        int index = -1;
         Annotation[][] parameterAnnotations = executionMethod.getParameterAnnotations();
-        for (Annotation[] annotations : parameterAnnotations) {
-            index++;
-            for (Annotation annotation : annotations) {
+        ParameterSlot[] parameterSlots = new ParameterSlot[parameterAnnotations.length];
+        for (int index = 0; index < parameterAnnotations.length; index++) {
+            for (Annotation annotation : parameterAnnotations[index]) {
                 String parameterName = getValueIfParamAnnotation(annotation);
                 if (parameterName != null) {
-                    String paramClassName = parameterTypes[index].getCanonicalName();
-                    if (paramClassName.equals(GLOBAL_SESSION_OBJECT_CLASS_NAME)) {
-                        handleSessionContextArgument(globalSessionObjectData, GLOBAL_SESSION_OBJECT_CLASS_NAME,
-                                args, parameterName,
-                                annotation.getClass().getClassLoader());
-                    } else if (paramClassName.equals(SESSION_OBJECT_CLASS_NAME)) {
-                        handleSessionContextArgument(sessionObjectData, SESSION_OBJECT_CLASS_NAME,
-                                args, parameterName + "_" + (depth - 1),
-                                annotation.getClass().getClassLoader());
-                    } else if (paramClassName.equals(SERIALIZABLE_SESSION_OBJECT)) {
-                        handleSessionContextArgument(serializableSessionData, SERIALIZABLE_SESSION_OBJECT,
-                                args, parameterName,
-                                annotation.getClass().getClassLoader());
-                    } else if (paramClassName.equals(STEP_SERIALIZABLE_SESSION_OBJECT)) {
-                        handleStepSessionContextArgument(serializableSessionData, args, parameterName,
-                                annotation.getClass().getClassLoader());
-                    } else {
-                        Serializable value = currentContext.get(parameterName);
-                        Class<?> parameterClass = parameterTypes[index];
-                        if ((value == null) || parameterClass.isInstance(value)) {
-                            args.add(value);
-                        } else {
-                            throw new RuntimeException(new StringBuilder("Parameter type mismatch for action ")
-                                    .append(executionMethod.getName())
-                                    .append(" of class ")
-                                    .append(executionMethod.getDeclaringClass().getName())
-                                    .append(". Parameter ")
-                                    .append(parameterName)
-                                    .append(" expects type ")
-                                    .append(parameterClass.getName())
-                                    .append(". Actual type is ")
-                                    .append(value.getClass().getName())
-                                    .toString());
-                        }
-                    }
+                    parameterSlots[index] = new ParameterSlot(parameterName, parameterTypes[index],
+                            annotation.getClass().getClassLoader());
                 }
             }
+            if (parameterSlots[index] == null) {
+                throw new RuntimeException("All action arguments should be annotated with @Param");
+            }
         }
-        if (args.size() != parameterAnnotations.length) {
-            throw new RuntimeException("All action arguments should be annotated with @Param");
-        }
-        return args.toArray(new Object[args.size()]);
+        return parameterSlots;
     }
 
-    private String getValueIfParamAnnotation(Annotation annotation) {
+    private static String getValueIfParamAnnotation(Annotation annotation) {
         Class<? extends Annotation> annotationType = annotation.annotationType();
         if (PARAM_CLASS_NAME.equalsIgnoreCase(annotation.annotationType().getCanonicalName())) {
             try {
@@ -126,8 +149,8 @@ public class CloudSlangJavaExecutionParameterProvider implements JavaExecutionPa
         return null;
     }
 
-    private void handleStepSessionContextArgument(Map sessionData, List<Object> args,
-                                                  String parameterName, ClassLoader classLoader) {
+    private Object handleStepSessionContextArgument(Map sessionData, String parameterName,
+                                                    ClassLoader classLoader) {
         final String stepSessionKey = parameterName + "_" + nodeNameWithDepth;
         Object sessionContextObject = sessionData.get(stepSessionKey);
         if (sessionContextObject == null) {
@@ -142,11 +165,11 @@ public class CloudSlangJavaExecutionParameterProvider implements JavaExecutionPa
             //noinspection unchecked
             sessionData.put(stepSessionKey, sessionContextObject);
         }
-        args.add(sessionContextObject);
+        return sessionContextObject;
     }
 
-    private void handleSessionContextArgument(Map sessionData, String objectClassName, List<Object> args,
-                                              String parameterName, ClassLoader classLoader) {
+    private Object handleSessionContextArgument(Map sessionData, String objectClassName,
+                                                String parameterName, ClassLoader classLoader) {
         // cloudslang list iterator fix
         final String parameter = StringUtils.startsWith(this.nodeNameWithDepth, "list_iterator") ?
                 this.nodeNameWithDepth : parameterName;
@@ -161,6 +184,42 @@ public class CloudSlangJavaExecutionParameterProvider implements JavaExecutionPa
             //noinspection unchecked
             sessionData.put(parameter, sessionContextObject);
         }
-        args.add(sessionContextObject);
+        return sessionContextObject;
+    }
+
+    private enum ParameterKind {
+        GLOBAL_SESSION_OBJECT,
+        SESSION_OBJECT,
+        SERIALIZABLE_SESSION_OBJECT,
+        STEP_SERIALIZABLE_SESSION_OBJECT,
+        CONTEXT_VALUE
+    }
+
+    private static class ParameterSlot {
+        private final String name;
+        private final Class<?> type;
+        private final ParameterKind kind;
+        private final ClassLoader classLoader;
+
+        ParameterSlot(String name, Class<?> type, ClassLoader classLoader) {
+            this.name = name;
+            this.type = type;
+            this.kind = getParameterKind(type.getCanonicalName());
+            this.classLoader = classLoader;
+        }
+
+        // the action classes are loaded by their own class loaders, so the session object types are matched by name
+        private static ParameterKind getParameterKind(String paramClassName) {
+            if (GLOBAL_SESSION_OBJECT_CLASS_NAME.equals(paramClassName)) {
+                return ParameterKind.GLOBAL_SESSION_OBJECT;
+            } else if (SESSION_OBJECT_CLASS_NAME.equals(paramClassName)) {
+                return ParameterKind.SESSION_OBJECT;
+            } else if (SERIALIZABLE_SESSION_OBJECT.equals(paramClassName)) {
+                return ParameterKind.SERIALIZABLE_SESSION_OBJECT;
+            } else if (STEP_SERIALIZABLE_SESSION_OBJECT.equals(paramClassName)) {
+                return ParameterKind.STEP_SERIALIZABLE_SESSION_OBJECT;
+            }
+            return ParameterKind.CONTEXT_VALUE;
+        }
     }
 }
@@ -9,61 +9,70 @@
  *******************************************************************************/
 package io.cloudslang.lang.runtime.steps;
 
+import com.google.common.collect.Maps;
 import io.cloudslang.lang.compiler.modeller.model.SeqStep;
+import io.cloudslang.lang.compiler.utils.SeqParameterUtils;
 import io.cloudslang.lang.entities.bindings.values.Value;
 import io.cloudslang.runtime.api.sequential.SequentialExecutionParametersProvider;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Collectors.toSet;
-import static org.apache.commons.lang3.StringUtils.startsWith;
-import static org.apache.commons.lang3.StringUtils.substring;
 import static org.apache.commons.lang3.tuple.Pair.of;
 
 public class CloudSlangSequentialExecutionParametersProviderImpl implements SequentialExecutionParametersProvider,
         Serializable {
     private static final long serialVersionUID = -6086097846840796564L;
 
-    public static final String SEQUENTIAL_PARAMETER = "Parameter(";
+    public static final String SEQUENTIAL_PARAMETER = SeqParameterUtils.SEQUENTIAL_PARAMETER;
     private final Map<String, Value> currentContext;
     private final List<SeqStep> seqSteps;
     private final boolean external;
+    private final Set<String> paramsUsedInScript;
 
     public CloudSlangSequentialExecutionParametersProviderImpl(Map<String, Value> currentContext,
                                                                List<SeqStep> seqSteps,
                                                                Boolean external) {
+        this(currentContext, seqSteps, external, null);
+    }
+
+    /**
+     * @param paramsUsedInScript the parameters used by the steps, as found by the compiler; when missing they are
+     *                           read from the steps
+     */
+    public CloudSlangSequentialExecutionParametersProviderImpl(Map<String, Value> currentContext,
+                                                               List<SeqStep> seqSteps,
+                                                               Boolean external,
+                                                               Collection<String> paramsUsedInScript) {
         this.currentContext = currentContext;
         this.seqSteps = seqSteps;
         this.external = external;
+        this.paramsUsedInScript = paramsUsedInScript == null || paramsUsedInScript instanceof Set ?
+                (Set<String>) paramsUsedInScript : new HashSet<>(paramsUsedInScript);
     }
 
     @Override
     public Map<String, Pair<Serializable, Boolean>> getExecutionParameters() {
-        Set<String> paramsUsedInScript;
-        if (external) {
-            paramsUsedInScript = new HashSet<>();
-        } else {
-            paramsUsedInScript = seqSteps.stream()
-                    .map(SeqStep::getArgs)
-                    .filter(args -> startsWith(args, SEQUENTIAL_PARAMETER))
-                    .map(this::extractParameter)
-                    .collect(toSet());
+        Set<String> usedParams = getParamsUsedInScript();
+        Map<String, Pair<Serializable, Boolean>> executionParameters =
+                Maps.newHashMapWithExpectedSize(currentContext.size());
+        for (Map.Entry<String, Value> entry : currentContext.entrySet()) {
+            executionParameters.put(entry.getKey(), of(entry.getValue(), usedParams.contains(entry.getKey())));
         }
-
-        return currentContext.entrySet().stream()
-                .collect(toMap(
-                    Map.Entry::getKey,
-                    entry -> of(entry.getValue(), paramsUsedInScript.contains(entry.getKey()))));
+        return executionParameters;
     }
 
-    private String extractParameter(String args) {
-        return substring(args, SEQUENTIAL_PARAMETER.length(), args.length() - 1).replaceAll("^\"|\"$", "");
+    private Set<String> getParamsUsedInScript() {
+        if (external) {
+            return new HashSet<>();
+        }
+        // execution plans compiled before the parameters were found by the compiler do not carry them
+        return paramsUsedInScript != null ? paramsUsedInScript : SeqParameterUtils.getParametersUsedInSteps(seqSteps);
     }
 
     @Override
@@ -29,6 +29,8 @@ import io.cloudslang.lang.runtime.env.ParentFlowData;
 import io.cloudslang.lang.runtime.env.ReturnValues;
 import io.cloudslang.lang.runtime.env.RunEnvironment;
 import io.cloudslang.lang.runtime.events.LanguageEventData;
+import io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.NodeTimer;
+import io.cloudslang.lang.runtime.metrics.RuntimeTimer;
 import io.cloudslang.score.api.execution.precondition.ExecutionPreconditionService;
 import io.cloudslang.score.lang.ExecutionRuntimeServices;
 import io.cloudslang.score.lang.SystemContext;
@@ -54,6 +56,7 @@ import static io.cloudslang.lang.entities.ScoreLangConstants.DEBUGGER_EXECUTABLE
 import static io.cloudslang.lang.entities.ScoreLangConstants.USE_EMPTY_VALUES_FOR_PROMPTS_KEY;
 import static io.cloudslang.lang.entities.ScoreLangConstants.WORKER_GROUP;
 import static io.cloudslang.lang.entities.bindings.values.Value.toStringSafe;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startNodeTimer;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.EXECUTION_RUNTIME_SERVICES;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.SYSTEM_CONTEXT;
 import static java.lang.String.valueOf;
@@ -110,7 +113,7 @@ public class ExecutableExecutionData extends AbstractExecutionData {
                                 @Param(ScoreLangConstants.EXECUTABLE_TYPE) ExecutableType executableType,
                                 @Param(SYSTEM_CONTEXT) SystemContext systemContext,
                                 @Param(USE_EMPTY_VALUES_FOR_PROMPTS_KEY) Boolean useEmptyValuesForPrompts) {
-        try {
+        try (NodeTimer ignored = startNodeTimer(RuntimeTimer.START_EXECUTABLE, nodeName)) {
             if (runEnv.isContextModified()) {
                 rebindArguments(runEnv, executionRuntimeServices, nodeName);
             }
@@ -287,7 +290,7 @@ public class ExecutableExecutionData extends AbstractExecutionData {
                                  @Param(EXECUTION_RUNTIME_SERVICES) ExecutionRuntimeServices executionRuntimeServices,
                                  @Param(ScoreLangConstants.NODE_NAME_KEY) String nodeName,
                                  @Param(ScoreLangConstants.EXECUTABLE_TYPE) ExecutableType executableType) {
-        try {
+        try (NodeTimer ignored = startNodeTimer(RuntimeTimer.FINISH_EXECUTABLE, nodeName)) {
             runEnv.getExecutionPath().up();
             Context operationContext = runEnv.getStack().popContext();
             Map<String, Value> operationVariables = operationContext == null ?
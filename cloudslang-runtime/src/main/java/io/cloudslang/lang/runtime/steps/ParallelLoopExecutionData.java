@@ -25,6 +25,8 @@ import io.cloudslang.lang.runtime.env.Context;
 import io.cloudslang.lang.runtime.env.ReturnValues;
 import io.cloudslang.lang.runtime.env.RunEnvironment;
 import io.cloudslang.lang.runtime.events.LanguageEventData;
+import io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.NodeTimer;
+import io.cloudslang.lang.runtime.metrics.RuntimeTimer;
 import io.cloudslang.score.api.EndBranchDataContainer;
 import io.cloudslang.score.api.StatefulSessionStack;
 import io.cloudslang.score.api.execution.ExecutionParametersConsts;
@@ -46,6 +48,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startNodeTimer;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startTimer;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.stopTimer;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.DEFAULT_ROI_VALUE;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.EXECUTION_RUNTIME_SERVICES;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.EXECUTION_TOTAL_ROI;
@@ -82,7 +87,7 @@ public class ParallelLoopExecutionData extends AbstractExecutionData {
                             @Param(ScoreLangConstants.BRANCH_BEGIN_STEP_ID_KEY) Long branchBeginStep,
                             @Param(ScoreLangConstants.REF_ID) String refId) {
 
-        try {
+        try (NodeTimer ignored = startNodeTimer(RuntimeTimer.ADD_BRANCHES, nodeName)) {
             Context flowContext = runEnv.getStack().popContext();
             int parallelismLevel = executionRuntimeServices.getLevelParallelism() != null ?
                     (int) executionRuntimeServices.getLevelParallelism() : 0;
@@ -105,7 +110,9 @@ public class ParallelLoopExecutionData extends AbstractExecutionData {
             runEnv.getExecutionPath().down();
 
             for (Value splitItem : splitData) {
+                long cloneStart = startTimer();
                 Context branchContext = (Context) SerializationUtils.clone(flowContext);
+                stopTimer(RuntimeTimer.CONTEXT_CLONE, cloneStart);
 
                 // first fire event
                 fireEvent(
@@ -121,7 +128,9 @@ public class ParallelLoopExecutionData extends AbstractExecutionData {
                 // take path down one level
                 runEnv.getExecutionPath().down();
 
+                cloneStart = startTimer();
                 RunEnvironment branchRuntimeEnvironment = (RunEnvironment) SerializationUtils.clone(runEnv);
+                stopTimer(RuntimeTimer.CONTEXT_CLONE, cloneStart);
                 branchRuntimeEnvironment.resetStacks();
 
                 StatefulSessionStack branchStack = branchRuntimeEnvironment.getStatefulSessionsStack();
@@ -167,7 +176,7 @@ public class ParallelLoopExecutionData extends AbstractExecutionData {
                              @Param(ScoreLangConstants.STEP_NAVIGATION_KEY)
                                  Map<String, ResultNavigation> stepNavigationValues,
                              @Param(ScoreLangConstants.NODE_NAME_KEY) String nodeName) {
-        try {
+        try (NodeTimer ignored = startNodeTimer(RuntimeTimer.JOIN_BRANCHES, nodeName)) {
             runEnv.getExecutionPath().up();
             notNull(executionRuntimeServices.getLevelParallelism(), "Parallelism level can not be null");
             List<Map<String, Serializable>> branchesContext = Lists.newArrayList();
@@ -34,6 +34,8 @@ import io.cloudslang.lang.runtime.env.Context;
 import io.cloudslang.lang.runtime.env.ReturnValues;
 import io.cloudslang.lang.runtime.env.RunEnvironment;
 import io.cloudslang.lang.runtime.events.LanguageEventData;
+import io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.NodeTimer;
+import io.cloudslang.lang.runtime.metrics.RuntimeTimer;
 import io.cloudslang.score.api.execution.ExecutionParametersConsts;
 import io.cloudslang.score.lang.ExecutionRuntimeServices;
 import org.apache.commons.collections4.CollectionUtils;
@@ -57,6 +59,7 @@ import static io.cloudslang.lang.entities.ScoreLangConstants.WORKER_GROUP;
 import static io.cloudslang.lang.entities.ScoreLangConstants.WORKER_GROUP_OVERRIDE;
 import static io.cloudslang.lang.entities.ScoreLangConstants.WORKER_GROUP_VALUE;
 import static io.cloudslang.lang.entities.bindings.values.Value.toStringSafe;
+import static io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.startNodeTimer;
 import static io.cloudslang.score.api.execution.ExecutionParametersConsts.EXECUTION_RUNTIME_SERVICES;
 import static java.lang.Double.parseDouble;
 import static java.util.stream.Collectors.toMap;
@@ -97,7 +100,7 @@ public class StepExecutionData extends AbstractExecutionData {
                           @Param(ScoreLangConstants.NEXT_STEP_ID_KEY) Long nextStepId,
                           @Param(ScoreLangConstants.REF_ID) String refId,
                           @Param(STEP_NAVIGATION_OPTIONS_KEY) List<NavigationOptions> stepNavigationOptions) {
-        try {
+        try (NodeTimer ignored = startNodeTimer(RuntimeTimer.BEGIN_STEP, nodeName)) {
             runEnv.removeCallArguments();
             runEnv.removeReturnValues();
 
@@ -188,7 +191,7 @@ public class StepExecutionData extends AbstractExecutionData {
                         @Param(ScoreLangConstants.NODE_NAME_KEY) String nodeName,
                         @Param(ScoreLangConstants.PARALLEL_LOOP_KEY) boolean parallelLoop) {
 
-        try {
+        try (NodeTimer ignored = startNodeTimer(RuntimeTimer.END_STEP, nodeName)) {
             Context flowContext = runEnv.getStack().popContext();
 
             removeStepSerializableSessionObjects(runEnv);
@@ -45,6 +45,13 @@ import java.util.Set;
 import java.util.concurrent.Semaphore;
 
 import static java.util.Arrays.asList;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.anySet;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 /**
  * User: stoneo
@@ -64,6 +71,9 @@ public class ResultBindingTest {
     @Autowired
     private ResultsBinding resultsBinding;
 
+    @Autowired
+    private ScriptEvaluator scriptEvaluator;
+
     @Test
     public void testPrimitiveBooleanFirstResult() throws Exception {
         List<Result> results = asList(
@@ -194,6 +204,49 @@ public class ResultBindingTest {
         resultsBinding.resolveResult(new HashMap<String, Value>(), context, EMPTY_SET, results, null);
     }
 
+    @Test
+    public void testStringComparisonIsResolvedWithoutPython() throws Exception {
+        reset(scriptEvaluator);
+        List<Result> results = asList(
+                createResult(ScoreLangConstants.SUCCESS_RESULT, ValueFactory.create("${ returnCode == '0' }")),
+                createResult(ScoreLangConstants.FAILURE_RESULT, ValueFactory.create("${ \"0\" != returnCode }")));
+        HashMap<String, Value> context = new HashMap<>();
+        context.put("returnCode", ValueFactory.create("-1"));
+
+        String result = resultsBinding.resolveResult(new HashMap<String, Value>(), context, EMPTY_SET, results, null);
+
+        Assert.assertEquals(ScoreLangConstants.FAILURE_RESULT, result);
+        verify(scriptEvaluator, never()).evalExpr(anyString(), anyMap(), anySet(), anySet());
+    }
+
+    @Test
+    public void testBooleanLiteralIsResolvedWithoutPython() throws Exception {
+        reset(scriptEvaluator);
+        List<Result> results = asList(createResult(ScoreLangConstants.SUCCESS_RESULT, ValueFactory.create("${False}")),
+                createResult(ScoreLangConstants.FAILURE_RESULT, ValueFactory.create("${ 1 }")));
+
+        String result = resultsBinding
+                .resolveResult(new HashMap<String, Value>(), new HashMap<String, Value>(), EMPTY_SET, results, null);
+
+        Assert.assertEquals(ScoreLangConstants.FAILURE_RESULT, result);
+        verify(scriptEvaluator, never()).evalExpr(anyString(), anyMap(), anySet(), anySet());
+    }
+
+    @Test
+    public void testStringComparisonWithNonStringValueUsesPython() throws Exception {
+        reset(scriptEvaluator);
+        List<Result> results = asList(
+                createResult(ScoreLangConstants.SUCCESS_RESULT, ValueFactory.create("${ returnCode == '0' }")),
+                createResult(ScoreLangConstants.FAILURE_RESULT, ValueFactory.create("${ True }")));
+        HashMap<String, Value> context = new HashMap<>();
+        context.put("returnCode", ValueFactory.create(0));
+
+        String result = resultsBinding.resolveResult(new HashMap<String, Value>(), context, EMPTY_SET, results, null);
+
+        Assert.assertEquals(ScoreLangConstants.FAILURE_RESULT, result);
+        verify(scriptEvaluator).evalExpr(anyString(), anyMap(), anySet(), anySet());
+    }
+
     private Result createResult(String name, Value expression) {
         return new Result(name, expression);
     }
@@ -212,7 +265,7 @@ public class ResultBindingTest {
 
         @Bean
         public ScriptEvaluator scriptEvaluator() {
-            return new ScriptEvaluator();
+            return spy(new ScriptEvaluator());
         }
 
         @Bean
@@ -15,6 +15,8 @@ import io.cloudslang.dependency.impl.services.DependencyServiceImpl;
 import io.cloudslang.dependency.impl.services.MavenConfigImpl;
 import io.cloudslang.lang.entities.SystemProperty;
 import io.cloudslang.lang.entities.bindings.ScriptFunction;
+import io.cloudslang.lang.entities.bindings.values.PyObjectValue;
+import io.cloudslang.lang.entities.bindings.values.SimpleValue;
 import io.cloudslang.lang.entities.bindings.values.Value;
 import io.cloudslang.lang.entities.bindings.values.ValueFactory;
 import io.cloudslang.lang.runtime.services.ScriptsService;
@@ -32,6 +34,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.python.core.PyDictionary;
+import org.python.core.PyObject;
 import org.python.util.PythonInterpreter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -157,6 +160,36 @@ public class ScriptEvaluatorTest {
                 BACKWARD_COMPATIBLE_ACCESS_METHOD));
     }
 
+    @Test
+    public void testBindingPassReusesContextWrappers() throws Exception {
+        Map<String, Value> context = new HashMap<>();
+        context.put("input1", ValueFactory.create("value1"));
+        // a sensitive value which does not need an encryptor
+        context.put("secret", new SimpleValue("value2") {
+            @Override
+            public boolean isSensitive() {
+                return true;
+            }
+        });
+
+        Map<String, Serializable> secondContext;
+        try (ScriptProcessor.BindingPass ignored = scriptEvaluator.startBindingPass()) {
+            Map<String, Serializable> firstContext = scriptEvaluator.createJythonContext(context);
+            ((PyObject) firstContext.get("secret")).__str__();
+            Assert.assertTrue(((PyObjectValue) firstContext.get("secret")).isAccessed());
+
+            context.put("input1", ValueFactory.create("value3"));
+            secondContext = scriptEvaluator.createJythonContext(context);
+
+            Assert.assertSame(firstContext.get("secret"), secondContext.get("secret"));
+            Assert.assertFalse(((PyObjectValue) secondContext.get("secret")).isAccessed());
+            Assert.assertNotSame(firstContext.get("input1"), secondContext.get("input1"));
+            Assert.assertEquals("value3", ((PyObjectValue) secondContext.get("input1")).get());
+        }
+
+        Assert.assertNotSame(secondContext.get("secret"), scriptEvaluator.createJythonContext(context).get("secret"));
+    }
+
     @Configuration
     static class Config {
         @Bean
@@ -43,7 +43,9 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import javax.annotation.Resource;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -151,6 +153,25 @@ public class ScriptExecutorTest {
         Assert.assertTrue(expectedArgs.size() == actualArgs.size() && actualArgs.containsAll(expectedArgs));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExternalPythonWithCompiledScriptParams() {
+        Map<String, Value> scriptInputValues = new HashMap<>();
+        scriptInputValues.put("input1", ValueFactory.create("value1"));
+        scriptInputValues.put("input2", ValueFactory.create("value2"));
+        // the script is not scanned for its signature when the parameters are known
+        String script = "print('no execute method')";
+        ArgumentCaptor<Map> callArgCaptor = ArgumentCaptor.forClass(Map.class);
+        when(externalPyhonRuntimeService.exec(any(), eq(script), callArgCaptor.capture()))
+                .thenReturn(new PythonExecutionResult(new HashMap<>()));
+
+        scriptExecutor.executeScript(Collections.emptySet(), script, new LinkedHashSet<>(Arrays.asList("input2",
+                "input3")), scriptInputValues, false);
+
+        Map<String, Serializable> captured = callArgCaptor.getValue();
+        Assert.assertEquals(Collections.singleton("input2"), captured.keySet());
+    }
+
     @Configuration
     static class Config {
         @Bean
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.events;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.cloudslang.lang.entities.ScoreLangConstants;
+import io.cloudslang.lang.runtime.events.ExecutionProfiler.ProfiledNode;
+import io.cloudslang.score.events.ScoreEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import static io.cloudslang.lang.runtime.events.LanguageEventData.StepType.ACTION;
+import static io.cloudslang.lang.runtime.events.LanguageEventData.StepType.FLOW;
+import static io.cloudslang.lang.runtime.events.LanguageEventData.StepType.OPERATION;
+import static io.cloudslang.lang.runtime.events.LanguageEventData.StepType.STEP;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ExecutionProfilerTest {
+
+    private static final long EXECUTION_ID = 7L;
+    private static final long START = 1_000_000L;
+
+    private final ExecutionProfiler profiler = new ExecutionProfiler();
+
+    @Before
+    public void setUp() {
+        // a flow with a step running an operation and a parallel loop step with two branches, with the paths the
+        // runtime fires the events at: the path goes down once the inputs of a flow or an operation are bound
+        event("0", ScoreLangConstants.EVENT_INPUT_START, FLOW, "flow", 0);
+        event("0", ScoreLangConstants.EVENT_INPUT_END, FLOW, "flow", 2);
+
+        event("0.0", ScoreLangConstants.EVENT_STEP_START, STEP, "step1", 5);
+        event("0.0", ScoreLangConstants.EVENT_ARGUMENT_START, STEP, "step1", 5);
+        event("0.0", ScoreLangConstants.EVENT_ARGUMENT_END, STEP, "step1", 7);
+        event("0.0", ScoreLangConstants.EVENT_INPUT_START, OPERATION, "op1", 8);
+        event("0.0", ScoreLangConstants.EVENT_INPUT_END, OPERATION, "op1", 9);
+        event("0.0.0", ScoreLangConstants.EVENT_ACTION_START, ACTION, null, 10);
+        event("0.0.0", ScoreLangConstants.EVENT_ACTION_END, ACTION, null, 40);
+        event("0.0", ScoreLangConstants.EVENT_OUTPUT_START, OPERATION, "op1", 41);
+        event("0.0", ScoreLangConstants.EVENT_OUTPUT_END, OPERATION, "op1", 42);
+        event("0.0", ScoreLangConstants.EVENT_OUTPUT_START, STEP, "step1", 43);
+        event("0.0", ScoreLangConstants.EVENT_OUTPUT_END, STEP, "step1", 45);
+
+        event("0.1", ScoreLangConstants.EVENT_STEP_START, STEP, "loop", 50);
+        event("0.1", ScoreLangConstants.EVENT_SPLIT_BRANCHES, STEP, "loop", 51);
+        event("0.1.0", ScoreLangConstants.EVENT_BRANCH_START, STEP, "loop", 52);
+        event("0.1.1", ScoreLangConstants.EVENT_BRANCH_START, STEP, "loop", 53);
+        event("0.1.0.0", ScoreLangConstants.EVENT_STEP_START, STEP, "loop", 54);
+        event("0.1.1.0", ScoreLangConstants.EVENT_STEP_START, STEP, "loop", 55);
+        event("0.1.0.0", ScoreLangConstants.EVENT_OUTPUT_END, STEP, "loop", 60);
+        event("0.1.1.0", ScoreLangConstants.EVENT_OUTPUT_END, STEP, "loop", 70);
+        event("0.1.0", ScoreLangConstants.EVENT_BRANCH_END, STEP, "loop", 72);
+        event("0.1.1", ScoreLangConstants.EVENT_BRANCH_END, STEP, "loop", 73);
+        event("0.1", ScoreLangConstants.EVENT_JOIN_BRANCHES_START, STEP, "loop", 74);
+        event("0.1", ScoreLangConstants.EVENT_JOIN_BRANCHES_END, STEP, "loop", 76);
+
+        event("0", ScoreLangConstants.EVENT_OUTPUT_START, FLOW, "flow", 80);
+        event("0", ScoreLangConstants.EVENT_OUTPUT_END, FLOW, "flow", 82);
+        event("0", ScoreLangConstants.EVENT_EXECUTION_FINISHED, FLOW, "flow", 83);
+    }
+
+    @Test
+    public void testProfile() {
+        ProfiledNode flow = profiler.getProfile(EXECUTION_ID);
+
+        assertEquals("flow", flow.getLabel());
+        assertEquals(83, flow.getTotalMillis());
+        assertEquals(4, flow.getBindingMillis());
+        assertEquals(8, flow.getSelfMillis());
+        assertEquals(2, flow.getChildren().size());
+
+        ProfiledNode step = flow.getChildren().get(0);
+        assertEquals("step1", step.getStepName());
+        assertEquals("op1", step.getExecutableName());
+        assertEquals(40, step.getTotalMillis());
+        assertEquals(6, step.getBindingMillis());
+        assertEquals(30, step.getActionMillis());
+        assertEquals(5, step.getNavigationMillis());
+        assertEquals(4, step.getSelfMillis());
+
+        ProfiledNode loop = flow.getChildren().get(1);
+        assertEquals(2, loop.getBindingMillis());
+        assertEquals(0, loop.getNavigationMillis());
+        assertEquals(Arrays.asList("[branch 0]", "[branch 1]"),
+                Arrays.asList(loop.getChildren().get(0).getLabel(), loop.getChildren().get(1).getLabel()));
+        assertTrue(loop.getChildren().get(0).isBranch());
+        assertEquals(15, loop.getChildren().get(1).getChildren().get(0).getTotalMillis());
+    }
+
+    @Test
+    public void testCollapsedStacks() {
+        List<String> stacks = Arrays.asList(profiler.toCollapsedStacks(EXECUTION_ID).split("\n"));
+
+        assertEquals(Arrays.asList(
+                "flow 8",
+                "flow;[binding] 4",
+                "flow;step1 4",
+                "flow;step1;[binding] 6",
+                "flow;step1;[action] 30",
+                "flow;step1;[navigation] 5",
+                "flow;loop;[binding] 2",
+                "flow;loop;[branch 0] 14",
+                "flow;loop;[branch 0];loop 6",
+                "flow;loop;[branch 1] 5",
+                "flow;loop;[branch 1];loop 15"), stacks);
+        assertEquals("", profiler.toCollapsedStacks(EXECUTION_ID + 1));
+    }
+
+    @Test
+    public void testJson() throws IOException {
+        JsonNode json = new ObjectMapper().readTree(profiler.toJson(EXECUTION_ID));
+
+        assertEquals(EXECUTION_ID, json.get("executionId").asLong());
+        JsonNode step = json.get("profile").get("children").get(0);
+        assertEquals("0.0", step.get("path").asText());
+        assertEquals("op1", step.get("executableName").asText());
+        assertEquals(30, step.get("actionMillis").asLong());
+        assertEquals(2, json.get("profile").get("children").get(1).get("children").size());
+        assertNull(profiler.toJson(EXECUTION_ID + 1));
+    }
+
+    @Test
+    public void testActionOfTopLevelOperationIsChargedToTheOperation() {
+        ExecutionProfiler operationProfiler = new ExecutionProfiler();
+        event(operationProfiler, EXECUTION_ID, "0", ScoreLangConstants.EVENT_INPUT_START, OPERATION, "op", 0);
+        event(operationProfiler, EXECUTION_ID, "0", ScoreLangConstants.EVENT_INPUT_END, OPERATION, "op", 1);
+        event(operationProfiler, EXECUTION_ID, "0.0", ScoreLangConstants.EVENT_ACTION_START, ACTION, null, 2);
+        event(operationProfiler, EXECUTION_ID, "0.0", ScoreLangConstants.EVENT_ACTION_END, ACTION, null, 12);
+        event(operationProfiler, EXECUTION_ID, "0", ScoreLangConstants.EVENT_OUTPUT_START, OPERATION, "op", 13);
+        event(operationProfiler, EXECUTION_ID, "0", ScoreLangConstants.EVENT_OUTPUT_END, OPERATION, "op", 14);
+
+        ProfiledNode operation = operationProfiler.getProfile(EXECUTION_ID);
+
+        assertEquals("op", operation.getLabel());
+        assertEquals(10, operation.getActionMillis());
+        assertTrue(operation.getChildren().isEmpty());
+    }
+
+    @Test
+    public void testProfileIsNotChangedByLaterEvents() {
+        ProfiledNode flow = profiler.getProfile(EXECUTION_ID);
+        event("0.2", ScoreLangConstants.EVENT_STEP_START, STEP, "step3", 90);
+        event("0", ScoreLangConstants.EVENT_EXECUTION_FINISHED, FLOW, "flow", 95);
+
+        assertEquals(83, flow.getTotalMillis());
+        assertEquals(2, flow.getChildren().size());
+        assertEquals(5, flow.getChildren().get(0).getNavigationMillis());
+        assertEquals(3, profiler.getProfile(EXECUTION_ID).getChildren().size());
+        assertEquals(95, profiler.getProfile(EXECUTION_ID).getTotalMillis());
+    }
+
+    @Test
+    public void testLeastRecentlyProfiledExecutionsAreDropped() {
+        ExecutionProfiler boundedProfiler = new ExecutionProfiler(2);
+        for (long executionId = 1; executionId <= 3; executionId++) {
+            event(boundedProfiler, executionId, "0", ScoreLangConstants.EVENT_INPUT_START, FLOW, "flow", executionId);
+        }
+
+        assertEquals(new HashSet<>(Arrays.asList(2L, 3L)), boundedProfiler.getExecutionIds());
+    }
+
+    @Test
+    public void testRemoveExecution() {
+        assertEquals(new HashSet<>(Collections.singletonList(EXECUTION_ID)), profiler.getExecutionIds());
+
+        profiler.removeExecution(EXECUTION_ID);
+
+        assertTrue(profiler.getExecutionIds().isEmpty());
+        assertNull(profiler.getProfile(EXECUTION_ID));
+    }
+
+    private void event(String path, String type, LanguageEventData.StepType stepType, String stepName, long millis) {
+        event(profiler, EXECUTION_ID, path, type, stepType, stepName, millis);
+    }
+
+    private void event(ExecutionProfiler profiler, long executionId, String path, String type,
+                       LanguageEventData.StepType stepType, String stepName, long millis) {
+        LanguageEventData eventData = new LanguageEventData();
+        eventData.setExecutionId(executionId);
+        eventData.setPath(path);
+        eventData.setEventType(type);
+        eventData.setStepType(stepType);
+        eventData.setStepName(stepName);
+        eventData.setTimeStamp(new Date(START + millis));
+        profiler.onEvent(new ScoreEvent(type, eventData));
+    }
+
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.metrics;
+
+import io.cloudslang.lang.runtime.metrics.InMemoryRuntimeMetrics.Histogram;
+import io.cloudslang.lang.runtime.metrics.RuntimeMetricsProvider.NodeTimer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class InMemoryRuntimeMetricsTest {
+
+    private final InMemoryRuntimeMetrics metrics = new InMemoryRuntimeMetrics();
+
+    @After
+    public void tearDown() {
+        RuntimeMetricsProvider.set(null);
+    }
+
+    @Test
+    public void testHistogramBuckets() {
+        metrics.record(RuntimeTimer.BINDING, "step", TimeUnit.MICROSECONDS.toNanos(5));
+        metrics.record(RuntimeTimer.BINDING, "step", TimeUnit.MICROSECONDS.toNanos(10));
+        metrics.record(RuntimeTimer.BINDING, "step", TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.record(RuntimeTimer.BINDING, "step", TimeUnit.SECONDS.toNanos(20));
+
+        Histogram histogram = metrics.getHistogram(RuntimeTimer.BINDING, "step");
+        assertEquals(4, histogram.getCount());
+        assertEquals(TimeUnit.SECONDS.toNanos(20), histogram.getMaxNanos());
+        assertEquals(20_002_015_000L, histogram.getTotalNanos());
+        assertArrayEquals(new long[]{2, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 1}, histogram.getBucketCounts());
+        assertNull(metrics.getHistogram(RuntimeTimer.BINDING, "other_step"));
+        assertNull(metrics.getHistogram(RuntimeTimer.ACTION, "step"));
+
+        metrics.reset();
+        assertNull(metrics.getHistogram(RuntimeTimer.BINDING, "step"));
+    }
+
+    @Test
+    public void testPrometheusText() {
+        metrics.record(RuntimeTimer.ACTION, "say \"hi\"", TimeUnit.MILLISECONDS.toNanos(3));
+        metrics.record(RuntimeTimer.EVENT, null, TimeUnit.MICROSECONDS.toNanos(20));
+
+        String text = metrics.getPrometheusText();
+        String actionLabels = "timer=\"action\",node=\"say \\\"hi\\\"\"";
+
+        assertTrue(text.startsWith("# HELP cslang_runtime_duration_seconds "));
+        assertTrue(text.contains("# TYPE cslang_runtime_duration_seconds histogram\n"));
+        assertTrue(text.contains("cslang_runtime_duration_seconds_bucket{" + actionLabels + ",le=\"0.001\"} 0\n"));
+        assertTrue(text.contains("cslang_runtime_duration_seconds_bucket{" + actionLabels + ",le=\"0.005\"} 1\n"));
+        assertTrue(text.contains("cslang_runtime_duration_seconds_sum{" + actionLabels + "} 0.003\n"));
+        assertTrue(text.contains("cslang_runtime_duration_seconds_count{" + actionLabels + "} 1\n"));
+        String eventLabels = "timer=\"event\",node=\"\"";
+        assertTrue(text.contains("cslang_runtime_duration_seconds_bucket{" + eventLabels + ",le=\"0.00001\"} 0\n"));
+        assertTrue(text.contains("cslang_runtime_duration_seconds_bucket{" + eventLabels + ",le=\"+Inf\"} 1\n"));
+        assertEquals(2, metrics.getSummary().length);
+    }
+
+    @Test
+    public void testTimingsAreRecordedForTheCurrentNode() {
+        RuntimeMetricsProvider.set(metrics);
+
+        try (NodeTimer ignored = RuntimeMetricsProvider.startNodeTimer(RuntimeTimer.BEGIN_STEP, "step")) {
+            RuntimeMetricsProvider.stopTimer(RuntimeTimer.BINDING, RuntimeMetricsProvider.startTimer());
+        }
+        RuntimeMetricsProvider.stopTimer(RuntimeTimer.EVENT, RuntimeMetricsProvider.startTimer());
+
+        assertEquals(1, metrics.getHistogram(RuntimeTimer.BEGIN_STEP, "step").getCount());
+        assertEquals(1, metrics.getHistogram(RuntimeTimer.BINDING, "step").getCount());
+        assertNotNull(metrics.getHistogram(RuntimeTimer.EVENT, null));
+    }
+
+    @Test
+    public void testNothingIsRecordedWhenDisabled() {
+        long start = RuntimeMetricsProvider.startTimer();
+        RuntimeMetricsProvider.set(metrics);
+        RuntimeMetricsProvider.stopTimer(RuntimeTimer.ACTION, start, "step");
+
+        assertEquals(0L, start);
+        assertNull(metrics.getHistogram(RuntimeTimer.ACTION, "step"));
+    }
+
+}
@@ -41,6 +41,7 @@ import io.cloudslang.score.events.EventBus;
 import io.cloudslang.score.events.EventBusImpl;
 import io.cloudslang.score.events.ScoreEvent;
 import io.cloudslang.score.lang.ExecutionRuntimeServices;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -134,8 +135,10 @@ public class ActionStepsTest {
                 null,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
 
@@ -176,8 +179,10 @@ public class ActionStepsTest {
                 null,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
 
@@ -204,8 +209,10 @@ public class ActionStepsTest {
                 null,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
 
@@ -250,8 +257,10 @@ public class ActionStepsTest {
                 userPythonScript,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
 
@@ -299,8 +308,10 @@ public class ActionStepsTest {
                 null,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
 
@@ -344,8 +355,10 @@ public class ActionStepsTest {
                 null,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
 
@@ -386,8 +399,10 @@ public class ActionStepsTest {
                     null,
                     true,
                     DEPENDENCIES_DEFAULT,
+                    null,
                     seqSteps,
                     null,
+                    null,
                     null
             );
         } catch (RuntimeException ex) {
@@ -430,7 +445,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -471,7 +486,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -508,7 +523,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
     }
@@ -533,7 +548,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
         ReturnValues returnValues = runEnv.removeReturnValues();
@@ -561,7 +576,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -597,7 +612,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -635,7 +650,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -674,7 +689,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -706,7 +721,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -739,7 +754,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -770,7 +785,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -798,7 +813,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -841,7 +856,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 userPythonScript,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -891,7 +906,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 userPythonScript,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
 
@@ -934,7 +949,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 userPythonScript,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
     }
@@ -962,7 +977,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 userPythonScript,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
     }
@@ -991,7 +1006,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 userPythonScript,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
     }
@@ -1018,8 +1033,10 @@ public class ActionStepsTest {
                 "",
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
     }
@@ -1045,7 +1062,7 @@ public class ActionStepsTest {
                 GAV_DEFAULT,
                 null,
                 true,
-                DEPENDENCIES_DEFAULT, seqSteps, null,
+                DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                 null
         );
     }
@@ -1070,7 +1087,7 @@ public class ActionStepsTest {
                         GAV_DEFAULT,
                         userPythonScript,
                         true,
-                        DEPENDENCIES_DEFAULT, seqSteps, null,
+                        DEPENDENCIES_DEFAULT, null, seqSteps, null, null,
                         null
                 ));
         Assert.assertTrue(exception.getMessage().contains(NON_SERIALIZABLE_VARIABLE_NAME));
@@ -1097,8 +1114,10 @@ public class ActionStepsTest {
                 null,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
 
@@ -1108,6 +1127,45 @@ public class ActionStepsTest {
                 eq(null));
     }
 
+    @Test
+    public void doActionSeqTypeWithCompiledParameters() {
+        RunEnvironment runEnv = new RunEnvironment();
+        Map<String, Value> initialCallArguments = new HashMap<>();
+        initialCallArguments.put("name", ValueFactory.create("nameTest"));
+        initialCallArguments.put("role", ValueFactory.create("roleTest"));
+        runEnv.putCallArguments(initialCallArguments);
+
+        actionSteps.doAction(
+                executionRuntimeServicesMock,
+                runEnv,
+                nonSerializableExecutionData,
+                2L,
+                SEQUENTIAL,
+                ContentTestActions.class.getName(),
+                "doSeqSampleAction",
+                GAV_DEFAULT,
+                null,
+                true,
+                DEPENDENCIES_DEFAULT,
+                null,
+                seqSteps,
+                null,
+                Collections.singletonList("name"),
+                null
+        );
+
+        ArgumentCaptor<CloudSlangSequentialExecutionParametersProviderImpl> providerCaptor =
+                ArgumentCaptor.forClass(CloudSlangSequentialExecutionParametersProviderImpl.class);
+        verify(seqExecutionService).execute(eq(GAV_DEFAULT), providerCaptor.capture(), eq(null));
+
+        Map<String, Pair<Serializable, Boolean>> executionParameters =
+                providerCaptor.getValue().getExecutionParameters();
+        assertEquals(2, executionParameters.size());
+        assertTrue(executionParameters.get("name").getRight());
+        assertFalse(executionParameters.get("role").getRight());
+        assertEquals(ValueFactory.create("roleTest"), executionParameters.get("role").getLeft());
+    }
+
     @Test
     public void doActionExternalTrue() {
         RunEnvironment runEnv = new RunEnvironment();
@@ -1123,8 +1181,10 @@ public class ActionStepsTest {
                 null,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 true,
+                null,
                 null
         );
 
@@ -1157,8 +1217,10 @@ public class ActionStepsTest {
                 null,
                 true,
                 DEPENDENCIES_DEFAULT,
+                null,
                 seqSteps,
                 null,
+                null,
                 null
         );
 
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * (c) Copyright 2016 Hewlett-Packard Development Company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *******************************************************************************/
+package io.cloudslang.lang.runtime.steps;
+
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
+import com.hp.oo.sdk.content.plugin.SessionObject;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.cloudslang.score.api.execution.ExecutionParametersConsts.GLOBAL_SESSION_OBJECT;
+import static io.cloudslang.score.api.execution.ExecutionParametersConsts.SESSION_OBJECT;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class CloudSlangJavaExecutionParameterProviderTest {
+
+    @Test
+    public void testContextValuesAndSessionObjects() throws Exception {
+        final Method method = getClass().getMethod("sessionAction", String.class, GlobalSessionObject.class,
+                SessionObject.class, SerializableSessionObject.class);
+        Map<String, Serializable> context = new HashMap<>();
+        context.put("host", "localhost");
+        Map<String, SerializableSessionObject> serializableSessionData = new HashMap<>();
+        Map<String, Map<String, Object>> nonSerializableExecutionData = new HashMap<>();
+        nonSerializableExecutionData.put(GLOBAL_SESSION_OBJECT, new HashMap<>());
+        nonSerializableExecutionData.put(SESSION_OBJECT, new HashMap<>());
+
+        Object[] args = new CloudSlangJavaExecutionParameterProvider(serializableSessionData, context,
+                nonSerializableExecutionData, "step", 2).getExecutionParameters(method);
+
+        assertEquals("localhost", args[0]);
+        assertSame(nonSerializableExecutionData.get(GLOBAL_SESSION_OBJECT).get("global"), args[1]);
+        assertSame(nonSerializableExecutionData.get(SESSION_OBJECT).get("session_1"), args[2]);
+        assertSame(serializableSessionData.get("serializable"), args[3]);
+        assertTrue(args[3] instanceof SerializableSessionObject);
+
+        // the second execution reuses the cached parameters and the existing session objects
+        context.put("host", "remote");
+        Object[] secondArgs = new CloudSlangJavaExecutionParameterProvider(serializableSessionData, context,
+                nonSerializableExecutionData, "step", 2).getExecutionParameters(method);
+        assertArrayEquals(new Object[]{"remote", args[1], args[2], args[3]}, secondArgs);
+    }
+
+    @Test
+    public void testParameterTypeMismatch() throws Exception {
+        Method method = getClass().getMethod("typedAction", Integer.class);
+        Map<String, Serializable> context = new HashMap<>();
+        context.put("port", "not a number");
+        CloudSlangJavaExecutionParameterProvider provider = new CloudSlangJavaExecutionParameterProvider(
+                new HashMap<>(), context, new HashMap<>(), "step", 1);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                provider.getExecutionParameters(method));
+        assertEquals("Parameter type mismatch for action typedAction of class " + getClass().getName() +
+                ". Parameter port expects type java.lang.Integer. Actual type is java.lang.String",
+                exception.getMessage());
+    }
+
+    @Test
+    public void testParameterWithoutParamAnnotation() throws Exception {
+        Method method = getClass().getMethod("notAnnotatedAction", String.class, String.class);
+        CloudSlangJavaExecutionParameterProvider provider = new CloudSlangJavaExecutionParameterProvider(
+                new HashMap<>(), new HashMap<>(), new HashMap<>(), "step", 1);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () ->
+                provider.getExecutionParameters(method));
+        assertEquals("All action arguments should be annotated with @Param", exception.getMessage());
+    }
+
+    public Map<String, String> sessionAction(@Param("host") String host,
+                                             @Param("global") GlobalSessionObject<String> global,
+                                             @Param("session") SessionObject session,
+                                             @Param("serializable") SerializableSessionObject serializable) {
+        return new HashMap<>();
+    }
+
+    public Map<String, String> typedAction(@Param("port") Integer port) {
+        return new HashMap<>();
+    }
+
+    public Map<String, String> notAnnotatedAction(@Param("host") String host, String port) {
+        return new HashMap<>();
+    }
+
+}